@@ -0,0 +1,221 @@
+package es.sujes71.benchmark;
+
+import es.sujes71.CommerceApplication;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+/**
+ * Compares the platform-thread, virtual-thread and reactive execution modes under
+ * {@code concurrency} closed-loop clients. A fixed delay on every connection checkout stands in for
+ * the round trip to a remote database.
+ *
+ * <pre>
+ * mvn -pl benchmarks -am package -DskipTests
+ * java -Dbenchmark.concurrency=1000 -Dbenchmark.requests=50000 -Dbenchmark.db-latency-ms=5 \
+ *     -cp benchmarks/target/benchmarks.jar es.sujes71.benchmark.ExecutionModeBenchmark
+ * </pre>
+ */
+public class ExecutionModeBenchmark {
+
+  private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 1000);
+  private static final int REQUESTS = Integer.getInteger("benchmark.requests", 50_000);
+  private static final int WARMUP_REQUESTS = Integer.getInteger("benchmark.warmup-requests", 5_000);
+  private static final long DB_LATENCY_MS = Long.getLong("benchmark.db-latency-ms", 5);
+  private static final int POOL_SIZE = Integer.getInteger("benchmark.pool-size", 64);
+
+  public static void main(String[] args) throws Exception {
+    Result platform = run("platform");
+    Result virtual = run("virtual");
+    Result reactive = run("reactive");
+
+    System.out.println();
+    System.out.printf("concurrency=%d requests=%d db-latency=%dms pool-size=%d%n",
+        CONCURRENCY, REQUESTS, DB_LATENCY_MS, POOL_SIZE);
+    System.out.println(platform);
+    System.out.println(virtual);
+    System.out.println(reactive);
+  }
+
+  private static Result run(String mode) throws Exception {
+    try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+        CommerceApplication.class, SimulatedLatencyConfiguration.class)
+        .profiles("reactive".equals(mode) ? new String[] {"reactive"} : new String[0])
+        .properties(
+            "server.port=0",
+            "commerce.execution.mode=" + ("reactive".equals(mode) ? "platform" : mode),
+            "spring.r2dbc.pool.max-size=" + POOL_SIZE,
+            "spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+            "commerce.execution.jdbc.acquire-timeout-ms=30000",
+            "logging.level.root=WARN",
+            "logging.level.org.springframework.jdbc=WARN")
+        .run()) {
+      int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+      URI uri = URI.create("http://localhost:" + port
+          + "/commerce/prices?brandId=1&productId=35455&applicationDate=2020-06-14T16:00:00");
+
+      drive(uri, WARMUP_REQUESTS);
+      ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+      threads.resetPeakThreadCount();
+      Run run = drive(uri, REQUESTS);
+      return Result.of(mode, run, threads.getPeakThreadCount());
+    }
+  }
+
+  private static Run drive(URI uri, int requests) throws InterruptedException {
+    long[] latencies = new long[requests];
+    AtomicInteger next = new AtomicInteger();
+    AtomicInteger errors = new AtomicInteger();
+    CountDownLatch done = new CountDownLatch(CONCURRENCY);
+    HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+
+    try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+        HttpClient client = HttpClient.newBuilder()
+            .executor(clients)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build()) {
+      long startedAt = System.nanoTime();
+      for (int i = 0; i < CONCURRENCY; i++) {
+        clients.submit(() -> {
+          try {
+            for (int index = next.getAndIncrement(); index < requests; index = next.getAndIncrement()) {
+              long sentAt = System.nanoTime();
+              try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() != 200) {
+                  errors.incrementAndGet();
+                }
+              } catch (Exception error) {
+                errors.incrementAndGet();
+              }
+              latencies[index] = System.nanoTime() - sentAt;
+            }
+          } finally {
+            done.countDown();
+          }
+        });
+      }
+      done.await();
+      return new Run(latencies, System.nanoTime() - startedAt, errors.get());
+    }
+  }
+
+  private record Run(long[] latencies, long elapsedNanos, int errors) {
+  }
+
+  private record Result(String mode, double throughput, double p50Millis, double p99Millis,
+      double maxMillis, int errors, int peakThreads) {
+
+    static Result of(String mode, Run run, int peakThreads) {
+      long[] sorted = run.latencies().clone();
+      Arrays.sort(sorted);
+      return new Result(
+          mode,
+          sorted.length / (run.elapsedNanos() / 1e9),
+          percentile(sorted, 0.50),
+          percentile(sorted, 0.99),
+          sorted[sorted.length - 1] / 1e6,
+          run.errors(),
+          peakThreads);
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+      int index = (int) Math.ceil(percentile * sorted.length) - 1;
+      return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("%-8s throughput=%10.1f req/s  p50=%8.2f ms  p99=%8.2f ms  max=%8.2f ms  errors=%d  peak-threads=%d",
+          mode, throughput, p50Millis, p99Millis, maxMillis, errors, peakThreads);
+    }
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  public static class SimulatedLatencyConfiguration {
+
+    @Bean
+    static BeanPostProcessor simulatedLatencyDataSourcePostProcessor() {
+      return new BeanPostProcessor() {
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+          if (bean instanceof DataSource dataSource && !(bean instanceof SimulatedLatencyDataSource)) {
+            return new SimulatedLatencyDataSource(dataSource);
+          }
+          if (bean instanceof ConnectionFactory connectionFactory
+              && !(bean instanceof SimulatedLatencyConnectionFactory)) {
+            return new SimulatedLatencyConnectionFactory(connectionFactory);
+          }
+          return bean;
+        }
+      };
+    }
+  }
+
+  static class SimulatedLatencyDataSource extends DelegatingDataSource {
+
+    SimulatedLatencyDataSource(DataSource targetDataSource) {
+      super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+      Connection connection = super.getConnection();
+      try {
+        Thread.sleep(DB_LATENCY_MS);
+      } catch (InterruptedException error) {
+        Thread.currentThread().interrupt();
+      }
+      return connection;
+    }
+  }
+
+  static class SimulatedLatencyConnectionFactory implements ConnectionFactory {
+
+    private final ConnectionFactory delegate;
+
+    SimulatedLatencyConnectionFactory(ConnectionFactory delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public Publisher<? extends io.r2dbc.spi.Connection> create() {
+      return Mono.delay(Duration.ofMillis(DB_LATENCY_MS)).then(Mono.from(delegate.create()));
+    }
+
+    @Override
+    public ConnectionFactoryMetadata getMetadata() {
+      return delegate.getMetadata();
+    }
+
+    public void close() {
+      if (delegate instanceof Disposable disposable) {
+        disposable.dispose();
+      }
+    }
+  }
+}
@@ -0,0 +1,70 @@
+package es.sujes71.benchmark;
+
+import es.sujes71.api.price.domain.model.PriceFilter;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Copy of the original validate-then-adapt request parsing, kept as the baseline for
+ * {@link RequestParsingBenchmark}.
+ */
+final class LegacyRequestParsing {
+
+  private LegacyRequestParsing() {
+  }
+
+  static void validate(String brandId, String productId, String applicationDate) {
+    if (brandId == null || brandId.trim().isEmpty()) {
+      throw new IllegalArgumentException("brandId is required");
+    }
+
+    try {
+      int parsedBrandId = Integer.parseInt(brandId.trim());
+      if (parsedBrandId <= 0) {
+        throw new IllegalArgumentException("brandId must be a positive integer");
+      }
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("brandId must be a valid integer");
+    }
+
+    if (productId == null || productId.trim().isEmpty()) {
+      throw new IllegalArgumentException("productId is required");
+    }
+
+    try {
+      int parsedProductId = Integer.parseInt(productId.trim());
+      if (parsedProductId <= 0) {
+        throw new IllegalArgumentException("productId must be a positive integer");
+      }
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("productId must be a valid integer");
+    }
+
+    try {
+      int parsedProductId = Integer.parseInt(productId.trim());
+      if (parsedProductId <= 0) {
+        throw new IllegalArgumentException("productId must be a positive integer");
+      }
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("productId must be a valid integer");
+    }
+
+    if (applicationDate == null || applicationDate.trim().isEmpty()) {
+      throw new IllegalArgumentException("applicationDate is required");
+    }
+
+    try {
+      LocalDateTime.parse(applicationDate.trim());
+    } catch (DateTimeParseException e) {
+      throw new IllegalArgumentException("applicationDate must be in ISO format (yyyy-MM-ddTHH:mm:ss)");
+    }
+  }
+
+  static PriceFilter adapt(String brandId, String productId, String applicationDate) {
+    return PriceFilter.builder()
+        .brandId(Integer.parseInt(brandId.trim()))
+        .productId(Integer.parseInt(productId.trim()))
+        .applicationDate(LocalDateTime.parse(applicationDate.trim()))
+        .build();
+  }
+}
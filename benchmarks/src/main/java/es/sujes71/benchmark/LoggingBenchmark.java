@@ -0,0 +1,109 @@
+package es.sujes71.benchmark;
+
+import es.sujes71.CommerceApplication;
+import es.sujes71.api.price.domain.model.Price;
+import es.sujes71.api.price.domain.model.PriceFilter;
+import es.sujes71.api.price.domain.model.PriceSegment;
+import es.sujes71.api.price.domain.ports.inbound.GetPriceSegmentUseCase;
+import es.sujes71.api.price.infrastructure.repository.PriceRepository;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Lookup throughput with the logging setup of the default configuration against the {@code prod}
+ * profile. Console output is discarded, so the difference is formatting, appender locking and
+ * level checks on the request thread, not terminal I/O.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class LoggingBenchmark {
+
+  private static final int FILTERS = 4096;
+
+  @Param({"default", "prod"})
+  private String logging;
+
+  private PrintStream console;
+  private ConfigurableApplicationContext context;
+  private GetPriceSegmentUseCase getPriceSegmentUseCase;
+  private PriceRepository priceRepository;
+  private PriceFilter[] filters;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    console = System.out;
+    System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+
+    SpringApplicationBuilder builder = new SpringApplicationBuilder(CommerceApplication.class)
+        .web(WebApplicationType.NONE)
+        .properties(
+            "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+            "spring.sql.init.schema-locations=classpath:db/migrations/V001__create_prices_table.sql,"
+                + "classpath:db/migrations/V004__replace_priority_index_with_covering_index.sql",
+            "spring.sql.init.data-locations=classpath:db/migrations/V002__insert_initial_values_in_prices.sql");
+    if ("prod".equals(logging)) {
+      builder.profiles("prod");
+    }
+    context = builder.run();
+    SyntheticPrices.insert(context.getBean(JdbcTemplate.class), SyntheticPrices.generate(10, 1000, 4));
+    getPriceSegmentUseCase = context.getBean(GetPriceSegmentUseCase.class);
+    priceRepository = context.getBean(PriceRepository.class);
+
+    SplittableRandom random = new SplittableRandom(7);
+    filters = new PriceFilter[FILTERS];
+    for (int i = 0; i < FILTERS; i++) {
+      filters[i] = PriceFilter.builder()
+          .brandId(SyntheticPrices.FIRST_BRAND + random.nextInt(10))
+          .productId(SyntheticPrices.FIRST_PRODUCT + random.nextInt(1000))
+          .applicationDate(SyntheticPrices.randomDate(random))
+          .build();
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+    System.setOut(console);
+  }
+
+  @State(Scope.Thread)
+  public static class Cursor {
+    private int next;
+  }
+
+  @Benchmark
+  public PriceSegment segmentLookup(Cursor cursor) {
+    return getPriceSegmentUseCase.execute(filters[cursor.next++ & (FILTERS - 1)]);
+  }
+
+  @Benchmark
+  public List<Price> topLookup(Cursor cursor) {
+    return priceRepository.findTopByProperties(filters[cursor.next++ & (FILTERS - 1)]);
+  }
+}
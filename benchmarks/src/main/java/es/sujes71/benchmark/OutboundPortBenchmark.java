@@ -0,0 +1,46 @@
+package es.sujes71.benchmark;
+
+import es.sujes71.shared.domain.model.Message;
+import es.sujes71.shared.domain.ports.outbound.OutboundPort;
+import es.sujes71.shared.domain.ports.outbound.OutboundPort.Channel;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OutboundPortBenchmark {
+
+  private static final String ADDRESS = "benchmarkAddress";
+
+  private final Integer body = 35455;
+  private Channel<Integer, Integer> channel;
+
+  @Setup
+  public void setUp() {
+    OutboundPort.register(ADDRESS, (Integer value) -> value);
+    channel = OutboundPort.channel(ADDRESS);
+  }
+
+  @Benchmark
+  public Integer requestEvent() {
+    return OutboundPort.requestEvent(new Message<>(ADDRESS, body));
+  }
+
+  @Benchmark
+  public Integer channelRequest() {
+    return channel.request(body);
+  }
+}
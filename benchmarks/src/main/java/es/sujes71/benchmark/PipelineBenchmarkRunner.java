@@ -0,0 +1,28 @@
+package es.sujes71.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of {@code benchmarks.jar}. Accepts the usual JMH command line and always attaches the
+ * GC profiler, so every run reports allocation rate ({@code gc.alloc.rate.norm}) next to the timings.
+ */
+public class PipelineBenchmarkRunner {
+
+  public static void main(String[] args) throws Exception {
+    CommandLineOptions commandLine = new CommandLineOptions(args);
+    OptionsBuilder options = new OptionsBuilder();
+    options.parent(commandLine);
+    options.addProfiler(GCProfiler.class);
+    if (commandLine.getResult().hasValue() || commandLine.getResultFormat().hasValue()) {
+      new Runner(options.build()).run();
+      return;
+    }
+    options.resultFormat(ResultFormatType.JSON);
+    options.result("jmh-result.json");
+    new Runner(options.build()).run();
+  }
+}
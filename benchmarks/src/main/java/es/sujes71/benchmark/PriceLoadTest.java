@@ -0,0 +1,368 @@
+package es.sujes71.benchmark;
+
+import es.sujes71.CommerceApplication;
+import es.sujes71.api.price.infrastructure.repository.h2.entity.PriceEntity;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Open-model load test for {@code GET /commerce/prices}: requests are sent at a fixed rate and
+ * response time is measured from when each one was due, so a stalled server shows up as queueing
+ * delay (coordinated omission). Program arguments are handed to the application.
+ *
+ * <pre>
+ * mvn -pl benchmarks -am package -DskipTests
+ * java -Dloadtest.rate=2000 -Dloadtest.duration-s=60 \
+ *     -cp benchmarks/target/benchmarks.jar es.sujes71.benchmark.PriceLoadTest \
+ *     --commerce.price.persistence=memory
+ * </pre>
+ */
+public class PriceLoadTest {
+
+  private static final List<String> SCENARIOS =
+      List.of(System.getProperty("loadtest.scenarios", "zipf,miss,mixed").split(","));
+  private static final int RATE = Integer.getInteger("loadtest.rate", 1000);
+  private static final int DURATION_SECONDS = Integer.getInteger("loadtest.duration-s", 30);
+  private static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmup-s", 10);
+  private static final int BRANDS = Integer.getInteger("loadtest.brands", 10);
+  private static final int PRODUCTS_PER_BRAND = Integer.getInteger("loadtest.products-per-brand", 1000);
+  private static final int PROMOTIONS_PER_PRODUCT = Integer.getInteger("loadtest.promotions-per-product", 4);
+  private static final double ZIPF_EXPONENT =
+      Double.parseDouble(System.getProperty("loadtest.zipf-exponent", "1.1"));
+  private static final double INVALID_RATIO =
+      Double.parseDouble(System.getProperty("loadtest.invalid-ratio", "0.2"));
+  private static final int DISTINCT_REQUESTS = Integer.getInteger("loadtest.distinct-requests", 65_536);
+  private static final long DRAIN_TIMEOUT_SECONDS = Long.getLong("loadtest.drain-timeout-s", 60);
+  private static final Path OUTPUT_DIR = Path.of(System.getProperty("loadtest.output-dir", "target/loadtest"));
+
+  private static final DateTimeFormatter CSV_DATE = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+  public static void main(String[] args) throws Exception {
+    try (ConfigurableApplicationContext context = new SpringApplicationBuilder(CommerceApplication.class)
+        .run(applicationArguments(args));
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        HttpClient client = HttpClient.newBuilder()
+            .executor(executor)
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build()) {
+      String baseUri = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+      importCatalog(client, baseUri);
+      Files.createDirectories(OUTPUT_DIR);
+
+      List<Result> results = new ArrayList<>();
+      for (String name : SCENARIOS) {
+        Scenario scenario = Scenario.valueOf(name.strip().toUpperCase(Locale.ROOT));
+        LoadRequest[] requests = scenario.generate(baseUri, new SplittableRandom(42));
+        run(client, requests, WARMUP_SECONDS);
+        Result result = run(client, requests, DURATION_SECONDS);
+        result.write(OUTPUT_DIR, scenario.name().toLowerCase(Locale.ROOT));
+        results.add(result);
+      }
+
+      System.out.println();
+      System.out.printf("rate=%d req/s duration=%ds warmup=%ds catalog=%dx%dx%d args=%s%n",
+          RATE, DURATION_SECONDS, WARMUP_SECONDS, BRANDS, PRODUCTS_PER_BRAND, PROMOTIONS_PER_PRODUCT,
+          String.join(" ", args));
+      for (int i = 0; i < results.size(); i++) {
+        System.out.println(results.get(i).summary(SCENARIOS.get(i).strip()));
+      }
+      System.out.println("Histograms written to " + OUTPUT_DIR.toAbsolutePath());
+    }
+  }
+
+  /**
+   * Defaults that must beat {@code application.properties}, followed by the caller's arguments so
+   * they can still override them.
+   */
+  private static String[] applicationArguments(String[] args) {
+    List<String> arguments = new ArrayList<>(List.of(
+        "--server.port=0",
+        "--spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+        "--logging.level.root=WARN",
+        "--logging.level.es.sujes71=WARN",
+        "--logging.level.org.springframework.jdbc=WARN",
+        "--logging.level.org.springframework.jdbc.core=WARN",
+        "--logging.level.org.springframework.jdbc.core.JdbcTemplate=WARN"));
+    arguments.addAll(List.of(args));
+    return arguments.toArray(String[]::new);
+  }
+
+  private static void importCatalog(HttpClient client, String baseUri) throws Exception {
+    List<PriceEntity> entities = SyntheticPrices.generate(BRANDS, PRODUCTS_PER_BRAND, PROMOTIONS_PER_PRODUCT);
+    Path csv = Files.createTempFile("loadtest-catalog", ".csv");
+    try {
+      try (BufferedWriter writer = Files.newBufferedWriter(csv)) {
+        writer.write("BRAND_ID,START_DATE,END_DATE,PRICE_LIST,PRODUCT_ID,PRIORITY,PRICE,CURR\n");
+        for (PriceEntity entity : entities) {
+          writer.write(entity.getBrandId() + "," + CSV_DATE.format(entity.getStartDate()) + ","
+              + CSV_DATE.format(entity.getEndDate()) + "," + entity.getPriceList() + ","
+              + entity.getProductId() + "," + entity.getPriority() + "," + entity.getPrice().toPlainString()
+              + "," + entity.getCurrency() + "\n");
+        }
+      }
+      HttpResponse<String> response = client.send(
+          HttpRequest.newBuilder(URI.create(baseUri + "/commerce/prices/import"))
+              .header("Content-Type", "text/csv")
+              .POST(HttpRequest.BodyPublishers.ofFile(csv))
+              .build(),
+          HttpResponse.BodyHandlers.ofString());
+      if (response.statusCode() != 200 || !response.body().contains("\"accepted\":" + entities.size())) {
+        throw new IllegalStateException("Catalog import failed: " + response.body());
+      }
+    } finally {
+      Files.deleteIfExists(csv);
+    }
+  }
+
+  /**
+   * Sends request {@code i} at {@code start + i / rate}, never waiting for earlier responses, and
+   * then waits for the requests still in flight. Those still unanswered when the drain times out
+   * are recorded as taking until then, so the histograms keep their latency as a lower bound
+   * instead of dropping it.
+   */
+  private static Result run(HttpClient client, LoadRequest[] requests, int seconds)
+      throws InterruptedException {
+    Result result = new Result();
+    long durationNanos = TimeUnit.SECONDS.toNanos(seconds);
+    double intervalNanos = 1e9 / RATE;
+    Map<Long, Pending> inFlight = new ConcurrentHashMap<>();
+
+    long start = System.nanoTime();
+    for (long i = 0; ; i++) {
+      long intended = start + (long) (i * intervalNanos);
+      if (intended - start >= durationNanos) {
+        break;
+      }
+      long wait = intended - System.nanoTime();
+      if (wait > 0) {
+        LockSupport.parkNanos(wait);
+      }
+      LoadRequest request = requests[(int) (i % requests.length)];
+      long index = i;
+      long sentAt = System.nanoTime();
+      inFlight.put(index, new Pending(intended, sentAt));
+      client.sendAsync(request.request(), HttpResponse.BodyHandlers.discarding())
+          .whenComplete((response, error) -> {
+            long completedAt = System.nanoTime();
+            if (inFlight.remove(index) != null) {
+              result.record(request, response == null ? -1 : response.statusCode(),
+                  completedAt - intended, completedAt - sentAt, completedAt);
+            }
+          });
+    }
+
+    long drainDeadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(DRAIN_TIMEOUT_SECONDS);
+    while (!inFlight.isEmpty() && System.nanoTime() < drainDeadline) {
+      Thread.sleep(10);
+    }
+    long abandonedAt = System.nanoTime();
+    for (Long index : inFlight.keySet()) {
+      Pending pending = inFlight.remove(index);
+      if (pending != null) {
+        result.abandon(abandonedAt - pending.intended(), abandonedAt - pending.sentAt());
+      }
+    }
+    result.finish(start);
+    return result;
+  }
+
+  private enum Scenario {
+
+    ZIPF {
+      @Override
+      LoadRequest next(String baseUri, SplittableRandom random, ZipfSampler zipf) {
+        int rank = zipf.sample(random);
+        return lookup(baseUri, SyntheticPrices.FIRST_BRAND + rank % BRANDS,
+            SyntheticPrices.FIRST_PRODUCT + rank / BRANDS, random, 200);
+      }
+    },
+
+    MISS {
+      @Override
+      LoadRequest next(String baseUri, SplittableRandom random, ZipfSampler zipf) {
+        return lookup(baseUri, SyntheticPrices.FIRST_BRAND + random.nextInt(BRANDS),
+            SyntheticPrices.FIRST_PRODUCT + PRODUCTS_PER_BRAND + random.nextInt(1_000_000), random, 404);
+      }
+    },
+
+    MIXED {
+      @Override
+      LoadRequest next(String baseUri, SplittableRandom random, ZipfSampler zipf) {
+        int brandId = SyntheticPrices.FIRST_BRAND + random.nextInt(BRANDS);
+        int productId = SyntheticPrices.FIRST_PRODUCT + random.nextInt(PRODUCTS_PER_BRAND);
+        if (random.nextDouble() >= INVALID_RATIO) {
+          return lookup(baseUri, brandId, productId, random, 200);
+        }
+        String date = SyntheticPrices.randomDate(random).toString();
+        String query = switch (random.nextInt(4)) {
+          case 0 -> "productId=" + productId + "&applicationDate=" + date;
+          case 1 -> "brandId=" + brandId + "&productId=abc&applicationDate=" + date;
+          case 2 -> "brandId=-" + brandId + "&productId=" + productId + "&applicationDate=" + date;
+          default -> "brandId=" + brandId + "&productId=" + productId + "&applicationDate=2020-13-01T00:00:00";
+        };
+        return new LoadRequest(request(baseUri + "/commerce/prices?" + query), 400);
+      }
+    };
+
+    abstract LoadRequest next(String baseUri, SplittableRandom random, ZipfSampler zipf);
+
+    LoadRequest[] generate(String baseUri, SplittableRandom random) {
+      ZipfSampler zipf = this == ZIPF ? new ZipfSampler(BRANDS * PRODUCTS_PER_BRAND, ZIPF_EXPONENT) : null;
+      LoadRequest[] requests = new LoadRequest[DISTINCT_REQUESTS];
+      for (int i = 0; i < requests.length; i++) {
+        requests[i] = next(baseUri, random, zipf);
+      }
+      return requests;
+    }
+
+    private static LoadRequest lookup(String baseUri, int brandId, int productId,
+        SplittableRandom random, int expectedStatus) {
+      return new LoadRequest(request(baseUri + "/commerce/prices?brandId=" + brandId
+          + "&productId=" + productId + "&applicationDate=" + SyntheticPrices.randomDate(random)),
+          expectedStatus);
+    }
+
+    private static HttpRequest request(String uri) {
+      return HttpRequest.newBuilder(URI.create(uri)).timeout(Duration.ofSeconds(30)).GET().build();
+    }
+  }
+
+  private record Pending(long intended, long sentAt) {
+  }
+
+  private record LoadRequest(HttpRequest request, int expectedStatus) {
+  }
+
+  /**
+   * Draws ranks {@code 0..n-1} with probability proportional to {@code 1 / (rank + 1)^exponent}
+   * by binary search over the cumulative distribution.
+   */
+  private static final class ZipfSampler {
+
+    private final double[] cumulative;
+
+    ZipfSampler(int n, double exponent) {
+      cumulative = new double[n];
+      double sum = 0;
+      for (int rank = 0; rank < n; rank++) {
+        sum += 1 / Math.pow(rank + 1, exponent);
+        cumulative[rank] = sum;
+      }
+      for (int rank = 0; rank < n; rank++) {
+        cumulative[rank] /= sum;
+      }
+    }
+
+    int sample(SplittableRandom random) {
+      double value = random.nextDouble();
+      int low = 0;
+      int high = cumulative.length - 1;
+      while (low < high) {
+        int middle = (low + high) >>> 1;
+        if (cumulative[middle] < value) {
+          low = middle + 1;
+        } else {
+          high = middle;
+        }
+      }
+      return low;
+    }
+  }
+
+  private static final class Result {
+
+    private final Histogram responseTime = new ConcurrentHistogram(3);
+    private final Histogram serviceTime = new ConcurrentHistogram(3);
+    private final LongAdder ok = new LongAdder();
+    private final LongAdder clientErrors = new LongAdder();
+    private final LongAdder serverErrors = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder unexpected = new LongAdder();
+    private final LongAdder abandoned = new LongAdder();
+    private final AtomicLong lastCompletion = new AtomicLong();
+    private long elapsedNanos;
+
+    void record(LoadRequest request, int status, long responseNanos, long serviceNanos, long completedAt) {
+      responseTime.recordValue(responseNanos);
+      serviceTime.recordValue(serviceNanos);
+      if (status < 0) {
+        failures.increment();
+      } else if (status >= 500) {
+        serverErrors.increment();
+      } else if (status >= 400) {
+        clientErrors.increment();
+      } else {
+        ok.increment();
+      }
+      if (status != request.expectedStatus()) {
+        unexpected.increment();
+      }
+      lastCompletion.accumulateAndGet(completedAt, Math::max);
+    }
+
+    /**
+     * Records a request given up on at the drain deadline with the time it had waited by then.
+     */
+    void abandon(long responseNanos, long serviceNanos) {
+      responseTime.recordValue(responseNanos);
+      serviceTime.recordValue(serviceNanos);
+      abandoned.increment();
+    }
+
+    void finish(long start) {
+      this.elapsedNanos = Math.max(1, lastCompletion.get() - start);
+    }
+
+    void write(Path directory, String scenario) throws IOException {
+      write(directory.resolve(scenario + "-response.hgrm"), responseTime);
+      write(directory.resolve(scenario + "-service.hgrm"), serviceTime);
+    }
+
+    String summary(String scenario) {
+      return String.format(Locale.ROOT,
+          "%-6s throughput=%9.1f req/s  response p50=%8.2f p99=%8.2f p99.9=%8.2f max=%8.2f ms  "
+              + "service p99=%8.2f ms  2xx=%d 4xx=%d 5xx=%d failed=%d unexpected=%d abandoned=%d",
+          scenario, (responseTime.getTotalCount() - abandoned.sum()) / (elapsedNanos / 1e9),
+          millis(responseTime, 50), millis(responseTime, 99), millis(responseTime, 99.9),
+          responseTime.getMaxValue() / 1e6, millis(serviceTime, 99),
+          ok.sum(), clientErrors.sum(), serverErrors.sum(), failures.sum(), unexpected.sum(), abandoned.sum());
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+      return histogram.getValueAtPercentile(percentile) / 1e6;
+    }
+
+    private static void write(Path path, Histogram histogram) throws IOException {
+      try (PrintStream output = new PrintStream(Files.newOutputStream(path))) {
+        histogram.outputPercentileDistribution(output, 5, 1e6);
+      }
+    }
+  }
+}
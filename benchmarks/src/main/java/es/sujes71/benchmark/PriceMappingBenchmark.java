@@ -0,0 +1,36 @@
+package es.sujes71.benchmark;
+
+import es.sujes71.api.price.domain.model.Price;
+import es.sujes71.api.price.infrastructure.repository.h2.entity.PriceEntity;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PriceMappingBenchmark {
+
+  private PriceEntity entity;
+
+  @Setup
+  public void setUp() {
+    entity = SyntheticPrices.generate(1, 1, 0).getFirst();
+  }
+
+  @Benchmark
+  public Price toDomain() {
+    return entity.toDomain();
+  }
+}
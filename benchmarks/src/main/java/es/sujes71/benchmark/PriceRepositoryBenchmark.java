@@ -0,0 +1,109 @@
+package es.sujes71.benchmark;
+
+import es.sujes71.CommerceApplication;
+import es.sujes71.api.price.domain.model.Price;
+import es.sujes71.api.price.domain.model.PriceFilter;
+import es.sujes71.api.price.domain.model.PriceSegment;
+import es.sujes71.api.price.infrastructure.repository.PriceRepository;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * {@link PriceRepository#findAllByProperties}, the top-1 {@link PriceRepository#findTopByProperties}
+ * and the {@link PriceRepository#findSegmentByProperties} lookup against an embedded H2 filled with a
+ * synthetic catalog. Lookups cycle through a precomputed set of random keys and dates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PriceRepositoryBenchmark {
+
+  private static final int FILTERS = 4096;
+
+  @Param({"10"})
+  private int brands;
+
+  @Param({"1000"})
+  private int productsPerBrand;
+
+  @Param({"4"})
+  private int promotionsPerProduct;
+
+  private ConfigurableApplicationContext context;
+  private PriceRepository priceRepository;
+  private PriceFilter[] filters;
+  private int next;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = new SpringApplicationBuilder(CommerceApplication.class)
+        .web(WebApplicationType.NONE)
+        .properties(
+            "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+            "spring.sql.init.schema-locations=classpath:db/migrations/V001__create_prices_table.sql,"
+                + "classpath:db/migrations/V004__replace_priority_index_with_covering_index.sql",
+            "spring.sql.init.data-locations=classpath:db/migrations/V002__insert_initial_values_in_prices.sql",
+            "logging.level.root=WARN",
+            "logging.level.es.sujes71=WARN",
+            "logging.level.org.springframework.jdbc=WARN")
+        .run();
+    SyntheticPrices.insert(context.getBean(JdbcTemplate.class),
+        SyntheticPrices.generate(brands, productsPerBrand, promotionsPerProduct));
+    priceRepository = context.getBean(PriceRepository.class);
+
+    SplittableRandom random = new SplittableRandom(7);
+    filters = new PriceFilter[FILTERS];
+    for (int i = 0; i < FILTERS; i++) {
+      filters[i] = PriceFilter.builder()
+          .brandId(SyntheticPrices.FIRST_BRAND + random.nextInt(brands))
+          .productId(SyntheticPrices.FIRST_PRODUCT + random.nextInt(productsPerBrand))
+          .applicationDate(SyntheticPrices.randomDate(random))
+          .build();
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public List<Price> findAllByProperties() {
+    PriceFilter filter = filters[next++ & (FILTERS - 1)];
+    return priceRepository.findAllByProperties(filter);
+  }
+
+  @Benchmark
+  public List<Price> findTopByProperties() {
+    PriceFilter filter = filters[next++ & (FILTERS - 1)];
+    return priceRepository.findTopByProperties(filter);
+  }
+
+  @Benchmark
+  public Optional<PriceSegment> findSegmentByProperties() {
+    PriceFilter filter = filters[next++ & (FILTERS - 1)];
+    return priceRepository.findSegmentByProperties(filter);
+  }
+}
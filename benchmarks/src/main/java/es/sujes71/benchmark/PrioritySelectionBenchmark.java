@@ -0,0 +1,82 @@
+package es.sujes71.benchmark;
+
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.GET_PRICE_BY_PROPERTIES_ADDRESS;
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.GET_PRICE_SEGMENT_ADDRESS;
+
+import es.sujes71.api.price.domain.core.GetPriceByPropertiesUseCaseImpl;
+import es.sujes71.api.price.domain.core.GetPriceSegmentUseCaseImpl;
+import es.sujes71.api.price.domain.model.Price;
+import es.sujes71.api.price.domain.model.PriceFilter;
+import es.sujes71.api.price.domain.model.PriceSegment;
+import es.sujes71.api.price.domain.model.PriceTimeline;
+import es.sujes71.api.price.domain.ports.outbound.PricePersistencePort;
+import es.sujes71.shared.domain.ports.outbound.OutboundPort;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Priority selection with the persistence handlers replaced by a fixed list of {@code overlapping}
+ * candidates: the max-priority scan of {@link GetPriceByPropertiesUseCaseImpl} against the sweep and
+ * segment search behind {@link GetPriceSegmentUseCaseImpl}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PrioritySelectionBenchmark {
+
+  @Param({"1", "4", "16"})
+  private int overlapping;
+
+  private OutboundPort outboundPort;
+  private GetPriceByPropertiesUseCaseImpl byPropertiesUseCase;
+  private GetPriceSegmentUseCaseImpl useCase;
+  private PriceFilter filter;
+
+  @Setup
+  public void setUp() {
+    List<Price> candidates = SyntheticPrices.prices(overlapping);
+    OutboundPort.register(GET_PRICE_BY_PROPERTIES_ADDRESS, (PriceFilter ignored) -> candidates);
+    OutboundPort.register(GET_PRICE_SEGMENT_ADDRESS,
+        (PriceFilter filter) -> PriceTimeline.of(candidates).segmentAt(filter.getApplicationDate()));
+    outboundPort = new OutboundPort(true, 0);
+    PricePersistencePort pricePersistencePort = new PricePersistencePort(outboundPort);
+    byPropertiesUseCase = new GetPriceByPropertiesUseCaseImpl(pricePersistencePort);
+    useCase = new GetPriceSegmentUseCaseImpl(pricePersistencePort);
+    filter = PriceFilter.builder()
+        .brandId(SyntheticPrices.FIRST_BRAND)
+        .productId(SyntheticPrices.FIRST_PRODUCT)
+        .applicationDate(SyntheticPrices.YEAR_START.plusDays(100))
+        .build();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    outboundPort.shutdown();
+  }
+
+  @Benchmark
+  public Price executeByProperties() {
+    return byPropertiesUseCase.execute(filter);
+  }
+
+  @Benchmark
+  public PriceSegment execute() {
+    return useCase.execute(filter);
+  }
+}
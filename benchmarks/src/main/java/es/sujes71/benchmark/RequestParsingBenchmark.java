@@ -0,0 +1,45 @@
+package es.sujes71.benchmark;
+
+import es.sujes71.api.price.domain.model.PriceFilter;
+import es.sujes71.api.price.rest.adapter.PriceFilterAdapter;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Request parsing as done by the controller ({@link PriceFilterAdapter#adapt}) against the original
+ * validate-then-adapt sequence in {@link LegacyRequestParsing}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestParsingBenchmark {
+
+  @Param({"2020-06-14T10:00:00", " 2020-06-14T10:00:00.123 "})
+  private String applicationDate;
+
+  private final String brandId = "1";
+  private final String productId = "35455";
+
+  @Benchmark
+  public PriceFilter adapt() {
+    return PriceFilterAdapter.adapt(brandId, productId, applicationDate);
+  }
+
+  @Benchmark
+  public PriceFilter legacyValidateAndAdapt() {
+    LegacyRequestParsing.validate(brandId, productId, applicationDate);
+    return LegacyRequestParsing.adapt(brandId, productId, applicationDate);
+  }
+}
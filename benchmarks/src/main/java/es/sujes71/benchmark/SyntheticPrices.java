@@ -0,0 +1,81 @@
+package es.sujes71.benchmark;
+
+import es.sujes71.api.price.domain.model.Price;
+import es.sujes71.api.price.infrastructure.repository.h2.entity.PriceEntity;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Deterministic synthetic catalog: every (brand, product) gets a base price valid for the whole year
+ * plus {@code promotionsPerProduct} shorter, higher-priority promotions that may overlap each other.
+ */
+final class SyntheticPrices {
+
+  static final LocalDateTime YEAR_START = LocalDateTime.of(2020, 1, 1, 0, 0);
+  static final LocalDateTime YEAR_END = LocalDateTime.of(2020, 12, 31, 23, 59, 59);
+  static final int FIRST_BRAND = 1000;
+  static final int FIRST_PRODUCT = 1_000_000;
+
+  private SyntheticPrices() {
+  }
+
+  static List<PriceEntity> generate(int brands, int productsPerBrand, int promotionsPerProduct) {
+    SplittableRandom random = new SplittableRandom(42);
+    List<PriceEntity> entities = new ArrayList<>(brands * productsPerBrand * (promotionsPerProduct + 1));
+    for (int brand = 0; brand < brands; brand++) {
+      for (int product = 0; product < productsPerBrand; product++) {
+        entities.add(entity(FIRST_BRAND + brand, FIRST_PRODUCT + product, YEAR_START, YEAR_END, 0, 1, random));
+        for (int promotion = 0; promotion < promotionsPerProduct; promotion++) {
+          LocalDateTime start = YEAR_START.plusHours(random.nextInt(24 * 360));
+          LocalDateTime end = start.plusHours(1 + random.nextInt(24 * 14));
+          entities.add(entity(FIRST_BRAND + brand, FIRST_PRODUCT + product, start, end,
+              1 + random.nextInt(3), promotion + 2, random));
+        }
+      }
+    }
+    return entities;
+  }
+
+  static List<Price> prices(int count) {
+    return generate(1, 1, count - 1).stream().map(PriceEntity::toDomain).toList();
+  }
+
+  static LocalDateTime randomDate(SplittableRandom random) {
+    return YEAR_START.plusSeconds(random.nextLong(60L * 60 * 24 * 365));
+  }
+
+  static void insert(JdbcTemplate jdbcTemplate, List<PriceEntity> entities) {
+    jdbcTemplate.batchUpdate("""
+        INSERT INTO PRICES (BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+        """, entities, 1000, (statement, entity) -> {
+      statement.setInt(1, entity.getBrandId());
+      statement.setTimestamp(2, Timestamp.valueOf(entity.getStartDate()));
+      statement.setTimestamp(3, Timestamp.valueOf(entity.getEndDate()));
+      statement.setInt(4, entity.getPriceList());
+      statement.setInt(5, entity.getProductId());
+      statement.setInt(6, entity.getPriority());
+      statement.setBigDecimal(7, entity.getPrice());
+      statement.setString(8, entity.getCurrency());
+    });
+  }
+
+  private static PriceEntity entity(int brandId, int productId, LocalDateTime start, LocalDateTime end,
+      int priority, int priceList, SplittableRandom random) {
+    return PriceEntity.builder()
+        .brandId(brandId)
+        .productId(productId)
+        .startDate(start)
+        .endDate(end)
+        .priority(priority)
+        .priceList(priceList)
+        .price(BigDecimal.valueOf(100 + random.nextInt(99_900), 2))
+        .currency("EUR")
+        .build();
+  }
+}
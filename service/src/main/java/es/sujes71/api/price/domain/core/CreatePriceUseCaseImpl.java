@@ -0,0 +1,27 @@
+package es.sujes71.api.price.domain.core;
+
+import es.sujes71.api.price.domain.model.Price;
+import es.sujes71.api.price.domain.model.PriceChange;
+import es.sujes71.api.price.domain.model.StoredPrice;
+import es.sujes71.api.price.domain.ports.inbound.CreatePriceUseCase;
+import es.sujes71.api.price.domain.ports.outbound.PricePersistencePort;
+import java.util.List;
+import org.springframework.stereotype.Service;
+
+@Service
+public class CreatePriceUseCaseImpl implements CreatePriceUseCase {
+
+  private final PricePersistencePort pricePersistencePort;
+
+  public CreatePriceUseCaseImpl(PricePersistencePort pricePersistencePort) {
+    this.pricePersistencePort = pricePersistencePort;
+  }
+
+  @Override
+  public StoredPrice execute(Price input) {
+    List<PriceChange> changes = pricePersistencePort.createPrice(input);
+    changes.forEach(pricePersistencePort::publishPriceChange);
+    PriceChange created = changes.getFirst();
+    return StoredPrice.builder().id(created.getId()).price(created.getCurrent()).build();
+  }
+}
@@ -0,0 +1,29 @@
+package es.sujes71.api.price.domain.core;
+
+import es.sujes71.api.price.domain.model.PriceChange;
+import es.sujes71.api.price.domain.model.StoredPrice;
+import es.sujes71.api.price.domain.model.exceptions.PriceNotFoundException;
+import es.sujes71.api.price.domain.ports.inbound.DeletePriceUseCase;
+import es.sujes71.api.price.domain.ports.outbound.PricePersistencePort;
+import java.util.List;
+import org.springframework.stereotype.Service;
+
+@Service
+public class DeletePriceUseCaseImpl implements DeletePriceUseCase {
+
+  private final PricePersistencePort pricePersistencePort;
+
+  public DeletePriceUseCaseImpl(PricePersistencePort pricePersistencePort) {
+    this.pricePersistencePort = pricePersistencePort;
+  }
+
+  @Override
+  public StoredPrice execute(Long input) {
+    List<PriceChange> changes = pricePersistencePort.deletePrice(input);
+    if (changes.isEmpty()) {
+      throw new PriceNotFoundException();
+    }
+    changes.forEach(pricePersistencePort::publishPriceChange);
+    return StoredPrice.builder().id(input).price(changes.getFirst().getPrevious()).build();
+  }
+}
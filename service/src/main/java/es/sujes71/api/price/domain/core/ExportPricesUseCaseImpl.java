@@ -0,0 +1,21 @@
+package es.sujes71.api.price.domain.core;
+
+import es.sujes71.api.price.domain.model.PriceExport;
+import es.sujes71.api.price.domain.ports.inbound.ExportPricesUseCase;
+import es.sujes71.api.price.domain.ports.outbound.PricePersistencePort;
+import org.springframework.stereotype.Service;
+
+@Service
+public class ExportPricesUseCaseImpl implements ExportPricesUseCase {
+
+  private final PricePersistencePort pricePersistencePort;
+
+  public ExportPricesUseCaseImpl(PricePersistencePort pricePersistencePort) {
+    this.pricePersistencePort = pricePersistencePort;
+  }
+
+  @Override
+  public Long execute(PriceExport input) {
+    return pricePersistencePort.exportPrices(input);
+  }
+}
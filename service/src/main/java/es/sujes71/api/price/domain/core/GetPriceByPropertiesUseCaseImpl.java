@@ -5,6 +5,8 @@ import es.sujes71.api.price.domain.model.PriceFilter;
 import es.sujes71.api.price.domain.model.exceptions.PriceNotFoundException;
 import es.sujes71.api.price.domain.ports.inbound.GetPriceByPropertiesUseCase;
 import es.sujes71.api.price.domain.ports.outbound.PricePersistencePort;
+import es.sujes71.shared.domain.metrics.Stage;
+import es.sujes71.shared.infrastructure.metrics.StageMetrics;
 import java.util.Comparator;
 import java.util.List;
 import org.springframework.stereotype.Service;
@@ -20,14 +22,17 @@ public class GetPriceByPropertiesUseCaseImpl implements GetPriceByPropertiesUseC
 
   @Override
   public Price execute(PriceFilter input) {
-    List<Price> prices = pricePersistencePort.getAllPricesByProperties(input);
+    List<Price> prices = pricePersistencePort.getTopPriceByProperties(input);
 
     if (prices.isEmpty()) {
       throw new PriceNotFoundException();
     }
 
-    return prices.stream()
+    long startedAt = System.nanoTime();
+    Price winner = prices.stream()
         .max(Comparator.comparingInt(Price::getPriority))
         .orElseThrow();
+    StageMetrics.record(Stage.SELECTION, System.nanoTime() - startedAt);
+    return winner;
   }
 }
\ No newline at end of file
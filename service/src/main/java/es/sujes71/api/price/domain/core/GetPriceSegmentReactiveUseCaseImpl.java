@@ -0,0 +1,25 @@
+package es.sujes71.api.price.domain.core;
+
+import es.sujes71.api.price.domain.model.PriceFilter;
+import es.sujes71.api.price.domain.model.PriceSegment;
+import es.sujes71.api.price.domain.model.exceptions.PriceNotFoundException;
+import es.sujes71.api.price.domain.ports.inbound.GetPriceSegmentReactiveUseCase;
+import es.sujes71.api.price.domain.ports.outbound.PricePersistencePort;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+@Service
+public class GetPriceSegmentReactiveUseCaseImpl implements GetPriceSegmentReactiveUseCase {
+
+  private final PricePersistencePort pricePersistencePort;
+
+  public GetPriceSegmentReactiveUseCaseImpl(PricePersistencePort pricePersistencePort) {
+    this.pricePersistencePort = pricePersistencePort;
+  }
+
+  @Override
+  public Mono<PriceSegment> execute(PriceFilter input) {
+    return pricePersistencePort.getPriceSegmentReactive(input)
+        .switchIfEmpty(Mono.error(PriceNotFoundException::new));
+  }
+}
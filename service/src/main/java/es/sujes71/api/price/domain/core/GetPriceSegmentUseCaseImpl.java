@@ -0,0 +1,24 @@
+package es.sujes71.api.price.domain.core;
+
+import es.sujes71.api.price.domain.model.PriceFilter;
+import es.sujes71.api.price.domain.model.PriceSegment;
+import es.sujes71.api.price.domain.model.exceptions.PriceNotFoundException;
+import es.sujes71.api.price.domain.ports.inbound.GetPriceSegmentUseCase;
+import es.sujes71.api.price.domain.ports.outbound.PricePersistencePort;
+import org.springframework.stereotype.Service;
+
+@Service
+public class GetPriceSegmentUseCaseImpl implements GetPriceSegmentUseCase {
+
+  private final PricePersistencePort pricePersistencePort;
+
+  public GetPriceSegmentUseCaseImpl(PricePersistencePort pricePersistencePort) {
+    this.pricePersistencePort = pricePersistencePort;
+  }
+
+  @Override
+  public PriceSegment execute(PriceFilter input) {
+    return pricePersistencePort.getPriceSegment(input)
+        .orElseThrow(PriceNotFoundException::new);
+  }
+}
@@ -0,0 +1,38 @@
+package es.sujes71.api.price.domain.core;
+
+import es.sujes71.api.price.domain.model.Price;
+import es.sujes71.api.price.domain.model.PriceSegment;
+import es.sujes71.api.price.domain.model.PriceTimeline;
+import es.sujes71.api.price.domain.model.PriceWindow;
+import es.sujes71.api.price.domain.ports.inbound.GetPriceTimelineUseCase;
+import es.sujes71.api.price.domain.ports.outbound.PricePersistencePort;
+import es.sujes71.shared.domain.metrics.Stage;
+import es.sujes71.shared.domain.metrics.StageTimings;
+import java.util.List;
+import org.springframework.stereotype.Service;
+
+/**
+ * Resolves every winning price of a window with one read: the overlapping prices are swept once by
+ * {@link PriceTimeline}, in O(n log n), with the same priority rule as single lookups, and the
+ * result is clipped to the window.
+ */
+@Service
+public class GetPriceTimelineUseCaseImpl implements GetPriceTimelineUseCase {
+
+  private final PricePersistencePort pricePersistencePort;
+
+  public GetPriceTimelineUseCaseImpl(PricePersistencePort pricePersistencePort) {
+    this.pricePersistencePort = pricePersistencePort;
+  }
+
+  @Override
+  public List<PriceSegment> execute(PriceWindow input) {
+    List<Price> prices = pricePersistencePort.getPricesInWindow(input);
+
+    long startedAt = System.nanoTime();
+    List<PriceSegment> segments = PriceTimeline.of(prices)
+        .segmentsBetween(input.getFrom(), input.getTo().plusNanos(1));
+    StageTimings.record(Stage.SELECTION, System.nanoTime() - startedAt);
+    return segments;
+  }
+}
@@ -0,0 +1,39 @@
+package es.sujes71.api.price.domain.core;
+
+import es.sujes71.api.price.domain.model.Price;
+import es.sujes71.api.price.domain.model.PriceFilter;
+import es.sujes71.api.price.domain.ports.inbound.GetPricesByFiltersUseCase;
+import es.sujes71.api.price.domain.ports.outbound.PricePersistencePort;
+import es.sujes71.shared.domain.metrics.Stage;
+import es.sujes71.shared.domain.metrics.StageTimings;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.stereotype.Service;
+
+@Service
+public class GetPricesByFiltersUseCaseImpl implements GetPricesByFiltersUseCase {
+
+  private final PricePersistencePort pricePersistencePort;
+
+  public GetPricesByFiltersUseCaseImpl(PricePersistencePort pricePersistencePort) {
+    this.pricePersistencePort = pricePersistencePort;
+  }
+
+  @Override
+  public Map<PriceFilter, Price> execute(List<PriceFilter> input) {
+    if (input.isEmpty()) {
+      return Map.of();
+    }
+
+    Map<PriceFilter, List<Price>> pricesByFilter = pricePersistencePort.getAllPricesByFilters(input);
+    long startedAt = System.nanoTime();
+    Map<PriceFilter, Price> winners = new HashMap<>(pricesByFilter.size() * 2);
+    pricesByFilter.forEach((filter, prices) -> prices.stream()
+        .max(Comparator.comparingInt(Price::getPriority))
+        .ifPresent(price -> winners.put(filter, price)));
+    StageTimings.record(Stage.SELECTION, System.nanoTime() - startedAt);
+    return winners;
+  }
+}
@@ -0,0 +1,26 @@
+package es.sujes71.api.price.domain.core;
+
+import es.sujes71.api.price.domain.model.Price;
+import es.sujes71.api.price.domain.model.PriceProductsFilter;
+import es.sujes71.api.price.domain.ports.inbound.GetPricesByProductsUseCase;
+import es.sujes71.api.price.domain.ports.outbound.PricePersistencePort;
+import java.util.Map;
+import org.springframework.stereotype.Service;
+
+@Service
+public class GetPricesByProductsUseCaseImpl implements GetPricesByProductsUseCase {
+
+  private final PricePersistencePort pricePersistencePort;
+
+  public GetPricesByProductsUseCaseImpl(PricePersistencePort pricePersistencePort) {
+    this.pricePersistencePort = pricePersistencePort;
+  }
+
+  @Override
+  public Map<Integer, Price> execute(PriceProductsFilter input) {
+    if (input.getProductIds().isEmpty()) {
+      return Map.of();
+    }
+    return pricePersistencePort.getTopPricesByProducts(input);
+  }
+}
@@ -0,0 +1,25 @@
+package es.sujes71.api.price.domain.core;
+
+import es.sujes71.api.price.domain.model.PriceImport;
+import es.sujes71.api.price.domain.model.PriceImportReport;
+import es.sujes71.api.price.domain.ports.inbound.ImportPricesUseCase;
+import es.sujes71.api.price.domain.ports.outbound.PricePersistencePort;
+import org.springframework.stereotype.Service;
+
+@Service
+public class ImportPricesUseCaseImpl implements ImportPricesUseCase {
+
+  private final PricePersistencePort pricePersistencePort;
+
+  public ImportPricesUseCaseImpl(PricePersistencePort pricePersistencePort) {
+    this.pricePersistencePort = pricePersistencePort;
+  }
+
+  @Override
+  public PriceImportReport execute(PriceImport input) {
+    if (input.getContent() == null) {
+      throw new IllegalArgumentException("Import content is required");
+    }
+    return pricePersistencePort.importPrices(input);
+  }
+}
@@ -0,0 +1,29 @@
+package es.sujes71.api.price.domain.core;
+
+import es.sujes71.api.price.domain.model.PriceChange;
+import es.sujes71.api.price.domain.model.StoredPrice;
+import es.sujes71.api.price.domain.model.exceptions.PriceNotFoundException;
+import es.sujes71.api.price.domain.ports.inbound.UpdatePriceUseCase;
+import es.sujes71.api.price.domain.ports.outbound.PricePersistencePort;
+import java.util.List;
+import org.springframework.stereotype.Service;
+
+@Service
+public class UpdatePriceUseCaseImpl implements UpdatePriceUseCase {
+
+  private final PricePersistencePort pricePersistencePort;
+
+  public UpdatePriceUseCaseImpl(PricePersistencePort pricePersistencePort) {
+    this.pricePersistencePort = pricePersistencePort;
+  }
+
+  @Override
+  public StoredPrice execute(StoredPrice input) {
+    List<PriceChange> changes = pricePersistencePort.updatePrice(input);
+    if (changes.isEmpty()) {
+      throw new PriceNotFoundException();
+    }
+    changes.forEach(pricePersistencePort::publishPriceChange);
+    return StoredPrice.builder().id(input.getId()).price(changes.getLast().getCurrent()).build();
+  }
+}
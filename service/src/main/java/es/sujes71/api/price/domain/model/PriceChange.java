@@ -0,0 +1,20 @@
+package es.sujes71.api.price.domain.model;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * A write to {@code PRICES} as seen by one (brand, product). Moving a price to another key is
+ * reported as {@link PriceChangeType#DELETED} on the old key and {@link PriceChangeType#CREATED} on
+ * the new one. {@code previous} is null for creations and {@code current} for deletions.
+ */
+@Data
+@Builder
+public class PriceChange {
+  private PriceChangeType type;
+  private PriceKey key;
+  private Long id;
+  private Price previous;
+  private Price current;
+
+}
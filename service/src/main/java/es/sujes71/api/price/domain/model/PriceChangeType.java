@@ -0,0 +1,7 @@
+package es.sujes71.api.price.domain.model;
+
+public enum PriceChangeType {
+  CREATED,
+  UPDATED,
+  DELETED
+}
@@ -0,0 +1,22 @@
+package es.sujes71.api.price.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Export of one brand's prices in id order. {@code from}/{@code to} keep only prices whose
+ * validity overlaps the window, {@code after} resumes past the last id already received, and every
+ * row is handed to {@code sink} as soon as it is read.
+ */
+@Data
+@Builder
+public class PriceExport {
+  private Integer brandId;
+  private LocalDateTime from;
+  private LocalDateTime to;
+  private Long after;
+  private Consumer<PriceExportItem> sink;
+
+}
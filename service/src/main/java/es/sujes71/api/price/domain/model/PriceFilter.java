@@ -1,11 +1,13 @@
 package es.sujes71.api.price.domain.model;
 
 import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 
 @Data
 @Builder
+@AllArgsConstructor
 public class PriceFilter {
   private Integer brandId;
   private Integer productId;
@@ -0,0 +1,13 @@
+package es.sujes71.api.price.domain.model;
+
+import java.io.InputStream;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class PriceImport {
+  private PriceImportFormat format;
+  private InputStream content;
+
+}
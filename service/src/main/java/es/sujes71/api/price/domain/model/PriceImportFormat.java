@@ -0,0 +1,6 @@
+package es.sujes71.api.price.domain.model;
+
+public enum PriceImportFormat {
+  CSV,
+  NDJSON
+}
@@ -0,0 +1,18 @@
+package es.sujes71.api.price.domain.model;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class PriceImportReport {
+  private long accepted;
+  private long rejected;
+  private long committed;
+  private String failure;
+  private long elapsedMillis;
+  private double rowsPerSecond;
+  private List<PriceImportReject> rejects;
+
+}
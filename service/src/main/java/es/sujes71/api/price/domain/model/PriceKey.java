@@ -0,0 +1,12 @@
+package es.sujes71.api.price.domain.model;
+
+public record PriceKey(int brandId, int productId) {
+
+  public static PriceKey of(PriceFilter filter) {
+    return new PriceKey(filter.getBrandId(), filter.getProductId());
+  }
+
+  public static PriceKey of(Price price) {
+    return new PriceKey(price.getBrandId(), price.getProductId());
+  }
+}
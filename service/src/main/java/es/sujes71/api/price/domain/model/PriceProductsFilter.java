@@ -0,0 +1,18 @@
+package es.sujes71.api.price.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Several products of one brand priced at the same instant, as shown on a catalog listing page.
+ */
+@Data
+@Builder
+public class PriceProductsFilter {
+  private Integer brandId;
+  private List<Integer> productIds;
+  private LocalDateTime applicationDate;
+
+}
@@ -0,0 +1,21 @@
+package es.sujes71.api.price.domain.model;
+
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Contiguous stretch of time during which a single price wins. {@code from} is inclusive and
+ * {@code until} is exclusive.
+ */
+@Data
+@Builder
+public class PriceSegment {
+  private LocalDateTime from;
+  private LocalDateTime until;
+  private Price price;
+
+  public boolean contains(LocalDateTime date) {
+    return !date.isBefore(from) && date.isBefore(until);
+  }
+}
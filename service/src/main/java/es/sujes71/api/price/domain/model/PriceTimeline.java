@@ -0,0 +1,204 @@
+package es.sujes71.api.price.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.TreeSet;
+
+/**
+ * Non-overlapping, sorted view of the prices of a single (brand, product). Overlapping source
+ * intervals are flattened with the same rule used on reads: highest priority wins and, on a tie,
+ * the price that comes first in the source list.
+ */
+public final class PriceTimeline {
+
+  private static final PriceTimeline EMPTY =
+      new PriceTimeline(new LocalDateTime[0], new LocalDateTime[0], new Price[0]);
+
+  private final LocalDateTime[] from;
+  private final LocalDateTime[] until;
+  private final Price[] prices;
+
+  private PriceTimeline(LocalDateTime[] from, LocalDateTime[] until, Price[] prices) {
+    this.from = from;
+    this.until = until;
+    this.prices = prices;
+  }
+
+  public static PriceTimeline empty() {
+    return EMPTY;
+  }
+
+  public static PriceTimeline of(List<Price> source) {
+    if (source.isEmpty()) {
+      return EMPTY;
+    }
+
+    Candidate[] candidates = new Candidate[source.size()];
+    TreeSet<LocalDateTime> boundaries = new TreeSet<>();
+    for (int i = 0; i < candidates.length; i++) {
+      Price price = source.get(i);
+      candidates[i] = new Candidate(i, price, price.getStartDate(), exclusiveEnd(price));
+      boundaries.add(candidates[i].from());
+      boundaries.add(candidates[i].until());
+    }
+    Arrays.sort(candidates, Comparator.comparing(Candidate::from));
+
+    PriorityQueue<Candidate> active = new PriorityQueue<>(
+        Comparator.comparingInt((Candidate candidate) -> candidate.price().getPriority()).reversed()
+            .thenComparingInt(Candidate::order));
+
+    List<LocalDateTime> segmentFrom = new ArrayList<>();
+    List<LocalDateTime> segmentUntil = new ArrayList<>();
+    List<Price> segmentPrices = new ArrayList<>();
+
+    int next = 0;
+    LocalDateTime previous = null;
+    for (LocalDateTime boundary : boundaries) {
+      if (previous != null && !active.isEmpty()) {
+        Price winner = active.peek().price();
+        int last = segmentPrices.size() - 1;
+        if (last >= 0 && segmentPrices.get(last) == winner && segmentUntil.get(last).equals(previous)) {
+          segmentUntil.set(last, boundary);
+        } else {
+          segmentFrom.add(previous);
+          segmentUntil.add(boundary);
+          segmentPrices.add(winner);
+        }
+      }
+
+      while (next < candidates.length && !candidates[next].from().isAfter(boundary)) {
+        active.add(candidates[next++]);
+      }
+      while (!active.isEmpty() && !active.peek().until().isAfter(boundary)) {
+        active.poll();
+      }
+      previous = boundary;
+    }
+
+    return new PriceTimeline(
+        segmentFrom.toArray(LocalDateTime[]::new),
+        segmentUntil.toArray(LocalDateTime[]::new),
+        segmentPrices.toArray(Price[]::new));
+  }
+
+  /**
+   * Timeline of segments that are already flattened: sorted by start and not overlapping.
+   */
+  public static PriceTimeline ofSegments(List<PriceSegment> segments) {
+    if (segments.isEmpty()) {
+      return EMPTY;
+    }
+    LocalDateTime[] from = new LocalDateTime[segments.size()];
+    LocalDateTime[] until = new LocalDateTime[segments.size()];
+    Price[] prices = new Price[segments.size()];
+    for (int i = 0; i < prices.length; i++) {
+      PriceSegment segment = segments.get(i);
+      from[i] = segment.getFrom();
+      until[i] = segment.getUntil();
+      prices[i] = segment.getPrice();
+    }
+    return new PriceTimeline(from, until, prices);
+  }
+
+  public Optional<PriceSegment> segmentAt(LocalDateTime date) {
+    int index = indexOf(date);
+    return index < 0 ? Optional.empty() : Optional.of(segment(index));
+  }
+
+  public Optional<Price> priceAt(LocalDateTime date) {
+    int index = indexOf(date);
+    return index < 0 ? Optional.empty() : Optional.of(prices[index]);
+  }
+
+  public List<PriceSegment> segments() {
+    List<PriceSegment> segments = new ArrayList<>(prices.length);
+    for (int i = 0; i < prices.length; i++) {
+      segments.add(segment(i));
+    }
+    return segments;
+  }
+
+  /**
+   * Segments overlapping {@code [from, until)}, with the first and last clipped to the window.
+   */
+  public List<PriceSegment> segmentsBetween(LocalDateTime from, LocalDateTime until) {
+    int first = floorIndex(from);
+    if (first < 0 || !this.until[first].isAfter(from)) {
+      first++;
+    }
+
+    List<PriceSegment> segments = new ArrayList<>();
+    for (int i = first; i < prices.length && this.from[i].isBefore(until); i++) {
+      segments.add(PriceSegment.builder()
+          .from(this.from[i].isBefore(from) ? from : this.from[i])
+          .until(this.until[i].isAfter(until) ? until : this.until[i])
+          .price(prices[i])
+          .build());
+    }
+    return segments;
+  }
+
+  /**
+   * The uncovered interval around {@code date}, or empty when a price covers it. A null bound means
+   * the gap is open on that side.
+   */
+  public Optional<Gap> gapAt(LocalDateTime date) {
+    int index = floorIndex(date);
+    if (index >= 0 && date.isBefore(until[index])) {
+      return Optional.empty();
+    }
+    return Optional.of(new Gap(
+        index < 0 ? null : until[index],
+        index + 1 < from.length ? from[index + 1] : null));
+  }
+
+  public int size() {
+    return prices.length;
+  }
+
+  public boolean isEmpty() {
+    return prices.length == 0;
+  }
+
+  private int indexOf(LocalDateTime date) {
+    int index = floorIndex(date);
+    return index >= 0 && date.isBefore(until[index]) ? index : -1;
+  }
+
+  private int floorIndex(LocalDateTime date) {
+    int low = 0;
+    int high = from.length - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      if (from[mid].isAfter(date)) {
+        high = mid - 1;
+      } else {
+        low = mid + 1;
+      }
+    }
+    return high;
+  }
+
+  private PriceSegment segment(int index) {
+    return PriceSegment.builder()
+        .from(from[index])
+        .until(until[index])
+        .price(prices[index])
+        .build();
+  }
+
+  private static LocalDateTime exclusiveEnd(Price price) {
+    return price.getEndDate().plusNanos(1);
+  }
+
+  public record Gap(LocalDateTime from, LocalDateTime until) {
+  }
+
+  private record Candidate(int order, Price price, LocalDateTime from, LocalDateTime until) {
+  }
+}
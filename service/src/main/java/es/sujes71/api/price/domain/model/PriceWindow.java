@@ -0,0 +1,18 @@
+package es.sujes71.api.price.domain.model;
+
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Prices of one (brand, product) between {@code from} and {@code to}, both inclusive.
+ */
+@Data
+@Builder
+public class PriceWindow {
+  private Integer brandId;
+  private Integer productId;
+  private LocalDateTime from;
+  private LocalDateTime to;
+
+}
@@ -0,0 +1,15 @@
+package es.sujes71.api.price.domain.model;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * An import that committed rows to {@code PRICES}, published even when it failed after some of its
+ * chunks were committed. It names no key, so read models rebuild and caches forget everything.
+ */
+@Data
+@Builder
+public class PricesImported {
+  private long committed;
+
+}
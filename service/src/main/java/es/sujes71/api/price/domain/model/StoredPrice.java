@@ -0,0 +1,12 @@
+package es.sujes71.api.price.domain.model;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class StoredPrice {
+  private Long id;
+  private Price price;
+
+}
@@ -1,7 +1,14 @@
 package es.sujes71.api.price.domain.model.exceptions;
 
+/**
+ * No price applies to the requested properties. Misses are an expected outcome answered with a 404,
+ * so the exception carries no stack trace.
+ */
 public class PriceNotFoundException extends RuntimeException {
+
+  public static final String MESSAGE = "No prices found for the given properties.";
+
   public PriceNotFoundException() {
-    super("No prices found for the given properties.");
+    super(MESSAGE, null, false, false);
   }
 }
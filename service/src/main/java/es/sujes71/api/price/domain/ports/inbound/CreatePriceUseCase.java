@@ -0,0 +1,8 @@
+package es.sujes71.api.price.domain.ports.inbound;
+
+import es.sujes71.api.price.domain.model.Price;
+import es.sujes71.api.price.domain.model.StoredPrice;
+import es.sujes71.shared.domain.ports.inbound.UseCase;
+
+public interface CreatePriceUseCase extends UseCase<Price, StoredPrice> {
+}
@@ -0,0 +1,7 @@
+package es.sujes71.api.price.domain.ports.inbound;
+
+import es.sujes71.api.price.domain.model.PriceExport;
+import es.sujes71.shared.domain.ports.inbound.UseCase;
+
+public interface ExportPricesUseCase extends UseCase<PriceExport, Long> {
+}
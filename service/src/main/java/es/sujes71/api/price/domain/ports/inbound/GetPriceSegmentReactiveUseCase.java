@@ -0,0 +1,9 @@
+package es.sujes71.api.price.domain.ports.inbound;
+
+import es.sujes71.api.price.domain.model.PriceFilter;
+import es.sujes71.api.price.domain.model.PriceSegment;
+import es.sujes71.shared.domain.ports.inbound.UseCase;
+import reactor.core.publisher.Mono;
+
+public interface GetPriceSegmentReactiveUseCase extends UseCase<PriceFilter, Mono<PriceSegment>> {
+}
@@ -0,0 +1,8 @@
+package es.sujes71.api.price.domain.ports.inbound;
+
+import es.sujes71.api.price.domain.model.PriceFilter;
+import es.sujes71.api.price.domain.model.PriceSegment;
+import es.sujes71.shared.domain.ports.inbound.UseCase;
+
+public interface GetPriceSegmentUseCase extends UseCase<PriceFilter, PriceSegment> {
+}
@@ -0,0 +1,9 @@
+package es.sujes71.api.price.domain.ports.inbound;
+
+import es.sujes71.api.price.domain.model.PriceSegment;
+import es.sujes71.api.price.domain.model.PriceWindow;
+import es.sujes71.shared.domain.ports.inbound.UseCase;
+import java.util.List;
+
+public interface GetPriceTimelineUseCase extends UseCase<PriceWindow, List<PriceSegment>> {
+}
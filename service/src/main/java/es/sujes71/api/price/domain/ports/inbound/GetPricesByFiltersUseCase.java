@@ -0,0 +1,10 @@
+package es.sujes71.api.price.domain.ports.inbound;
+
+import es.sujes71.api.price.domain.model.Price;
+import es.sujes71.api.price.domain.model.PriceFilter;
+import es.sujes71.shared.domain.ports.inbound.UseCase;
+import java.util.List;
+import java.util.Map;
+
+public interface GetPricesByFiltersUseCase extends UseCase<List<PriceFilter>, Map<PriceFilter, Price>> {
+}
@@ -0,0 +1,9 @@
+package es.sujes71.api.price.domain.ports.inbound;
+
+import es.sujes71.api.price.domain.model.Price;
+import es.sujes71.api.price.domain.model.PriceProductsFilter;
+import es.sujes71.shared.domain.ports.inbound.UseCase;
+import java.util.Map;
+
+public interface GetPricesByProductsUseCase extends UseCase<PriceProductsFilter, Map<Integer, Price>> {
+}
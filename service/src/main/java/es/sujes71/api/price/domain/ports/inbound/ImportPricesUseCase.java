@@ -0,0 +1,8 @@
+package es.sujes71.api.price.domain.ports.inbound;
+
+import es.sujes71.api.price.domain.model.PriceImport;
+import es.sujes71.api.price.domain.model.PriceImportReport;
+import es.sujes71.shared.domain.ports.inbound.UseCase;
+
+public interface ImportPricesUseCase extends UseCase<PriceImport, PriceImportReport> {
+}
@@ -0,0 +1,7 @@
+package es.sujes71.api.price.domain.ports.inbound;
+
+import es.sujes71.api.price.domain.model.StoredPrice;
+import es.sujes71.shared.domain.ports.inbound.UseCase;
+
+public interface UpdatePriceUseCase extends UseCase<StoredPrice, StoredPrice> {
+}
@@ -1,23 +1,126 @@
 package es.sujes71.api.price.domain.ports.outbound;
 
-import static es.sujes71.shared.domain.ports.outbound.OutboundPort.requestEvent;
+import static es.sujes71.shared.domain.ports.outbound.OutboundPort.channel;
 
 import es.sujes71.api.price.domain.model.Price;
+import es.sujes71.api.price.domain.model.PriceChange;
+import es.sujes71.api.price.domain.model.PriceExport;
 import es.sujes71.api.price.domain.model.PriceFilter;
-import es.sujes71.shared.domain.model.Message;
+import es.sujes71.api.price.domain.model.PriceImport;
+import es.sujes71.api.price.domain.model.PriceImportReport;
+import es.sujes71.api.price.domain.model.PriceProductsFilter;
+import es.sujes71.api.price.domain.model.PriceSegment;
+import es.sujes71.api.price.domain.model.PriceWindow;
+import es.sujes71.api.price.domain.model.StoredPrice;
+import es.sujes71.shared.domain.ports.outbound.OutboundPort;
+import es.sujes71.shared.domain.ports.outbound.OutboundPort.Channel;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
 
 @Component
 public class PricePersistencePort {
 
   public static final String GET_PRICE_BY_PROPERTIES_ADDRESS = "getPriceByPropertiesAddress";
+  public static final String GET_PRICE_SEGMENT_ADDRESS = "getPriceSegmentAddress";
+  public static final String GET_PRICE_TIMELINE_BY_KEY_ADDRESS = "getPriceTimelineByKeyAddress";
+  public static final String GET_PRICES_IN_WINDOW_ADDRESS = "getPricesInWindowAddress";
+  public static final String GET_PRICES_BY_FILTERS_ADDRESS = "getPricesByFiltersAddress";
+  public static final String GET_PRICES_BY_PRODUCTS_ADDRESS = "getPricesByProductsAddress";
+  public static final String IMPORT_PRICES_ADDRESS = "importPricesAddress";
+  public static final String EXPORT_PRICES_ADDRESS = "exportPricesAddress";
+  public static final String CREATE_PRICE_ADDRESS = "createPriceAddress";
+  public static final String UPDATE_PRICE_ADDRESS = "updatePriceAddress";
+  public static final String DELETE_PRICE_ADDRESS = "deletePriceAddress";
+  public static final String PRICE_CHANGED_ADDRESS = "priceChangedAddress";
+  public static final String PRICES_IMPORTED_ADDRESS = "pricesImportedAddress";
 
-  public PricePersistencePort(){
+  private final Channel<PriceFilter, List<Price>> getPriceByProperties =
+      channel(GET_PRICE_BY_PROPERTIES_ADDRESS);
+  private final Channel<PriceFilter, Optional<PriceSegment>> getPriceSegment =
+      channel(GET_PRICE_SEGMENT_ADDRESS);
+  private final Channel<PriceWindow, List<Price>> getPricesInWindow =
+      channel(GET_PRICES_IN_WINDOW_ADDRESS);
+  private final Channel<List<PriceFilter>, Map<PriceFilter, List<Price>>> getPricesByFilters =
+      channel(GET_PRICES_BY_FILTERS_ADDRESS);
+  private final Channel<PriceProductsFilter, Map<Integer, Price>> getPricesByProducts =
+      channel(GET_PRICES_BY_PRODUCTS_ADDRESS);
+  private final Channel<PriceImport, PriceImportReport> importPrices =
+      channel(IMPORT_PRICES_ADDRESS);
+  private final Channel<PriceExport, Long> exportPrices = channel(EXPORT_PRICES_ADDRESS);
+  private final Channel<Price, List<PriceChange>> createPrice = channel(CREATE_PRICE_ADDRESS);
+  private final Channel<StoredPrice, List<PriceChange>> updatePrice = channel(UPDATE_PRICE_ADDRESS);
+  private final Channel<Long, List<PriceChange>> deletePrice = channel(DELETE_PRICE_ADDRESS);
+  private final Channel<PriceChange, Void> priceChanged = channel(PRICE_CHANGED_ADDRESS);
+
+  private final Executor executor;
+
+  public PricePersistencePort(OutboundPort outboundPort) {
+    this.executor = outboundPort.executor();
+  }
+
+  /**
+   * The winning price for the filter, as a list of at most one element.
+   */
+  public List<Price> getTopPriceByProperties(PriceFilter filter) {
+    return getPriceByProperties.request(filter);
   }
 
-  public List<Price> getAllPricesByProperties(PriceFilter filter) {
-    return requestEvent(new Message<>(GET_PRICE_BY_PROPERTIES_ADDRESS, filter));
+  public CompletableFuture<List<Price>> getTopPriceByPropertiesAsync(PriceFilter filter) {
+    return getPriceByProperties.requestAsync(filter, executor);
   }
 
-}
\ No newline at end of file
+  public Optional<PriceSegment> getPriceSegment(PriceFilter filter) {
+    return getPriceSegment.request(filter);
+  }
+
+  public Mono<PriceSegment> getPriceSegmentReactive(PriceFilter filter) {
+    return getPriceSegment.requestReactive(filter, executor).flatMap(Mono::justOrEmpty);
+  }
+
+  public List<Price> getPricesInWindow(PriceWindow window) {
+    return getPricesInWindow.request(window);
+  }
+
+  public Map<PriceFilter, List<Price>> getAllPricesByFilters(List<PriceFilter> filters) {
+    return getPricesByFilters.request(filters);
+  }
+
+  public Map<Integer, Price> getTopPricesByProducts(PriceProductsFilter filter) {
+    return getPricesByProducts.request(filter);
+  }
+
+  public PriceImportReport importPrices(PriceImport priceImport) {
+    return importPrices.request(priceImport);
+  }
+
+  public Long exportPrices(PriceExport priceExport) {
+    return exportPrices.request(priceExport);
+  }
+
+  public List<PriceChange> createPrice(Price price) {
+    return createPrice.request(price);
+  }
+
+  /**
+   * Replaces the stored price; the result is empty when no price has that id.
+   */
+  public List<PriceChange> updatePrice(StoredPrice storedPrice) {
+    return updatePrice.request(storedPrice);
+  }
+
+  /**
+   * Removes the stored price; the result is empty when no price has that id.
+   */
+  public List<PriceChange> deletePrice(Long id) {
+    return deletePrice.request(id);
+  }
+
+  public void publishPriceChange(PriceChange change) {
+    priceChanged.publish(change);
+  }
+}
@@ -0,0 +1,16 @@
+package es.sujes71.api.price.infrastructure.cache;
+
+public record PriceCacheStats(
+    long hits,
+    long misses,
+    long evictions,
+    long entries,
+    long estimatedBytes,
+    long maxBytes
+) {
+
+  public double hitRate() {
+    long requests = hits + misses;
+    return requests == 0 ? 0.0 : (double) hits / requests;
+  }
+}
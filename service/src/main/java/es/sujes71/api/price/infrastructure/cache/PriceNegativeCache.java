@@ -0,0 +1,158 @@
+package es.sujes71.api.price.infrastructure.cache;
+
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.GET_PRICE_BY_PROPERTIES_ADDRESS;
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.GET_PRICE_SEGMENT_ADDRESS;
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.GET_PRICE_TIMELINE_BY_KEY_ADDRESS;
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.PRICES_IMPORTED_ADDRESS;
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.PRICE_CHANGED_ADDRESS;
+import static es.sujes71.shared.domain.ports.outbound.OutboundPort.channel;
+import static es.sujes71.shared.domain.ports.outbound.OutboundPort.subscribe;
+
+import es.sujes71.api.price.domain.model.Price;
+import es.sujes71.api.price.domain.model.PriceChange;
+import es.sujes71.api.price.domain.model.PriceFilter;
+import es.sujes71.api.price.domain.model.PriceKey;
+import es.sujes71.api.price.domain.model.PriceSegment;
+import es.sujes71.api.price.domain.model.PriceTimeline;
+import es.sujes71.api.price.domain.model.PricesImported;
+import es.sujes71.shared.domain.ports.outbound.OutboundPort;
+import es.sujes71.shared.domain.ports.outbound.OutboundPort.Channel;
+import es.sujes71.shared.domain.ports.outbound.OutboundPort.ChannelDecorator;
+import es.sujes71.shared.domain.ports.outbound.OutboundPort.EventHandler;
+import es.sujes71.shared.domain.ports.outbound.OutboundPort.ReactiveEventHandler;
+import es.sujes71.shared.infrastructure.cache.NegativeCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Outermost lookup decorator. A miss remembers the whole gap around its date, or the whole product
+ * when it has no prices, so later lookups nearby skip the backend.
+ */
+@Component
+@ConditionalOnProperty(name = "commerce.price.negative-cache.enabled", havingValue = "true")
+public class PriceNegativeCache implements MeterBinder {
+
+  public static final String DECORATOR = "priceNegativeCache";
+  public static final int DECORATOR_ORDER = 100;
+  public static final String NAME = "priceLookups";
+  // Listens after the read models, so a miss cannot be recorded against a backend not yet refreshed.
+  public static final int LISTENER_ORDER = 2;
+
+  private final OutboundPort outboundPort;
+  private final NegativeCache<PriceKey, LocalDateTime> absentPrices;
+  private final Channel<PriceKey, PriceTimeline> getTimelineByKey =
+      channel(GET_PRICE_TIMELINE_BY_KEY_ADDRESS);
+
+  public PriceNegativeCache(OutboundPort outboundPort,
+      @Value("${commerce.price.negative-cache.max-entries:100000}") long maxEntries,
+      @Value("${commerce.price.negative-cache.ttl-ms:60000}") long ttlMillis) {
+    this.outboundPort = outboundPort;
+    this.absentPrices = new NegativeCache<>(NAME, maxEntries,
+        Duration.ofMillis(ttlMillis));
+  }
+
+  @PostConstruct
+  public void start() {
+    outboundPort.<PriceFilter, List<Price>>decorate(GET_PRICE_BY_PROPERTIES_ADDRESS, DECORATOR,
+        DECORATOR_ORDER, new AbsenceDecorator<>(List.of(), List::isEmpty));
+    outboundPort.<PriceFilter, Optional<PriceSegment>>decorate(GET_PRICE_SEGMENT_ADDRESS, DECORATOR,
+        DECORATOR_ORDER, new AbsenceDecorator<>(Optional.empty(), Optional::isEmpty));
+    subscribe(PRICE_CHANGED_ADDRESS, DECORATOR, LISTENER_ORDER,
+        (PriceChange change) -> absentPrices.invalidate(change.getKey()));
+    subscribe(PRICES_IMPORTED_ADDRESS, DECORATOR, LISTENER_ORDER,
+        (PricesImported imported) -> absentPrices.invalidateAll());
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    absentPrices.bindTo(registry);
+  }
+
+  /**
+   * Answers known misses with {@code empty} and records the gap around lookups whose result
+   * {@code isEmpty}, unless a change was published while they ran.
+   */
+  private final class AbsenceDecorator<R> implements ChannelDecorator<PriceFilter, R> {
+
+    private final R empty;
+    private final Predicate<R> isEmpty;
+
+    private AbsenceDecorator(R empty, Predicate<R> isEmpty) {
+      this.empty = empty;
+      this.isEmpty = isEmpty;
+    }
+
+    @Override
+    public EventHandler<PriceFilter, R> decorate(EventHandler<PriceFilter, R> handler) {
+      return filter -> {
+        if (isKnownAbsent(filter)) {
+          return empty;
+        }
+        long generation = absentPrices.generation();
+        R result = handler.handle(filter);
+        if (isEmpty.test(result)) {
+          recordAbsent(filter, generation);
+        }
+        return result;
+      };
+    }
+
+    @Override
+    public ReactiveEventHandler<PriceFilter, R> decorateReactive(
+        ReactiveEventHandler<PriceFilter, R> handler) {
+      return filter -> {
+        if (isKnownAbsent(filter)) {
+          return Mono.just(empty);
+        }
+        long generation = absentPrices.generation();
+        return handler.handle(filter).flatMap(result -> isEmpty.test(result)
+            ? recordAbsentReactive(filter, generation).thenReturn(result)
+            : Mono.just(result));
+      };
+    }
+  }
+
+  private boolean isKnownAbsent(PriceFilter filter) {
+    return absentPrices.isAbsent(PriceKey.of(filter), filter.getApplicationDate());
+  }
+
+  /**
+   * Failing to load the timeline only means the miss is not remembered, so errors are dropped.
+   */
+  private void recordAbsent(PriceFilter filter, long generation) {
+    PriceKey key = PriceKey.of(filter);
+    try {
+      recordGap(key, filter.getApplicationDate(), getTimelineByKey.request(key), generation);
+    } catch (RuntimeException e) {
+      // the lookup's own result stands
+    }
+  }
+
+  private Mono<Void> recordAbsentReactive(PriceFilter filter, long generation) {
+    PriceKey key = PriceKey.of(filter);
+    return getTimelineByKey.requestReactive(key, outboundPort.executor())
+        .doOnNext(timeline -> recordGap(key, filter.getApplicationDate(), timeline, generation))
+        .onErrorResume(RuntimeException.class, e -> Mono.empty())
+        .then();
+  }
+
+  private void recordGap(PriceKey key, LocalDateTime date, PriceTimeline timeline,
+      long generation) {
+    if (timeline.isEmpty()) {
+      absentPrices.recordAbsent(key, null, null, generation);
+      return;
+    }
+    timeline.gapAt(date).ifPresent(
+        gap -> absentPrices.recordAbsent(key, gap.from(), gap.until(), generation));
+  }
+}
@@ -0,0 +1,191 @@
+package es.sujes71.api.price.infrastructure.cache;
+
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.GET_PRICE_BY_PROPERTIES_ADDRESS;
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.GET_PRICE_SEGMENT_ADDRESS;
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.GET_PRICE_TIMELINE_BY_KEY_ADDRESS;
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.PRICES_IMPORTED_ADDRESS;
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.PRICE_CHANGED_ADDRESS;
+import static es.sujes71.shared.domain.ports.outbound.OutboundPort.channel;
+import static es.sujes71.shared.domain.ports.outbound.OutboundPort.subscribe;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import es.sujes71.api.price.domain.model.Price;
+import es.sujes71.api.price.domain.model.PriceChange;
+import es.sujes71.api.price.domain.model.PriceFilter;
+import es.sujes71.api.price.domain.model.PriceKey;
+import es.sujes71.api.price.domain.model.PriceSegment;
+import es.sujes71.api.price.domain.model.PriceTimeline;
+import es.sujes71.api.price.domain.model.PricesImported;
+import es.sujes71.shared.domain.metrics.Stage;
+import es.sujes71.shared.domain.ports.outbound.OutboundPort;
+import es.sujes71.shared.domain.ports.outbound.OutboundPort.Channel;
+import es.sujes71.shared.domain.ports.outbound.OutboundPort.ChannelDecorator;
+import es.sujes71.shared.domain.ports.outbound.OutboundPort.EventHandler;
+import es.sujes71.shared.domain.ports.outbound.OutboundPort.ReactiveEventHandler;
+import es.sujes71.shared.infrastructure.metrics.StageMetrics;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Caches the {@link PriceTimeline} of each (brand, product), so a cached key answers any date.
+ * Reactive misses load on the outbound executor.
+ */
+@Component
+@ConditionalOnProperty(name = "commerce.price.cache.enabled", havingValue = "true")
+public class PriceSegmentCache implements MeterBinder {
+
+  public static final String DECORATOR = "priceSegmentCache";
+  public static final int DECORATOR_ORDER = 200;
+  // Listens after the read models, so a miss cannot reload a key from a backend not yet refreshed.
+  public static final int LISTENER_ORDER = 2;
+
+  // Rough retained size of a cached key (cache node, key and timeline arrays) and of each segment
+  // in it: two boundaries, the price with its four LocalDateTime, a BigDecimal and the currency.
+  private static final int ENTRY_BYTES = 160;
+  private static final int SEGMENT_BYTES = 480;
+
+  private final OutboundPort outboundPort;
+  private final long maxBytes;
+  private final Cache<PriceKey, PriceTimeline> timelines;
+  private final Channel<PriceKey, PriceTimeline> getTimelineByKey =
+      channel(GET_PRICE_TIMELINE_BY_KEY_ADDRESS);
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final Scheduler loads;
+
+  public PriceSegmentCache(OutboundPort outboundPort,
+      @Value("${commerce.price.cache.max-bytes:67108864}") long maxBytes) {
+    this.outboundPort = outboundPort;
+    this.maxBytes = maxBytes;
+    this.timelines = Caffeine.newBuilder()
+        .maximumWeight(maxBytes)
+        .weigher((PriceKey key, PriceTimeline timeline) -> ENTRY_BYTES + timeline.size() * SEGMENT_BYTES)
+        .recordStats()
+        .build();
+    this.loads = Schedulers.fromExecutor(outboundPort.executor());
+  }
+
+  @PostConstruct
+  public void start() {
+    outboundPort.decorate(GET_PRICE_BY_PROPERTIES_ADDRESS, DECORATOR, DECORATOR_ORDER,
+        new TimelineDecorator<>(PriceSegmentCache::priceAt));
+    outboundPort.decorate(GET_PRICE_SEGMENT_ADDRESS, DECORATOR, DECORATOR_ORDER,
+        new TimelineDecorator<>(PriceSegmentCache::segmentAt));
+    subscribe(PRICE_CHANGED_ADDRESS, DECORATOR, LISTENER_ORDER,
+        (PriceChange change) -> invalidate(change.getKey()));
+    subscribe(PRICES_IMPORTED_ADDRESS, DECORATOR, LISTENER_ORDER,
+        (PricesImported imported) -> invalidateAll());
+  }
+
+  public List<Price> findAllByProperties(PriceFilter filter) {
+    return priceAt(timeline(PriceKey.of(filter)), filter.getApplicationDate());
+  }
+
+  public Optional<PriceSegment> findSegmentByProperties(PriceFilter filter) {
+    return segmentAt(timeline(PriceKey.of(filter)), filter.getApplicationDate());
+  }
+
+  private static List<Price> priceAt(PriceTimeline timeline, LocalDateTime date) {
+    return timeline.priceAt(date).map(List::of).orElseGet(List::of);
+  }
+
+  private static Optional<PriceSegment> segmentAt(PriceTimeline timeline, LocalDateTime date) {
+    long startedAt = System.nanoTime();
+    Optional<PriceSegment> segment = timeline.segmentAt(date);
+    StageMetrics.record(Stage.SELECTION, System.nanoTime() - startedAt);
+    return segment;
+  }
+
+  /**
+   * Evicting a key also discards a load of it still in flight, which could predate the change.
+   */
+  public void invalidate(PriceKey key) {
+    timelines.invalidate(key);
+  }
+
+  public void invalidateAll() {
+    timelines.invalidateAll();
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionCounter.builder("commerce.price.cache.hits", hits, LongAdder::sum).register(registry);
+    FunctionCounter.builder("commerce.price.cache.misses", misses, LongAdder::sum).register(registry);
+    FunctionCounter.builder("commerce.price.cache.evictions", timelines,
+        cache -> cache.stats().evictionCount()).register(registry);
+    Gauge.builder("commerce.price.cache.entries", timelines, Cache::estimatedSize).register(registry);
+    Gauge.builder("commerce.price.cache.estimated.bytes", this, PriceSegmentCache::estimatedBytes)
+        .baseUnit("bytes")
+        .register(registry);
+  }
+
+  public PriceCacheStats stats() {
+    return new PriceCacheStats(
+        hits.sum(),
+        misses.sum(),
+        timelines.stats().evictionCount(),
+        timelines.estimatedSize(),
+        estimatedBytes(),
+        maxBytes);
+  }
+
+  private PriceTimeline timeline(PriceKey key) {
+    PriceTimeline timeline = timelines.getIfPresent(key);
+    if (timeline != null) {
+      hits.increment();
+      return timeline;
+    }
+    misses.increment();
+    return timelines.get(key, getTimelineByKey::request);
+  }
+
+  private final class TimelineDecorator<R> implements ChannelDecorator<PriceFilter, R> {
+
+    private final BiFunction<PriceTimeline, LocalDateTime, R> resolve;
+
+    private TimelineDecorator(BiFunction<PriceTimeline, LocalDateTime, R> resolve) {
+      this.resolve = resolve;
+    }
+
+    @Override
+    public EventHandler<PriceFilter, R> decorate(EventHandler<PriceFilter, R> handler) {
+      return filter -> resolve.apply(timeline(PriceKey.of(filter)), filter.getApplicationDate());
+    }
+
+    @Override
+    public ReactiveEventHandler<PriceFilter, R> decorateReactive(
+        ReactiveEventHandler<PriceFilter, R> handler) {
+      return filter -> {
+        PriceKey key = PriceKey.of(filter);
+        PriceTimeline cached = timelines.getIfPresent(key);
+        if (cached != null) {
+          hits.increment();
+          return Mono.fromSupplier(() -> resolve.apply(cached, filter.getApplicationDate()));
+        }
+        return Mono.fromSupplier(() -> resolve.apply(timeline(key), filter.getApplicationDate()))
+            .subscribeOn(loads);
+      };
+    }
+  }
+
+  private long estimatedBytes() {
+    return timelines.policy().eviction()
+        .map(eviction -> eviction.weightedSize().orElse(0))
+        .orElse(0L);
+  }
+}
@@ -0,0 +1,94 @@
+package es.sujes71.api.price.infrastructure.concurrency;
+
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.EXPORT_PRICES_ADDRESS;
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.GET_PRICES_BY_FILTERS_ADDRESS;
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.GET_PRICES_BY_PRODUCTS_ADDRESS;
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.GET_PRICES_IN_WINDOW_ADDRESS;
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.GET_PRICE_BY_PROPERTIES_ADDRESS;
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.GET_PRICE_SEGMENT_ADDRESS;
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.GET_PRICE_TIMELINE_BY_KEY_ADDRESS;
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.IMPORT_PRICES_ADDRESS;
+
+import es.sujes71.shared.domain.ports.outbound.OutboundPort;
+import es.sujes71.shared.domain.ports.outbound.OutboundPort.ChannelDecorator;
+import es.sujes71.shared.domain.ports.outbound.OutboundPort.EventHandler;
+import es.sujes71.shared.domain.ports.outbound.OutboundPort.ReactiveEventHandler;
+import es.sujes71.shared.infrastructure.concurrency.AdaptiveConcurrencyLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Innermost lookup decorator, so cache hits and coalesced followers take no slot. Bulk traffic has
+ * its own bulkheads so it cannot starve single lookups. Writes are not limited.
+ */
+@Component
+@ConditionalOnProperty(name = "commerce.price.limiter.enabled", havingValue = "true")
+@EnableConfigurationProperties(PriceLimiterProperties.class)
+public class PriceBulkheads implements MeterBinder {
+
+  public static final String LOOKUP_BULKHEAD = "lookup";
+  public static final String BULK_BULKHEAD = "bulk";
+  public static final String EXPORT_BULKHEAD = "export";
+
+  public static final String DECORATOR = "priceBulkheads";
+  public static final int DECORATOR_ORDER = 400;
+
+  private final OutboundPort outboundPort;
+  private final AdaptiveConcurrencyLimiter lookupLimiter;
+  private final AdaptiveConcurrencyLimiter bulkLimiter;
+  private final AdaptiveConcurrencyLimiter exportLimiter;
+
+  public PriceBulkheads(OutboundPort outboundPort, PriceLimiterProperties properties) {
+    this.outboundPort = outboundPort;
+    this.lookupLimiter = new AdaptiveConcurrencyLimiter(LOOKUP_BULKHEAD,
+        properties.lookup().maxConcurrency(), properties.lookup().latencyThresholdMs(),
+        properties.maxWaitMs(), properties.retryAfterSeconds());
+    this.bulkLimiter = new AdaptiveConcurrencyLimiter(BULK_BULKHEAD,
+        properties.bulk().maxConcurrency(), 0,
+        properties.maxWaitMs(), properties.retryAfterSeconds());
+    this.exportLimiter = new AdaptiveConcurrencyLimiter(EXPORT_BULKHEAD,
+        properties.export().maxConcurrency(), 0,
+        properties.maxWaitMs(), properties.retryAfterSeconds());
+  }
+
+  @PostConstruct
+  public void start() {
+    limit(lookupLimiter, GET_PRICE_BY_PROPERTIES_ADDRESS, GET_PRICE_SEGMENT_ADDRESS,
+        GET_PRICE_TIMELINE_BY_KEY_ADDRESS, GET_PRICES_IN_WINDOW_ADDRESS);
+    limit(bulkLimiter, GET_PRICES_BY_FILTERS_ADDRESS, GET_PRICES_BY_PRODUCTS_ADDRESS,
+        IMPORT_PRICES_ADDRESS);
+    limit(exportLimiter, EXPORT_PRICES_ADDRESS);
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    lookupLimiter.bindTo(registry);
+    bulkLimiter.bindTo(registry);
+    exportLimiter.bindTo(registry);
+  }
+
+  private void limit(AdaptiveConcurrencyLimiter limiter, String... addresses) {
+    for (String address : addresses) {
+      outboundPort.decorate(address, DECORATOR, DECORATOR_ORDER, new Bulkhead(limiter));
+    }
+  }
+
+  private record Bulkhead(AdaptiveConcurrencyLimiter limiter)
+      implements ChannelDecorator<Object, Object> {
+
+    @Override
+    public EventHandler<Object, Object> decorate(EventHandler<Object, Object> handler) {
+      return body -> limiter.execute(() -> handler.handle(body));
+    }
+
+    @Override
+    public ReactiveEventHandler<Object, Object> decorateReactive(
+        ReactiveEventHandler<Object, Object> handler) {
+      return body -> limiter.executeReactive(() -> handler.handle(body));
+    }
+  }
+}
@@ -0,0 +1,39 @@
+package es.sujes71.api.price.infrastructure.concurrency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * {@code commerce.price.limiter.*}: sizes of the {@link PriceBulkheads} and how long a call waits
+ * for a slot before it is rejected.
+ */
+@ConfigurationProperties("commerce.price.limiter")
+public record PriceLimiterProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue Lookup lookup,
+    @DefaultValue Bulk bulk,
+    @DefaultValue Export export,
+    @DefaultValue("0") long maxWaitMs,
+    @DefaultValue("1") long retryAfterSeconds) {
+
+  /**
+   * Adaptive limit for single lookups, cut when a call takes longer than
+   * {@code latencyThresholdMs}.
+   */
+  public record Lookup(
+      @DefaultValue("64") int maxConcurrency,
+      @DefaultValue("50") long latencyThresholdMs) {
+  }
+
+  /**
+   * Fixed bulkhead for batch, listing and import calls.
+   */
+  public record Bulk(@DefaultValue("4") int maxConcurrency) {
+  }
+
+  /**
+   * Fixed bulkhead for exports, which hold their slot for the whole stream.
+   */
+  public record Export(@DefaultValue("2") int maxConcurrency) {
+  }
+}
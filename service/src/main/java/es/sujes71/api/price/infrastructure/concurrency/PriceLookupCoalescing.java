@@ -0,0 +1,132 @@
+package es.sujes71.api.price.infrastructure.concurrency;
+
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.GET_PRICE_BY_PROPERTIES_ADDRESS;
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.GET_PRICE_SEGMENT_ADDRESS;
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.PRICES_IMPORTED_ADDRESS;
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.PRICE_CHANGED_ADDRESS;
+import static es.sujes71.shared.domain.ports.outbound.OutboundPort.subscribe;
+
+import es.sujes71.api.price.domain.model.Price;
+import es.sujes71.api.price.domain.model.PriceChange;
+import es.sujes71.api.price.domain.model.PriceFilter;
+import es.sujes71.api.price.domain.model.PriceKey;
+import es.sujes71.api.price.domain.model.PriceSegment;
+import es.sujes71.api.price.domain.model.PricesImported;
+import es.sujes71.shared.domain.ports.outbound.OutboundPort;
+import es.sujes71.shared.domain.ports.outbound.OutboundPort.ChannelDecorator;
+import es.sujes71.shared.domain.ports.outbound.OutboundPort.EventHandler;
+import es.sujes71.shared.domain.ports.outbound.OutboundPort.ReactiveEventHandler;
+import es.sujes71.shared.infrastructure.concurrency.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Joins overlapping identical lookups. Segment lookups join per (brand, product) and a follower
+ * reuses the leader's segment only when it covers its date. Writes drop the flights they affect.
+ */
+@Component
+@ConditionalOnProperty(name = "commerce.price.coalescing.enabled", havingValue = "true")
+public class PriceLookupCoalescing implements MeterBinder {
+
+  public static final String DECORATOR = "priceLookupCoalescing";
+  public static final int DECORATOR_ORDER = 300;
+  public static final int LISTENER_ORDER = 1;
+
+  private final OutboundPort outboundPort;
+  private final SingleFlight<PriceFilter, List<Price>> priceByPropertiesFlights;
+  private final SingleFlight<PriceKey, ResolvedSegment> priceSegmentFlights;
+
+  public PriceLookupCoalescing(OutboundPort outboundPort,
+      @Value("${commerce.price.coalescing.window-ms:0}") long windowMillis) {
+    this.outboundPort = outboundPort;
+    this.priceByPropertiesFlights = new SingleFlight<>(GET_PRICE_BY_PROPERTIES_ADDRESS, windowMillis);
+    this.priceSegmentFlights = new SingleFlight<>(GET_PRICE_SEGMENT_ADDRESS, windowMillis);
+  }
+
+  @PostConstruct
+  public void start() {
+    outboundPort.decorate(GET_PRICE_BY_PROPERTIES_ADDRESS, DECORATOR, DECORATOR_ORDER,
+        new PriceByPropertiesDecorator());
+    outboundPort.decorate(GET_PRICE_SEGMENT_ADDRESS, DECORATOR, DECORATOR_ORDER,
+        new PriceSegmentDecorator());
+    subscribe(PRICE_CHANGED_ADDRESS, DECORATOR, LISTENER_ORDER,
+        (PriceChange change) -> forget(change.getKey()));
+    subscribe(PRICES_IMPORTED_ADDRESS, DECORATOR, LISTENER_ORDER,
+        (PricesImported imported) -> forgetAll());
+  }
+
+  public void forget(PriceKey key) {
+    priceByPropertiesFlights.forget(filter -> PriceKey.of(filter).equals(key));
+    priceSegmentFlights.forget(key::equals);
+  }
+
+  public void forgetAll() {
+    priceByPropertiesFlights.forgetAll();
+    priceSegmentFlights.forgetAll();
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    priceByPropertiesFlights.bindTo(registry);
+    priceSegmentFlights.bindTo(registry);
+  }
+
+  private final class PriceByPropertiesDecorator
+      implements ChannelDecorator<PriceFilter, List<Price>> {
+
+    @Override
+    public EventHandler<PriceFilter, List<Price>> decorate(
+        EventHandler<PriceFilter, List<Price>> handler) {
+      return filter -> priceByPropertiesFlights.execute(filter, () -> handler.handle(filter));
+    }
+
+    @Override
+    public ReactiveEventHandler<PriceFilter, List<Price>> decorateReactive(
+        ReactiveEventHandler<PriceFilter, List<Price>> handler) {
+      return filter -> priceByPropertiesFlights.executeReactive(filter,
+          () -> handler.handle(filter), prices -> true);
+    }
+  }
+
+  private final class PriceSegmentDecorator
+      implements ChannelDecorator<PriceFilter, Optional<PriceSegment>> {
+
+    @Override
+    public EventHandler<PriceFilter, Optional<PriceSegment>> decorate(
+        EventHandler<PriceFilter, Optional<PriceSegment>> handler) {
+      return filter -> {
+        LocalDateTime date = filter.getApplicationDate();
+        return priceSegmentFlights.execute(PriceKey.of(filter),
+                () -> new ResolvedSegment(date, handler.handle(filter)),
+                resolved -> resolved.appliesTo(date))
+            .segment();
+      };
+    }
+
+    @Override
+    public ReactiveEventHandler<PriceFilter, Optional<PriceSegment>> decorateReactive(
+        ReactiveEventHandler<PriceFilter, Optional<PriceSegment>> handler) {
+      return filter -> {
+        LocalDateTime date = filter.getApplicationDate();
+        return priceSegmentFlights.executeReactive(PriceKey.of(filter),
+                () -> handler.handle(filter).map(segment -> new ResolvedSegment(date, segment)),
+                resolved -> resolved.appliesTo(date))
+            .map(ResolvedSegment::segment);
+      };
+    }
+  }
+
+  private record ResolvedSegment(LocalDateTime date, Optional<PriceSegment> segment) {
+
+    boolean appliesTo(LocalDateTime other) {
+      return date.equals(other) || segment.filter(resolved -> resolved.contains(other)).isPresent();
+    }
+  }
+}
@@ -1,17 +1,37 @@
 package es.sujes71.api.price.infrastructure.repository;
 
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.GET_PRICES_BY_FILTERS_ADDRESS;
 import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.GET_PRICE_BY_PROPERTIES_ADDRESS;
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.GET_PRICES_BY_PRODUCTS_ADDRESS;
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.GET_PRICES_IN_WINDOW_ADDRESS;
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.GET_PRICE_SEGMENT_ADDRESS;
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.GET_PRICE_TIMELINE_BY_KEY_ADDRESS;
 import static es.sujes71.shared.domain.ports.outbound.OutboundPort.register;
 
 import es.sujes71.api.price.domain.model.Price;
 import es.sujes71.api.price.domain.model.PriceFilter;
+import es.sujes71.api.price.domain.model.PriceKey;
+import es.sujes71.api.price.domain.model.PriceProductsFilter;
+import es.sujes71.api.price.domain.model.PriceSegment;
+import es.sujes71.api.price.domain.model.PriceTimeline;
+import es.sujes71.api.price.domain.model.PriceWindow;
 import es.sujes71.api.price.infrastructure.repository.h2.dao.PriceDao;
+import es.sujes71.api.price.infrastructure.repository.h2.dao.PriceLookupDao;
 import es.sujes71.api.price.infrastructure.repository.h2.entity.PriceEntity;
+import es.sujes71.shared.domain.ports.outbound.OutboundPort.EventHandler;
+import es.sujes71.shared.infrastructure.jdbc.DataSourceRouting;
 import jakarta.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -19,17 +39,44 @@ public class PriceRepository {
 
   private static final Logger log = LogManager.getLogger(PriceRepository.class);
 
+  private static final String JDBC_PERSISTENCE = "jdbc";
+
   private final PriceDao priceDao;
+  private final PriceLookupDao priceLookupDao;
+  private final String persistence;
 
-  public PriceRepository(PriceDao priceDao) {
+  public PriceRepository(PriceDao priceDao, PriceLookupDao priceLookupDao,
+      @Value("${commerce.price.persistence:" + JDBC_PERSISTENCE + "}") String persistence) {
     this.priceDao = priceDao;
+    this.priceLookupDao = priceLookupDao;
+    this.persistence = persistence;
   }
 
   @PostConstruct
   public void start() {
-    register(GET_PRICE_BY_PROPERTIES_ADDRESS, this::findAllByProperties);
+    if (JDBC_PERSISTENCE.equals(persistence)) {
+      register(GET_PRICE_BY_PROPERTIES_ADDRESS, onReplica(this::findTopByProperties));
+      register(GET_PRICE_SEGMENT_ADDRESS, onReplica(this::findSegmentByProperties));
+      // Timelines feed the caches, which keep what they load until the next change, so they are
+      // read from the primary rather than from a replica that may not have that change yet.
+      register(GET_PRICE_TIMELINE_BY_KEY_ADDRESS, this::findTimelineByKey);
+    }
+    register(GET_PRICES_IN_WINDOW_ADDRESS, onReplica(this::findAllInWindow));
+    register(GET_PRICES_BY_FILTERS_ADDRESS, onReplica(this::findAllByFilters));
+    register(GET_PRICES_BY_PRODUCTS_ADDRESS, onReplica(this::findTopByProducts));
+  }
+
+  /**
+   * Lookups tolerate replication lag, so they may be served by a read replica when routing is on.
+   */
+  private static <B, R> EventHandler<B, R> onReplica(EventHandler<B, R> handler) {
+    return body -> DataSourceRouting.read(() -> handler.handle(body));
   }
 
+  /**
+   * Every candidate containing the date, left to the caller to rank. No channel routes here; it is
+   * kept as the baseline the top-1 lookup is benchmarked against.
+   */
   public List<Price> findAllByProperties(PriceFilter filter) {
     try {
       List<PriceEntity> priceEntities = priceDao.findAllByProperties(
@@ -39,18 +86,120 @@ public class PriceRepository {
       );
 
       if (!priceEntities.isEmpty()) {
-        log.info("Found {} prices for filter: {}", priceEntities.size(), filter);
+        log.debug("Found {} prices for filter: {}", priceEntities::size, () -> filter);
 
         return priceEntities.stream()
             .map(PriceEntity::toDomain)
             .collect(Collectors.toList());
       }
 
-      log.info("No prices found for filter: {}", filter);
+      log.debug("No prices found for filter: {}", () -> filter);
       return List.of();
     } catch (Exception error) {
       log.error("Error finding prices: {}", error.getMessage());
       throw error;
     }
   }
+
+  public List<Price> findTopByProperties(PriceFilter filter) {
+    try {
+      return priceLookupDao.findTopByProperties(
+              filter.getBrandId(), filter.getProductId(), filter.getApplicationDate())
+          .map(List::of)
+          .orElseGet(List::of);
+    } catch (Exception error) {
+      log.error("Error finding top price: {}", error.getMessage());
+      throw error;
+    }
+  }
+
+  public Optional<PriceSegment> findSegmentByProperties(PriceFilter filter) {
+    try {
+      return priceLookupDao.findSegmentByProperties(
+          filter.getBrandId(), filter.getProductId(), filter.getApplicationDate());
+    } catch (Exception error) {
+      log.error("Error finding price segment: {}", error.getMessage());
+      throw error;
+    }
+  }
+
+  public PriceTimeline findTimelineByKey(PriceKey key) {
+    try {
+      return PriceTimeline.of(priceDao.findAllByBrandAndProduct(key.brandId(), key.productId()).stream()
+          .map(PriceEntity::toDomain)
+          .toList());
+    } catch (Exception error) {
+      log.error("Error finding price timeline: {}", error.getMessage());
+      throw error;
+    }
+  }
+
+  public List<Price> findAllInWindow(PriceWindow window) {
+    try {
+      return priceDao.findAllByBrandAndProductBetween(
+              window.getBrandId(), window.getProductId(), window.getFrom(), window.getTo())
+          .stream()
+          .map(PriceEntity::toDomain)
+          .toList();
+    } catch (Exception error) {
+      log.error("Error finding prices in window: {}", error.getMessage());
+      throw error;
+    }
+  }
+
+  public Map<Integer, Price> findTopByProducts(PriceProductsFilter filter) {
+    try {
+      Map<Integer, Price> prices = priceLookupDao.findTopByProducts(
+          filter.getBrandId(), filter.getProductIds(), filter.getApplicationDate());
+      log.debug("Resolved {} of {} products for brand {}",
+          prices::size, filter.getProductIds()::size, filter::getBrandId);
+      return prices;
+    } catch (Exception error) {
+      log.error("Error finding prices by products: {}", error.getMessage());
+      throw error;
+    }
+  }
+
+  public Map<PriceFilter, List<Price>> findAllByFilters(List<PriceFilter> filters) {
+    try {
+      Map<Integer, List<PriceFilter>> filtersByBrand = filters.stream()
+          .collect(Collectors.groupingBy(PriceFilter::getBrandId));
+
+      Map<PriceFilter, List<Price>> pricesByFilter = new HashMap<>(filters.size() * 2);
+      filtersByBrand.forEach((brandId, brandFilters) ->
+          pricesByFilter.putAll(findAllByBrandFilters(brandId, brandFilters)));
+
+      log.debug("Resolved {} filters across {} brands", filters::size, filtersByBrand::size);
+      return pricesByFilter;
+    } catch (Exception error) {
+      log.error("Error finding prices by filters: {}", error.getMessage());
+      throw error;
+    }
+  }
+
+  private Map<PriceFilter, List<Price>> findAllByBrandFilters(Integer brandId, List<PriceFilter> filters) {
+    LocalDateTime from = filters.getFirst().getApplicationDate();
+    LocalDateTime to = from;
+    for (PriceFilter filter : filters) {
+      from = filter.getApplicationDate().isBefore(from) ? filter.getApplicationDate() : from;
+      to = filter.getApplicationDate().isAfter(to) ? filter.getApplicationDate() : to;
+    }
+
+    List<Integer> productIds = filters.stream().map(PriceFilter::getProductId).distinct().toList();
+    Map<Integer, List<Price>> candidatesByProduct = new HashMap<>();
+    for (PriceEntity entity : priceDao.findAllByBrandAndProducts(brandId, productIds, from, to)) {
+      candidatesByProduct.computeIfAbsent(entity.getProductId(), productId -> new ArrayList<>())
+          .add(entity.toDomain());
+    }
+
+    Map<PriceFilter, List<Price>> pricesByFilter = new LinkedHashMap<>();
+    for (PriceFilter filter : filters) {
+      List<Price> prices = candidatesByProduct.getOrDefault(filter.getProductId(), List.of()).stream()
+          .filter(price -> !filter.getApplicationDate().isBefore(price.getStartDate())
+              && !filter.getApplicationDate().isAfter(price.getEndDate()))
+          .toList();
+      pricesByFilter.put(filter, prices);
+    }
+    return pricesByFilter;
+  }
 }
\ No newline at end of file
@@ -0,0 +1,100 @@
+package es.sujes71.api.price.infrastructure.repository.export;
+
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.EXPORT_PRICES_ADDRESS;
+import static es.sujes71.shared.domain.ports.outbound.OutboundPort.register;
+
+import es.sujes71.api.price.domain.model.Price;
+import es.sujes71.api.price.domain.model.PriceExport;
+import es.sujes71.api.price.domain.model.PriceExportItem;
+import es.sujes71.shared.infrastructure.jdbc.DataSourceRouting;
+import jakarta.annotation.PostConstruct;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Streams a brand's prices in id order without collecting them. The query runs in a read-only
+ * transaction with an explicit fetch size, which is what lets drivers such as PostgreSQL keep a
+ * server-side cursor open instead of buffering the whole result.
+ */
+@Repository
+public class PriceExportRepository {
+
+  private static final Logger log = LogManager.getLogger(PriceExportRepository.class);
+
+  private static final String SELECT_SQL = """
+      SELECT ID, BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR
+      FROM PRICES
+      WHERE BRAND_ID = ? AND ID > ?""";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+
+  public PriceExportRepository(DataSource dataSource, PlatformTransactionManager transactionManager,
+      @Value("${commerce.price.export.fetch-size:1000}") int fetchSize) {
+    this.jdbcTemplate = new JdbcTemplate(dataSource);
+    this.jdbcTemplate.setFetchSize(fetchSize);
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setReadOnly(true);
+  }
+
+  @PostConstruct
+  public void start() {
+    register(EXPORT_PRICES_ADDRESS, this::exportPrices);
+  }
+
+  public Long exportPrices(PriceExport export) {
+    StringBuilder sql = new StringBuilder(SELECT_SQL);
+    List<Object> args = new ArrayList<>(4);
+    args.add(export.getBrandId());
+    args.add(export.getAfter() != null ? export.getAfter() : 0L);
+    if (export.getFrom() != null) {
+      sql.append(" AND END_DATE >= ?");
+      args.add(Timestamp.valueOf(export.getFrom()));
+    }
+    if (export.getTo() != null) {
+      sql.append(" AND START_DATE <= ?");
+      args.add(Timestamp.valueOf(export.getTo()));
+    }
+    sql.append(" ORDER BY ID");
+
+    long[] exported = new long[1];
+    DataSourceRouting.read(() -> transactionTemplate.execute(status -> {
+      jdbcTemplate.query(sql.toString(),
+          resultSet -> {
+            export.getSink().accept(toItem(resultSet));
+            exported[0]++;
+          },
+          args.toArray());
+      return null;
+    }));
+    log.info("Exported {} prices for brand {}", exported[0], export.getBrandId());
+    return exported[0];
+  }
+
+  private static PriceExportItem toItem(ResultSet resultSet) throws SQLException {
+    return PriceExportItem.builder()
+        .id(resultSet.getLong(1))
+        .price(Price.builder()
+            .brandId(resultSet.getInt(2))
+            .startDate(resultSet.getTimestamp(3).toLocalDateTime())
+            .endDate(resultSet.getTimestamp(4).toLocalDateTime())
+            .priceList(resultSet.getInt(5))
+            .productId(resultSet.getInt(6))
+            .priority(resultSet.getInt(7))
+            .price(resultSet.getBigDecimal(8))
+            .currency(resultSet.getString(9))
+            .build())
+        .build();
+  }
+}
@@ -0,0 +1,35 @@
+package es.sujes71.api.price.infrastructure.repository.h2.dao;
+
+import es.sujes71.api.price.infrastructure.repository.h2.entity.EffectivePriceEntity;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jdbc.repository.query.Modifying;
+import org.springframework.data.jdbc.repository.query.Query;
+import org.springframework.data.repository.CrudRepository;
+
+public interface EffectivePriceDao extends CrudRepository<EffectivePriceEntity, Long> {
+
+  @Query("""
+    SELECT * FROM EFFECTIVE_PRICES
+    WHERE BRAND_ID = :brandId
+    AND PRODUCT_ID = :productId
+    AND FROM_DATE <= :applicationDate
+    ORDER BY FROM_DATE DESC
+    LIMIT 1
+    """)
+  Optional<EffectivePriceEntity> findLatestStartingAtOrBefore(Integer brandId, Integer productId,
+      LocalDateTime applicationDate);
+
+  @Query("""
+    SELECT * FROM EFFECTIVE_PRICES
+    WHERE BRAND_ID = :brandId
+    AND PRODUCT_ID = :productId
+    ORDER BY FROM_DATE
+    """)
+  List<EffectivePriceEntity> findAllByBrandAndProduct(Integer brandId, Integer productId);
+
+  @Modifying
+  @Query("DELETE FROM EFFECTIVE_PRICES WHERE BRAND_ID = :brandId AND PRODUCT_ID = :productId")
+  int deleteAllByBrandAndProduct(Integer brandId, Integer productId);
+}
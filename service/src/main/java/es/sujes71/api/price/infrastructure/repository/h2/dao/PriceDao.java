@@ -2,6 +2,7 @@ package es.sujes71.api.price.infrastructure.repository.h2.dao;
 
 import es.sujes71.api.price.infrastructure.repository.h2.entity.PriceEntity;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jdbc.repository.query.Query;
 import org.springframework.data.repository.CrudRepository;
@@ -15,4 +16,34 @@ public interface PriceDao extends CrudRepository<PriceEntity, Long> {
     AND :applicationDate BETWEEN START_DATE AND END_DATE
     """)
   List<PriceEntity> findAllByProperties(Integer brandId, Integer productId, LocalDateTime applicationDate);
+
+  @Query("""
+    SELECT * FROM PRICES
+    WHERE BRAND_ID = :brandId
+    AND PRODUCT_ID IN (:productIds)
+    AND START_DATE <= :to
+    AND END_DATE >= :from
+    ORDER BY ID
+    """)
+  List<PriceEntity> findAllByBrandAndProducts(Integer brandId, Collection<Integer> productIds,
+      LocalDateTime from, LocalDateTime to);
+
+  @Query("""
+    SELECT * FROM PRICES
+    WHERE BRAND_ID = :brandId
+    AND PRODUCT_ID = :productId
+    AND START_DATE <= :to
+    AND END_DATE >= :from
+    ORDER BY ID
+    """)
+  List<PriceEntity> findAllByBrandAndProductBetween(Integer brandId, Integer productId,
+      LocalDateTime from, LocalDateTime to);
+
+  @Query("""
+    SELECT * FROM PRICES
+    WHERE BRAND_ID = :brandId
+    AND PRODUCT_ID = :productId
+    ORDER BY ID
+    """)
+  List<PriceEntity> findAllByBrandAndProduct(Integer brandId, Integer productId);
 }
\ No newline at end of file
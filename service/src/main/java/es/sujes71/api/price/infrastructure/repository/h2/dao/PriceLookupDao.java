@@ -0,0 +1,176 @@
+package es.sujes71.api.price.infrastructure.repository.h2.dao;
+
+import es.sujes71.api.price.domain.model.Price;
+import es.sujes71.api.price.domain.model.PriceSegment;
+import es.sujes71.shared.domain.metrics.Stage;
+import es.sujes71.shared.infrastructure.metrics.StageMetrics;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Hand-written lookups for the request path. Ordering and the top-1 cut happen in the database, only
+ * the columns needed to build a {@link Price} are read, and rows are mapped by column index with no
+ * entity in between. The SQL text is constant, so the driver's per-session statement cache reuses
+ * the parsed statement across calls.
+ */
+@Repository
+public class PriceLookupDao {
+
+  private static final String FIND_TOP_BY_PROPERTIES = """
+      SELECT START_DATE, END_DATE, PRICE_LIST, PRIORITY, PRICE, CURR, ID
+      FROM PRICES
+      WHERE BRAND_ID = ?
+      AND PRODUCT_ID = ?
+      AND START_DATE <= ?
+      AND END_DATE >= ?
+      ORDER BY PRIORITY DESC, ID
+      LIMIT 1
+      """;
+
+  /**
+   * Winner per product in one pass: rows are ranked inside each product with the same order as the
+   * top-1 lookup and only the first of each partition is returned. The product list is bound as a
+   * single array parameter, so the SQL text stays constant for any number of products.
+   */
+  private static final String FIND_TOP_BY_PRODUCTS = """
+      SELECT START_DATE, END_DATE, PRICE_LIST, PRIORITY, PRICE, CURR, PRODUCT_ID
+      FROM (
+        SELECT START_DATE, END_DATE, PRICE_LIST, PRIORITY, PRICE, CURR, PRODUCT_ID,
+          ROW_NUMBER() OVER (PARTITION BY PRODUCT_ID ORDER BY PRIORITY DESC, ID) AS PRODUCT_RANK
+        FROM PRICES
+        WHERE BRAND_ID = ?
+        AND PRODUCT_ID = ANY(?)
+        AND START_DATE <= ?
+        AND END_DATE >= ?
+      ) RANKED
+      WHERE PRODUCT_RANK = 1
+      """;
+
+  /**
+   * Bounds of the stretch the winner holds: the last end of a higher-ranked price before the date
+   * and the first start of one after it, both clipped to the winner's own interval. It settles which
+   * stretch the winner holds against its competitors, so it is timed as selection.
+   */
+  private static final String FIND_SEGMENT_BOUNDS = """
+      SELECT
+        (SELECT MAX(END_DATE) FROM PRICES
+         WHERE BRAND_ID = ? AND PRODUCT_ID = ? AND END_DATE < ? AND END_DATE >= ?
+         AND (PRIORITY > ? OR (PRIORITY = ? AND ID < ?))),
+        (SELECT MIN(START_DATE) FROM PRICES
+         WHERE BRAND_ID = ? AND PRODUCT_ID = ? AND START_DATE > ? AND START_DATE <= ?
+         AND (PRIORITY > ? OR (PRIORITY = ? AND ID < ?)))
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public PriceLookupDao(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  public Optional<Price> findTopByProperties(int brandId, int productId, LocalDateTime applicationDate) {
+    return findTop(brandId, productId, applicationDate).map(Ranked::price);
+  }
+
+  public Optional<PriceSegment> findSegmentByProperties(int brandId, int productId,
+      LocalDateTime applicationDate) {
+    Optional<Ranked> top = findTop(brandId, productId, applicationDate);
+    if (top.isEmpty()) {
+      return Optional.empty();
+    }
+
+    Price price = top.get().price();
+    Timestamp date = Timestamp.valueOf(applicationDate);
+    long startedAt = System.nanoTime();
+    Object[] bounds = jdbcTemplate.queryForObject(FIND_SEGMENT_BOUNDS,
+        (resultSet, rowNum) -> new Object[]{resultSet.getTimestamp(1), resultSet.getTimestamp(2)},
+        brandId, productId, date, Timestamp.valueOf(price.getStartDate()),
+        price.getPriority(), price.getPriority(), top.get().id(),
+        brandId, productId, date, Timestamp.valueOf(price.getEndDate()),
+        price.getPriority(), price.getPriority(), top.get().id());
+    StageMetrics.record(Stage.SELECTION, System.nanoTime() - startedAt);
+
+    LocalDateTime from = price.getStartDate();
+    LocalDateTime until = price.getEndDate().plusNanos(1);
+    if (bounds[0] != null) {
+      from = ((Timestamp) bounds[0]).toLocalDateTime().plusNanos(1);
+    }
+    if (bounds[1] != null) {
+      until = ((Timestamp) bounds[1]).toLocalDateTime();
+    }
+    return Optional.of(PriceSegment.builder().from(from).until(until).price(price).build());
+  }
+
+  public Map<Integer, Price> findTopByProducts(int brandId, Collection<Integer> productIds,
+      LocalDateTime applicationDate) {
+    Timestamp date = Timestamp.valueOf(applicationDate);
+    Integer[] products = productIds.toArray(Integer[]::new);
+    Map<Integer, Price> prices = HashMap.newHashMap(products.length);
+    long[] mappingNanos = new long[1];
+    long startedAt = System.nanoTime();
+    jdbcTemplate.query(FIND_TOP_BY_PRODUCTS,
+        statement -> {
+          statement.setInt(1, brandId);
+          statement.setObject(2, products);
+          statement.setTimestamp(3, date);
+          statement.setTimestamp(4, date);
+        },
+        (RowCallbackHandler) resultSet -> {
+          long mappingStartedAt = System.nanoTime();
+          int productId = resultSet.getInt(7);
+          prices.put(productId, mapRow(resultSet, brandId, productId));
+          mappingNanos[0] += System.nanoTime() - mappingStartedAt;
+        });
+    StageMetrics.record(Stage.QUERY, System.nanoTime() - startedAt - mappingNanos[0]);
+    StageMetrics.record(Stage.MAPPING, mappingNanos[0]);
+    return prices;
+  }
+
+  private Optional<Ranked> findTop(int brandId, int productId, LocalDateTime applicationDate) {
+    Timestamp date = Timestamp.valueOf(applicationDate);
+    long[] mappingNanos = new long[1];
+    long startedAt = System.nanoTime();
+    List<Ranked> prices = jdbcTemplate.query(FIND_TOP_BY_PROPERTIES,
+        statement -> {
+          statement.setInt(1, brandId);
+          statement.setInt(2, productId);
+          statement.setTimestamp(3, date);
+          statement.setTimestamp(4, date);
+          statement.setMaxRows(1);
+        },
+        (resultSet, rowNum) -> {
+          long mappingStartedAt = System.nanoTime();
+          Ranked ranked = new Ranked(resultSet.getLong(7), mapRow(resultSet, brandId, productId));
+          mappingNanos[0] += System.nanoTime() - mappingStartedAt;
+          return ranked;
+        });
+    StageMetrics.record(Stage.QUERY, System.nanoTime() - startedAt - mappingNanos[0]);
+    StageMetrics.record(Stage.MAPPING, mappingNanos[0]);
+    return prices.isEmpty() ? Optional.empty() : Optional.of(prices.getFirst());
+  }
+
+  private static Price mapRow(ResultSet resultSet, int brandId, int productId) throws SQLException {
+    return Price.builder()
+        .brandId(brandId)
+        .productId(productId)
+        .startDate(resultSet.getTimestamp(1).toLocalDateTime())
+        .endDate(resultSet.getTimestamp(2).toLocalDateTime())
+        .priceList(resultSet.getInt(3))
+        .priority(resultSet.getInt(4))
+        .price(resultSet.getBigDecimal(5))
+        .currency(resultSet.getString(6))
+        .build();
+  }
+
+  private record Ranked(long id, Price price) {
+  }
+}
@@ -0,0 +1,95 @@
+package es.sujes71.api.price.infrastructure.repository.h2.entity;
+
+import es.sujes71.api.price.domain.model.Price;
+import es.sujes71.api.price.domain.model.PriceSegment;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+@Table("EFFECTIVE_PRICES")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EffectivePriceEntity {
+
+  @Id
+  private Long id;
+
+  @Column("BRAND_ID")
+  private Integer brandId;
+
+  @Column("PRODUCT_ID")
+  private Integer productId;
+
+  @Column("FROM_DATE")
+  private LocalDateTime fromDate;
+
+  @Column("UNTIL_DATE")
+  private LocalDateTime untilDate;
+
+  @Column("PRICE_ID")
+  private Long priceId;
+
+  @Column("START_DATE")
+  private LocalDateTime startDate;
+
+  @Column("END_DATE")
+  private LocalDateTime endDate;
+
+  @Column("PRICE_LIST")
+  private Integer priceList;
+
+  @Column("PRIORITY")
+  private Integer priority;
+
+  @Column("PRICE")
+  private BigDecimal price;
+
+  @Column("CURR")
+  private String currency;
+
+  public static EffectivePriceEntity fromDomain(PriceSegment segment, Long priceId) {
+    Price price = segment.getPrice();
+    return EffectivePriceEntity.builder()
+        .brandId(price.getBrandId())
+        .productId(price.getProductId())
+        .fromDate(segment.getFrom())
+        .untilDate(segment.getUntil())
+        .priceId(priceId)
+        .startDate(price.getStartDate())
+        .endDate(price.getEndDate())
+        .priceList(price.getPriceList())
+        .priority(price.getPriority())
+        .price(price.getPrice())
+        .currency(price.getCurrency())
+        .build();
+  }
+
+  public Price toDomain() {
+    return Price.builder()
+        .brandId(this.brandId)
+        .startDate(this.startDate)
+        .endDate(this.endDate)
+        .priceList(this.priceList)
+        .productId(this.productId)
+        .priority(this.priority)
+        .price(this.price)
+        .currency(this.currency)
+        .build();
+  }
+
+  public PriceSegment toSegment() {
+    return PriceSegment.builder()
+        .from(this.fromDate)
+        .until(this.untilDate)
+        .price(toDomain())
+        .build();
+  }
+}
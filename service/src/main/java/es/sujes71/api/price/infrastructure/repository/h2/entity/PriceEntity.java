@@ -1,8 +1,10 @@
 package es.sujes71.api.price.infrastructure.repository.h2.entity;
 
 import es.sujes71.api.price.domain.model.Price;
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
@@ -50,10 +52,12 @@ public class PriceEntity {
   @Column("PRICE")
   @NotNull
   @Positive
+  @Digits(integer = 8, fraction = 2)
   private BigDecimal price;
 
   @Column("CURR")
   @NotNull
+  @Size(min = 3, max = 3)
   private String currency;
 
   public Price toDomain() {
@@ -68,4 +72,18 @@ public class PriceEntity {
         .currency(this.currency)
         .build();
   }
+
+  public static PriceEntity fromDomain(Long id, Price price) {
+    return PriceEntity.builder()
+        .id(id)
+        .brandId(price.getBrandId())
+        .startDate(price.getStartDate())
+        .endDate(price.getEndDate())
+        .priceList(price.getPriceList())
+        .productId(price.getProductId())
+        .priority(price.getPriority())
+        .price(price.getPrice())
+        .currency(price.getCurrency())
+        .build();
+  }
 }
\ No newline at end of file
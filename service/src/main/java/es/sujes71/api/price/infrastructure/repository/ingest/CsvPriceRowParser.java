@@ -0,0 +1,111 @@
+package es.sujes71.api.price.infrastructure.repository.ingest;
+
+import es.sujes71.api.price.infrastructure.repository.h2.entity.PriceEntity;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Reads CSV rows whose header names the PRICES columns (BRAND_ID, START_DATE, END_DATE,
+ * PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR) in any order.
+ */
+class CsvPriceRowParser implements PriceRowParser {
+
+  private static final DateTimeFormatter DATE_TIME = new DateTimeFormatterBuilder()
+      .append(DateTimeFormatter.ISO_LOCAL_DATE)
+      .optionalStart().appendLiteral('T').optionalEnd()
+      .optionalStart().appendLiteral(' ').optionalEnd()
+      .append(DateTimeFormatter.ISO_LOCAL_TIME)
+      .toFormatter(Locale.ROOT);
+
+  private static final List<String> COLUMNS = List.of(
+      "BRAND_ID", "START_DATE", "END_DATE", "PRICE_LIST", "PRODUCT_ID", "PRIORITY", "PRICE", "CURR");
+
+  private final int[] positions = new int[COLUMNS.size()];
+  private final int width;
+
+  CsvPriceRowParser(String header) {
+    String[] names = split(header);
+    Arrays.fill(positions, -1);
+    for (int i = 0; i < names.length; i++) {
+      int column = COLUMNS.indexOf(names[i].toUpperCase(Locale.ROOT));
+      if (column >= 0) {
+        positions[column] = i;
+      }
+    }
+    for (int column = 0; column < positions.length; column++) {
+      if (positions[column] < 0) {
+        throw new IllegalArgumentException("CSV header is missing column " + COLUMNS.get(column));
+      }
+    }
+    this.width = names.length;
+  }
+
+  @Override
+  public PriceEntity parse(String line) {
+    String[] values = split(line);
+    if (values.length != width) {
+      throw new IllegalArgumentException(
+          "Expected " + width + " columns but found " + values.length);
+    }
+    return PriceEntity.builder()
+        .brandId(integer(values, 0))
+        .startDate(dateTime(values, 1))
+        .endDate(dateTime(values, 2))
+        .priceList(integer(values, 3))
+        .productId(integer(values, 4))
+        .priority(integer(values, 5))
+        .price(decimal(values, 6))
+        .currency(text(values, 7))
+        .build();
+  }
+
+  private String text(String[] values, int column) {
+    String value = values[positions[column]];
+    return value.isEmpty() ? null : value;
+  }
+
+  private Integer integer(String[] values, int column) {
+    String value = text(values, column);
+    try {
+      return value == null ? null : Integer.valueOf(value);
+    } catch (NumberFormatException error) {
+      throw new IllegalArgumentException(COLUMNS.get(column) + " must be a valid integer");
+    }
+  }
+
+  private BigDecimal decimal(String[] values, int column) {
+    String value = text(values, column);
+    try {
+      return value == null ? null : new BigDecimal(value);
+    } catch (NumberFormatException error) {
+      throw new IllegalArgumentException(COLUMNS.get(column) + " must be a valid decimal");
+    }
+  }
+
+  private LocalDateTime dateTime(String[] values, int column) {
+    String value = text(values, column);
+    try {
+      return value == null ? null : LocalDateTime.parse(value, DATE_TIME);
+    } catch (DateTimeParseException error) {
+      throw new IllegalArgumentException(COLUMNS.get(column) + " must be a valid date-time");
+    }
+  }
+
+  private static String[] split(String line) {
+    String[] values = line.split(",", -1);
+    for (int i = 0; i < values.length; i++) {
+      String value = values[i].strip();
+      if (value.length() >= 2 && value.charAt(0) == '"' && value.charAt(value.length() - 1) == '"') {
+        value = value.substring(1, value.length() - 1);
+      }
+      values[i] = value;
+    }
+    return values;
+  }
+}
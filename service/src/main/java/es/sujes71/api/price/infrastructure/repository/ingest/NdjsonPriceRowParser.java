@@ -0,0 +1,32 @@
+package es.sujes71.api.price.infrastructure.repository.ingest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import es.sujes71.api.price.infrastructure.repository.h2.entity.PriceEntity;
+
+/**
+ * Reads one JSON object per line using the {@code Price} field names (brandId, startDate,
+ * endDate, priceList, productId, priority, price, currency).
+ */
+class NdjsonPriceRowParser implements PriceRowParser {
+
+  private final ObjectReader reader;
+
+  NdjsonPriceRowParser(ObjectReader reader) {
+    this.reader = reader;
+  }
+
+  @Override
+  public PriceEntity parse(String line) {
+    try {
+      PriceEntity entity = reader.readValue(line);
+      if (entity == null) {
+        throw new IllegalArgumentException("Row must be a JSON object");
+      }
+      entity.setId(null);
+      return entity;
+    } catch (JsonProcessingException error) {
+      throw new IllegalArgumentException("Malformed JSON row: " + error.getOriginalMessage());
+    }
+  }
+}
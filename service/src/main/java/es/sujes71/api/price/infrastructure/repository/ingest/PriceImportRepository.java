@@ -0,0 +1,239 @@
+package es.sujes71.api.price.infrastructure.repository.ingest;
+
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.IMPORT_PRICES_ADDRESS;
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.PRICES_IMPORTED_ADDRESS;
+import static es.sujes71.shared.domain.ports.outbound.OutboundPort.channel;
+import static es.sujes71.shared.domain.ports.outbound.OutboundPort.register;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import es.sujes71.api.price.domain.model.PriceImport;
+import es.sujes71.api.price.domain.model.PriceImportFormat;
+import es.sujes71.api.price.domain.model.PriceImportReject;
+import es.sujes71.api.price.domain.model.PriceImportReport;
+import es.sujes71.api.price.domain.model.PricesImported;
+import es.sujes71.api.price.infrastructure.repository.h2.entity.PriceEntity;
+import es.sujes71.shared.domain.ports.outbound.OutboundPort.Channel;
+import jakarta.annotation.PostConstruct;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Streams CSV or NDJSON rows into PRICES in JDBC batches, committing every
+ * {@code commit-interval} rows. A storage or read failure rolls back only the open chunk.
+ */
+@Repository
+public class PriceImportRepository {
+
+  private static final Logger log = LogManager.getLogger(PriceImportRepository.class);
+
+  private static final String INSERT_SQL = """
+      INSERT INTO PRICES (BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR)
+      VALUES (?, ?, ?, ?, ?, ?, ?, ?)""";
+
+  private static final int READ_BUFFER_CHARS = 64 * 1024;
+  private static final String FAILURE_MESSAGE =
+      "Import aborted by a storage or read error; rows after the last commit were rolled back";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final Validator validator;
+  private final ObjectMapper objectMapper;
+  private final Channel<PricesImported, Void> pricesImported = channel(PRICES_IMPORTED_ADDRESS);
+  private final int batchSize;
+  private final int commitInterval;
+  private final int maxReportedRejects;
+
+  public PriceImportRepository(JdbcTemplate jdbcTemplate, Validator validator, ObjectMapper objectMapper,
+      @Value("${commerce.price.import.batch-size:1000}") int batchSize,
+      @Value("${commerce.price.import.commit-interval:50000}") int commitInterval,
+      @Value("${commerce.price.import.max-reported-rejects:1000}") int maxReportedRejects) {
+    if (batchSize <= 0 || commitInterval <= 0) {
+      throw new IllegalArgumentException("Import batch size and commit interval must be positive");
+    }
+    this.jdbcTemplate = jdbcTemplate;
+    this.validator = validator;
+    this.objectMapper = objectMapper;
+    this.batchSize = batchSize;
+    this.commitInterval = commitInterval;
+    this.maxReportedRejects = maxReportedRejects;
+  }
+
+  @PostConstruct
+  public void start() {
+    register(IMPORT_PRICES_ADDRESS, this::importPrices);
+  }
+
+  public PriceImportReport importPrices(PriceImport priceImport) {
+    long started = System.nanoTime();
+    ImportProgress progress = new ImportProgress();
+    RuntimeException failure = null;
+    try (BufferedReader reader = new BufferedReader(
+        new InputStreamReader(priceImport.getContent(), StandardCharsets.UTF_8), READ_BUFFER_CHARS)) {
+      jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+        write(connection, reader, priceImport.getFormat(), progress);
+        return null;
+      });
+    } catch (IOException error) {
+      failure = new UncheckedIOException(error);
+    } catch (DataAccessException | UncheckedIOException error) {
+      failure = error;
+    } catch (RuntimeException error) {
+      publishImported(progress);
+      throw error;
+    }
+    if (failure != null) {
+      log.error("Price import failed after {} committed rows: {}", progress.committed,
+          failure.getMessage(), failure);
+    }
+    publishImported(progress);
+
+    long elapsedNanos = Math.max(System.nanoTime() - started, 1);
+    long processed = progress.accepted + progress.rejected;
+    PriceImportReport report = PriceImportReport.builder()
+        .accepted(failure == null ? progress.accepted : progress.committed)
+        .rejected(progress.rejected)
+        .committed(progress.committed)
+        .failure(failure == null ? null : FAILURE_MESSAGE)
+        .elapsedMillis(elapsedNanos / 1_000_000)
+        .rowsPerSecond(processed * 1_000_000_000d / elapsedNanos)
+        .rejects(progress.rejects)
+        .build();
+    log.info("Imported {} prices, rejected {} ({} rows/s)",
+        report.getAccepted(), report.getRejected(), Math.round(report.getRowsPerSecond()));
+    return report;
+  }
+
+  private void publishImported(ImportProgress progress) {
+    if (progress.committed > 0) {
+      pricesImported.publish(PricesImported.builder().committed(progress.committed).build());
+    }
+  }
+
+  private void write(Connection connection, BufferedReader reader, PriceImportFormat format,
+      ImportProgress progress) throws SQLException {
+    boolean autoCommit = connection.getAutoCommit();
+    connection.setAutoCommit(false);
+    try (PreparedStatement insert = connection.prepareStatement(INSERT_SQL)) {
+      PriceRowParser parser = format == PriceImportFormat.NDJSON
+          ? new NdjsonPriceRowParser(objectMapper.readerFor(PriceEntity.class))
+          : null;
+      int pending = 0;
+      long uncommitted = 0;
+      long line = 0;
+      String text;
+      while ((text = readLine(reader)) != null) {
+        line++;
+        if (text.isBlank()) {
+          continue;
+        }
+        if (parser == null) {
+          parser = new CsvPriceRowParser(text);
+          continue;
+        }
+
+        PriceEntity entity;
+        try {
+          entity = parser.parse(text);
+          validate(validator, entity);
+        } catch (IllegalArgumentException error) {
+          progress.reject(line, error.getMessage(), maxReportedRejects);
+          continue;
+        }
+
+        bind(insert, entity);
+        insert.addBatch();
+        if (++pending == batchSize) {
+          insert.executeBatch();
+          progress.accepted += pending;
+          uncommitted += pending;
+          pending = 0;
+          if (uncommitted >= commitInterval) {
+            connection.commit();
+            progress.committed += uncommitted;
+            uncommitted = 0;
+          }
+        }
+      }
+
+      if (pending > 0) {
+        insert.executeBatch();
+        progress.accepted += pending;
+        uncommitted += pending;
+      }
+      connection.commit();
+      progress.committed += uncommitted;
+    } catch (SQLException | RuntimeException error) {
+      connection.rollback();
+      throw error;
+    } finally {
+      connection.setAutoCommit(autoCommit);
+    }
+  }
+
+  /**
+   * Checks the bean constraints of the entity and that its interval is not reversed.
+   */
+  static void validate(Validator validator, PriceEntity entity) {
+    var violations = validator.validate(entity);
+    if (!violations.isEmpty()) {
+      throw new IllegalArgumentException(violations.stream()
+          .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+          .sorted()
+          .collect(Collectors.joining(", ")));
+    }
+    if (entity.getEndDate().isBefore(entity.getStartDate())) {
+      throw new IllegalArgumentException("endDate must not be before startDate");
+    }
+  }
+
+  private static void bind(PreparedStatement insert, PriceEntity entity) throws SQLException {
+    insert.setInt(1, entity.getBrandId());
+    insert.setTimestamp(2, Timestamp.valueOf(entity.getStartDate()));
+    insert.setTimestamp(3, Timestamp.valueOf(entity.getEndDate()));
+    insert.setInt(4, entity.getPriceList());
+    insert.setInt(5, entity.getProductId());
+    insert.setInt(6, entity.getPriority());
+    insert.setBigDecimal(7, entity.getPrice());
+    insert.setString(8, entity.getCurrency());
+  }
+
+  private static String readLine(BufferedReader reader) {
+    try {
+      return reader.readLine();
+    } catch (IOException error) {
+      throw new UncheckedIOException(error);
+    }
+  }
+
+  private static final class ImportProgress {
+
+    private long accepted;
+    private long rejected;
+    private long committed;
+    private final List<PriceImportReject> rejects = new ArrayList<>();
+
+    private void reject(long line, String message, int maxReported) {
+      rejected++;
+      if (rejects.size() < maxReported) {
+        rejects.add(PriceImportReject.builder().line(line).message(message).build());
+      }
+    }
+  }
+}
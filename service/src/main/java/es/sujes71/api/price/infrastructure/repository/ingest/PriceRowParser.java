@@ -0,0 +1,12 @@
+package es.sujes71.api.price.infrastructure.repository.ingest;
+
+import es.sujes71.api.price.infrastructure.repository.h2.entity.PriceEntity;
+
+/**
+ * Turns one line of an import stream into a price row. Implementations throw
+ * {@link IllegalArgumentException} when the line cannot be read; the row is then rejected.
+ */
+interface PriceRowParser {
+
+  PriceEntity parse(String line);
+}
@@ -0,0 +1,94 @@
+package es.sujes71.api.price.infrastructure.repository.ingest;
+
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.CREATE_PRICE_ADDRESS;
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.DELETE_PRICE_ADDRESS;
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.UPDATE_PRICE_ADDRESS;
+import static es.sujes71.shared.domain.ports.outbound.OutboundPort.register;
+
+import es.sujes71.api.price.domain.model.Price;
+import es.sujes71.api.price.domain.model.PriceChange;
+import es.sujes71.api.price.domain.model.PriceChangeType;
+import es.sujes71.api.price.domain.model.PriceKey;
+import es.sujes71.api.price.domain.model.StoredPrice;
+import es.sujes71.api.price.infrastructure.repository.h2.dao.PriceDao;
+import es.sujes71.api.price.infrastructure.repository.h2.entity.PriceEntity;
+import jakarta.annotation.PostConstruct;
+import jakarta.validation.Validator;
+import java.util.List;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Single-price writes against {@code PRICES}. Every write commits before it returns and reports one
+ * {@link PriceChange} per (brand, product) it touched, which the caller publishes so the read models
+ * can refresh just those keys.
+ */
+@Repository
+public class PriceWriteRepository {
+
+  private static final Logger log = LogManager.getLogger(PriceWriteRepository.class);
+
+  private final PriceDao priceDao;
+  private final Validator validator;
+  private final TransactionTemplate transactionTemplate;
+
+  public PriceWriteRepository(PriceDao priceDao, Validator validator,
+      TransactionTemplate transactionTemplate) {
+    this.priceDao = priceDao;
+    this.validator = validator;
+    this.transactionTemplate = transactionTemplate;
+  }
+
+  @PostConstruct
+  public void start() {
+    register(CREATE_PRICE_ADDRESS, this::create);
+    register(UPDATE_PRICE_ADDRESS, this::update);
+    register(DELETE_PRICE_ADDRESS, this::delete);
+  }
+
+  public List<PriceChange> create(Price price) {
+    PriceEntity entity = PriceEntity.fromDomain(null, price);
+    PriceImportRepository.validate(validator, entity);
+    PriceEntity saved = priceDao.save(entity);
+    log.debug("Created price {} for {}", saved::getId, () -> PriceKey.of(price));
+    return List.of(change(PriceChangeType.CREATED, saved.getId(), null, saved.toDomain()));
+  }
+
+  public List<PriceChange> update(StoredPrice storedPrice) {
+    PriceEntity entity = PriceEntity.fromDomain(storedPrice.getId(), storedPrice.getPrice());
+    PriceImportRepository.validate(validator, entity);
+    return transactionTemplate.execute(status -> priceDao.findById(storedPrice.getId())
+        .map(existing -> {
+          Price previous = existing.toDomain();
+          Price current = priceDao.save(entity).toDomain();
+          if (PriceKey.of(previous).equals(PriceKey.of(current))) {
+            return List.of(change(PriceChangeType.UPDATED, entity.getId(), previous, current));
+          }
+          return List.of(
+              change(PriceChangeType.DELETED, entity.getId(), previous, null),
+              change(PriceChangeType.CREATED, entity.getId(), null, current));
+        })
+        .orElseGet(List::of));
+  }
+
+  public List<PriceChange> delete(Long id) {
+    return transactionTemplate.execute(status -> priceDao.findById(id)
+        .map(existing -> {
+          priceDao.delete(existing);
+          return List.of(change(PriceChangeType.DELETED, id, existing.toDomain(), null));
+        })
+        .orElseGet(List::of));
+  }
+
+  private static PriceChange change(PriceChangeType type, Long id, Price previous, Price current) {
+    return PriceChange.builder()
+        .type(type)
+        .key(PriceKey.of(current != null ? current : previous))
+        .id(id)
+        .previous(previous)
+        .current(current)
+        .build();
+  }
+}
@@ -0,0 +1,138 @@
+package es.sujes71.api.price.infrastructure.repository.materialized;
+
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.GET_PRICE_BY_PROPERTIES_ADDRESS;
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.GET_PRICE_SEGMENT_ADDRESS;
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.GET_PRICE_TIMELINE_BY_KEY_ADDRESS;
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.PRICES_IMPORTED_ADDRESS;
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.PRICE_CHANGED_ADDRESS;
+import static es.sujes71.shared.domain.ports.outbound.OutboundPort.register;
+import static es.sujes71.shared.domain.ports.outbound.OutboundPort.subscribe;
+
+import es.sujes71.api.price.domain.model.Price;
+import es.sujes71.api.price.domain.model.PriceChange;
+import es.sujes71.api.price.domain.model.PriceFilter;
+import es.sujes71.api.price.domain.model.PriceKey;
+import es.sujes71.api.price.domain.model.PriceSegment;
+import es.sujes71.api.price.domain.model.PriceTimeline;
+import es.sujes71.api.price.domain.model.PricesImported;
+import es.sujes71.api.price.infrastructure.repository.h2.dao.EffectivePriceDao;
+import es.sujes71.api.price.infrastructure.repository.h2.dao.PriceDao;
+import es.sujes71.api.price.infrastructure.repository.h2.entity.EffectivePriceEntity;
+import es.sujes71.api.price.infrastructure.repository.h2.entity.PriceEntity;
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.StreamSupport;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Keeps {@code EFFECTIVE_PRICES} as the flattened, non-overlapping version of {@code PRICES} and
+ * serves lookups from it, so a read is a single indexed probe that returns at most one row. Price
+ * changes rematerialize only the (brand, product) they touched.
+ */
+@Repository
+@ConditionalOnProperty(name = "commerce.price.persistence", havingValue = "materialized")
+public class EffectivePriceRepository {
+
+  private static final Logger log = LogManager.getLogger(EffectivePriceRepository.class);
+
+  private final PriceDao priceDao;
+  private final EffectivePriceDao effectivePriceDao;
+  private final TransactionTemplate transactionTemplate;
+
+  public EffectivePriceRepository(PriceDao priceDao, EffectivePriceDao effectivePriceDao,
+      TransactionTemplate transactionTemplate) {
+    this.priceDao = priceDao;
+    this.effectivePriceDao = effectivePriceDao;
+    this.transactionTemplate = transactionTemplate;
+  }
+
+  @PostConstruct
+  public void start() {
+    rebuildAll();
+    register(GET_PRICE_BY_PROPERTIES_ADDRESS, this::findAllByProperties);
+    register(GET_PRICE_SEGMENT_ADDRESS, this::findSegmentByProperties);
+    register(GET_PRICE_TIMELINE_BY_KEY_ADDRESS, this::findTimelineByKey);
+    subscribe(PRICE_CHANGED_ADDRESS, "effectivePrices", 0,
+        (PriceChange change) -> rebuild(change.getKey()), this::rebuildAll);
+    subscribe(PRICES_IMPORTED_ADDRESS, "effectivePrices", (PricesImported imported) -> rebuildAll());
+  }
+
+  public List<Price> findAllByProperties(PriceFilter filter) {
+    return effectivePriceDao.findLatestStartingAtOrBefore(
+            filter.getBrandId(), filter.getProductId(), filter.getApplicationDate())
+        .filter(entity -> filter.getApplicationDate().isBefore(entity.getUntilDate()))
+        .map(entity -> List.of(entity.toDomain()))
+        .orElseGet(List::of);
+  }
+
+  public Optional<PriceSegment> findSegmentByProperties(PriceFilter filter) {
+    return effectivePriceDao.findLatestStartingAtOrBefore(
+            filter.getBrandId(), filter.getProductId(), filter.getApplicationDate())
+        .filter(entity -> filter.getApplicationDate().isBefore(entity.getUntilDate()))
+        .map(EffectivePriceEntity::toSegment);
+  }
+
+  public PriceTimeline findTimelineByKey(PriceKey key) {
+    return PriceTimeline.ofSegments(effectivePriceDao.findAllByBrandAndProduct(key.brandId(), key.productId())
+        .stream()
+        .map(EffectivePriceEntity::toSegment)
+        .toList());
+  }
+
+  public synchronized void rebuildAll() {
+    long startedAt = System.nanoTime();
+    Map<PriceKey, List<PriceEntity>> entitiesByKey = new LinkedHashMap<>();
+    StreamSupport.stream(priceDao.findAll().spliterator(), false)
+        .sorted(Comparator.comparing(PriceEntity::getId))
+        .forEach(entity -> entitiesByKey
+            .computeIfAbsent(new PriceKey(entity.getBrandId(), entity.getProductId()), key -> new ArrayList<>())
+            .add(entity));
+
+    List<EffectivePriceEntity> effectivePrices = new ArrayList<>();
+    entitiesByKey.values().forEach(entities -> effectivePrices.addAll(materialize(entities)));
+
+    transactionTemplate.executeWithoutResult(status -> {
+      effectivePriceDao.deleteAll();
+      effectivePriceDao.saveAll(effectivePrices);
+    });
+    log.info("Materialized {} effective prices for {} keys in {} ms",
+        effectivePrices.size(), entitiesByKey.size(), (System.nanoTime() - startedAt) / 1_000_000);
+  }
+
+  public synchronized void rebuild(PriceKey key) {
+    List<EffectivePriceEntity> effectivePrices =
+        materialize(priceDao.findAllByBrandAndProduct(key.brandId(), key.productId()));
+
+    transactionTemplate.executeWithoutResult(status -> {
+      effectivePriceDao.deleteAllByBrandAndProduct(key.brandId(), key.productId());
+      effectivePriceDao.saveAll(effectivePrices);
+    });
+    log.debug("Rematerialized {} effective prices for {}", effectivePrices.size(), key);
+  }
+
+  private List<EffectivePriceEntity> materialize(List<PriceEntity> entities) {
+    Map<Price, Long> priceIds = new IdentityHashMap<>(entities.size() * 2);
+    List<Price> prices = new ArrayList<>(entities.size());
+    for (PriceEntity entity : entities) {
+      Price price = entity.toDomain();
+      priceIds.put(price, entity.getId());
+      prices.add(price);
+    }
+
+    List<EffectivePriceEntity> effectivePrices = new ArrayList<>();
+    for (PriceSegment segment : PriceTimeline.of(prices).segments()) {
+      effectivePrices.add(EffectivePriceEntity.fromDomain(segment, priceIds.get(segment.getPrice())));
+    }
+    return effectivePrices;
+  }
+}
@@ -0,0 +1,126 @@
+package es.sujes71.api.price.infrastructure.repository.memory;
+
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.GET_PRICE_BY_PROPERTIES_ADDRESS;
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.GET_PRICE_SEGMENT_ADDRESS;
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.GET_PRICE_TIMELINE_BY_KEY_ADDRESS;
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.PRICES_IMPORTED_ADDRESS;
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.PRICE_CHANGED_ADDRESS;
+import static es.sujes71.shared.domain.ports.outbound.OutboundPort.register;
+import static es.sujes71.shared.domain.ports.outbound.OutboundPort.subscribe;
+
+import es.sujes71.api.price.domain.model.Price;
+import es.sujes71.api.price.domain.model.PriceChange;
+import es.sujes71.api.price.domain.model.PriceFilter;
+import es.sujes71.api.price.domain.model.PriceKey;
+import es.sujes71.api.price.domain.model.PriceSegment;
+import es.sujes71.api.price.domain.model.PriceTimeline;
+import es.sujes71.api.price.domain.model.PricesImported;
+import es.sujes71.api.price.infrastructure.repository.h2.dao.PriceDao;
+import es.sujes71.api.price.infrastructure.repository.h2.entity.PriceEntity;
+import es.sujes71.shared.domain.metrics.Stage;
+import es.sujes71.shared.infrastructure.metrics.StageMetrics;
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.StreamSupport;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Serves price lookups from an in-memory snapshot of {@code PRICES}, flattened into one
+ * {@link PriceTimeline} per (brand, product). Lookups are a hash probe plus a binary search; reloads
+ * build a new snapshot and publish it with a single volatile write, so readers never block. A price
+ * change only rebuilds the timeline of its own key.
+ */
+@Repository
+@ConditionalOnProperty(name = "commerce.price.persistence", havingValue = "memory")
+public class PriceIndexRepository {
+
+  private static final Logger log = LogManager.getLogger(PriceIndexRepository.class);
+
+  private final PriceDao priceDao;
+
+  private volatile Map<PriceKey, PriceTimeline> snapshot = Map.of();
+
+  public PriceIndexRepository(PriceDao priceDao) {
+    this.priceDao = priceDao;
+  }
+
+  @PostConstruct
+  public void start() {
+    reload();
+    register(GET_PRICE_BY_PROPERTIES_ADDRESS, this::findAllByProperties);
+    register(GET_PRICE_SEGMENT_ADDRESS, this::findSegmentByProperties);
+    register(GET_PRICE_TIMELINE_BY_KEY_ADDRESS, this::findTimelineByKey);
+    subscribe(PRICE_CHANGED_ADDRESS, "priceIndex", 0,
+        (PriceChange change) -> refresh(change.getKey()), this::reload);
+    subscribe(PRICES_IMPORTED_ADDRESS, "priceIndex", (PricesImported imported) -> reload());
+  }
+
+  public List<Price> findAllByProperties(PriceFilter filter) {
+    PriceTimeline timeline = snapshot.get(PriceKey.of(filter));
+    if (timeline == null) {
+      return List.of();
+    }
+    return timeline.priceAt(filter.getApplicationDate())
+        .map(List::of)
+        .orElseGet(List::of);
+  }
+
+  public Optional<PriceSegment> findSegmentByProperties(PriceFilter filter) {
+    PriceTimeline timeline = snapshot.get(PriceKey.of(filter));
+    if (timeline == null) {
+      return Optional.empty();
+    }
+    long startedAt = System.nanoTime();
+    Optional<PriceSegment> segment = timeline.segmentAt(filter.getApplicationDate());
+    StageMetrics.record(Stage.SELECTION, System.nanoTime() - startedAt);
+    return segment;
+  }
+
+  public PriceTimeline findTimelineByKey(PriceKey key) {
+    return snapshot.getOrDefault(key, PriceTimeline.empty());
+  }
+
+  /**
+   * Reloads the timeline of one key and swaps it in place; the rest of the snapshot is untouched.
+   */
+  public synchronized void refresh(PriceKey key) {
+    List<Price> prices = priceDao.findAllByBrandAndProduct(key.brandId(), key.productId()).stream()
+        .map(PriceEntity::toDomain)
+        .toList();
+    if (prices.isEmpty()) {
+      snapshot.remove(key);
+    } else {
+      snapshot.put(key, PriceTimeline.of(prices));
+    }
+    log.debug("Refreshed price index for {} with {} rows", key, prices.size());
+  }
+
+  public synchronized void reload() {
+    long startedAt = System.nanoTime();
+    List<PriceEntity> entities = StreamSupport.stream(priceDao.findAll().spliterator(), false)
+        .sorted(Comparator.comparing(PriceEntity::getId))
+        .toList();
+
+    Map<PriceKey, List<Price>> pricesByKey = new HashMap<>();
+    for (PriceEntity entity : entities) {
+      Price price = entity.toDomain();
+      pricesByKey.computeIfAbsent(PriceKey.of(price), key -> new ArrayList<>()).add(price);
+    }
+
+    Map<PriceKey, PriceTimeline> timelines = new ConcurrentHashMap<>(pricesByKey.size() * 2);
+    pricesByKey.forEach((key, prices) -> timelines.put(key, PriceTimeline.of(prices)));
+
+    snapshot = timelines;
+    log.info("Loaded price index with {} rows and {} keys in {} ms",
+        entities.size(), timelines.size(), (System.nanoTime() - startedAt) / 1_000_000);
+  }
+}
@@ -0,0 +1,400 @@
+package es.sujes71.api.price.infrastructure.repository.offheap;
+
+import es.sujes71.api.price.domain.model.Price;
+import es.sujes71.api.price.domain.model.PriceSegment;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Off-heap price table with one {@link MemorySegment} per column, rows sorted by
+ * (brand, product, start, id). Memory belongs to an automatic arena, so a store replaced by a reload
+ * stays valid for the lookups still reading it.
+ */
+public final class PriceColumnStore {
+
+  static final int ROW_BYTES = 8 + 4 + 4 + 8 + 8 + 4 + 4 + 8 + 4 + 4 + 2;
+
+  private static final int PRICE_SCALE = 2;
+  private static final long EMPTY = 0L;
+  private static final long NOT_FOUND = -1L;
+
+  private final int size;
+  private final Columns columns;
+  private final String[] currencies;
+  private final MemorySegment indexKeys;
+  private final MemorySegment indexRanges;
+  private final int indexMask;
+
+  private PriceColumnStore(int size, Columns columns, String[] currencies, MemorySegment indexKeys,
+      MemorySegment indexRanges) {
+    this.size = size;
+    this.columns = columns;
+    this.currencies = currencies;
+    this.indexKeys = indexKeys;
+    this.indexRanges = indexRanges;
+    this.indexMask = (int) (indexKeys.byteSize() / Long.BYTES) - 1;
+  }
+
+  public static Builder builder(int expectedRows) {
+    return new Builder(expectedRows);
+  }
+
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Off-heap bytes held by the columns and the key index.
+   */
+  public long bytes() {
+    return columns.bytes() + indexKeys.byteSize() + indexRanges.byteSize();
+  }
+
+  /**
+   * Winning row for the date: the highest priority among the rows whose interval contains it, the
+   * lowest id on ties. {@code -1} when no row applies.
+   */
+  public int findTop(int brandId, int productId, LocalDateTime date) {
+    long range = range(brandId, productId);
+    if (range == NOT_FOUND) {
+      return -1;
+    }
+    long second = epochSecond(date);
+    int nanos = date.getNano();
+    int winner = -1;
+    for (int row = from(range); row < to(range) && start(row) <= second; row++) {
+      if (compare(start(row), startNanos(row), second, nanos) <= 0
+          && compare(end(row), endNanos(row), second, nanos) >= 0
+          && (winner < 0 || outranks(row, winner))) {
+        winner = row;
+      }
+    }
+    return winner;
+  }
+
+  /**
+   * Stretch of time around the date during which {@code winner} keeps winning: it starts after the
+   * last higher-ranked row ending before the date and ends where the next one starts, both clipped
+   * to the winner's own interval.
+   */
+  public PriceSegment segmentOf(int winner, LocalDateTime date) {
+    long range = range(brandId(winner), productId(winner));
+    LocalDateTime winnerStart = startDate(winner);
+    LocalDateTime winnerEnd = endDate(winner);
+    LocalDateTime lastEnd = null;
+    LocalDateTime nextStart = null;
+    for (int row = from(range); row < to(range) && start(row) <= end(winner); row++) {
+      if (row == winner || !outranks(row, winner)) {
+        continue;
+      }
+      LocalDateTime end = endDate(row);
+      if (!end.isBefore(winnerStart) && end.isBefore(date)
+          && (lastEnd == null || end.isAfter(lastEnd))) {
+        lastEnd = end;
+      }
+      LocalDateTime start = startDate(row);
+      if (start.isAfter(date) && !start.isAfter(winnerEnd)
+          && (nextStart == null || start.isBefore(nextStart))) {
+        nextStart = start;
+      }
+    }
+    return PriceSegment.builder()
+        .from(lastEnd == null ? winnerStart : lastEnd.plusNanos(1))
+        .until(nextStart == null ? winnerEnd.plusNanos(1) : nextStart)
+        .price(toPrice(winner))
+        .build();
+  }
+
+  /**
+   * Every price of one (brand, product) in id order, the order ties are broken in.
+   */
+  public List<Price> pricesOf(int brandId, int productId) {
+    long range = range(brandId, productId);
+    if (range == NOT_FOUND) {
+      return List.of();
+    }
+    List<Integer> rows = new ArrayList<>(to(range) - from(range));
+    for (int row = from(range); row < to(range); row++) {
+      rows.add(row);
+    }
+    rows.sort(Comparator.comparingLong(this::id));
+    return rows.stream().map(this::toPrice).toList();
+  }
+
+  public Price toPrice(int row) {
+    return Price.builder()
+        .brandId(brandId(row))
+        .productId(productId(row))
+        .startDate(startDate(row))
+        .endDate(endDate(row))
+        .priceList(priceList(row))
+        .priority(priority(row))
+        .price(BigDecimal.valueOf(priceMinor(row), PRICE_SCALE))
+        .currency(currency(row))
+        .build();
+  }
+
+  public long id(int row) {
+    return columns.ids.getAtIndex(ValueLayout.JAVA_LONG, row);
+  }
+
+  public int brandId(int row) {
+    return columns.brandIds.getAtIndex(ValueLayout.JAVA_INT, row);
+  }
+
+  public int productId(int row) {
+    return columns.productIds.getAtIndex(ValueLayout.JAVA_INT, row);
+  }
+
+  public long start(int row) {
+    return columns.starts.getAtIndex(ValueLayout.JAVA_LONG, row);
+  }
+
+  public long end(int row) {
+    return columns.ends.getAtIndex(ValueLayout.JAVA_LONG, row);
+  }
+
+  public int startNanos(int row) {
+    return columns.startNanos.getAtIndex(ValueLayout.JAVA_INT, row);
+  }
+
+  public int endNanos(int row) {
+    return columns.endNanos.getAtIndex(ValueLayout.JAVA_INT, row);
+  }
+
+  public LocalDateTime startDate(int row) {
+    return LocalDateTime.ofEpochSecond(start(row), startNanos(row), ZoneOffset.UTC);
+  }
+
+  public LocalDateTime endDate(int row) {
+    return LocalDateTime.ofEpochSecond(end(row), endNanos(row), ZoneOffset.UTC);
+  }
+
+  public long priceMinor(int row) {
+    return columns.prices.getAtIndex(ValueLayout.JAVA_LONG, row);
+  }
+
+  public int priceList(int row) {
+    return columns.priceLists.getAtIndex(ValueLayout.JAVA_INT, row);
+  }
+
+  public int priority(int row) {
+    return columns.priorities.getAtIndex(ValueLayout.JAVA_INT, row);
+  }
+
+  public String currency(int row) {
+    return currencies[columns.currencies.getAtIndex(ValueLayout.JAVA_SHORT, row)];
+  }
+
+  private boolean outranks(int row, int other) {
+    int priority = priority(row);
+    int otherPriority = priority(other);
+    return priority > otherPriority || (priority == otherPriority && id(row) < id(other));
+  }
+
+  private static int compare(long second, int nanos, long otherSecond, int otherNanos) {
+    int order = Long.compare(second, otherSecond);
+    return order != 0 ? order : Integer.compare(nanos, otherNanos);
+  }
+
+  private long range(int brandId, int productId) {
+    long key = key(brandId, productId);
+    for (int slot = slot(key, indexMask); ; slot = (slot + 1) & indexMask) {
+      long candidate = indexKeys.getAtIndex(ValueLayout.JAVA_LONG, slot);
+      if (candidate == key) {
+        return indexRanges.getAtIndex(ValueLayout.JAVA_LONG, slot);
+      }
+      if (candidate == EMPTY) {
+        return NOT_FOUND;
+      }
+    }
+  }
+
+  private static int from(long range) {
+    return (int) (range >>> 32);
+  }
+
+  private static int to(long range) {
+    return (int) range;
+  }
+
+  private static long key(int brandId, int productId) {
+    return ((long) brandId << 32) | (productId & 0xFFFFFFFFL);
+  }
+
+  private static int slot(long key, int mask) {
+    long hash = key * 0x9E3779B97F4A7C15L;
+    return (int) (hash ^ (hash >>> 32)) & mask;
+  }
+
+  static long epochSecond(LocalDateTime dateTime) {
+    return dateTime.toEpochSecond(ZoneOffset.UTC);
+  }
+
+  /**
+   * Appends rows in (brand, product, start, id) order, growing the columns by doubling, and builds
+   * the key index on {@link #build()}.
+   */
+  public static final class Builder {
+
+    private final Arena arena = Arena.ofAuto();
+    private final Map<String, Short> currencyCodes = new HashMap<>();
+    private final List<String> currencies = new ArrayList<>();
+    private Columns columns;
+    private int size;
+    private int keys;
+
+    private Builder(int expectedRows) {
+      this.columns = new Columns(arena, Math.max(expectedRows, 16));
+    }
+
+    public Builder add(long id, int brandId, int productId, LocalDateTime start, LocalDateTime end,
+        BigDecimal price, int priceList, int priority, String currency) {
+      long startSecond = epochSecond(start);
+      if (size > 0) {
+        int last = size - 1;
+        int order = Long.compare(key(brandId, productId), key(columns.brandId(last), columns.productId(last)));
+        if (order < 0 || (order == 0
+            && compare(startSecond, start.getNano(), columns.start(last), columns.startNanos(last)) < 0)) {
+          throw new IllegalStateException("Rows must be added in (brand, product, start) order");
+        }
+        if (order > 0) {
+          keys++;
+        }
+      } else {
+        keys = 1;
+      }
+      if (size == columns.capacity) {
+        columns = columns.grow(arena, size);
+      }
+      columns.ids.setAtIndex(ValueLayout.JAVA_LONG, size, id);
+      columns.brandIds.setAtIndex(ValueLayout.JAVA_INT, size, brandId);
+      columns.productIds.setAtIndex(ValueLayout.JAVA_INT, size, productId);
+      columns.starts.setAtIndex(ValueLayout.JAVA_LONG, size, startSecond);
+      columns.ends.setAtIndex(ValueLayout.JAVA_LONG, size, epochSecond(end));
+      columns.startNanos.setAtIndex(ValueLayout.JAVA_INT, size, start.getNano());
+      columns.endNanos.setAtIndex(ValueLayout.JAVA_INT, size, end.getNano());
+      columns.prices.setAtIndex(ValueLayout.JAVA_LONG, size,
+          price.setScale(PRICE_SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact());
+      columns.priceLists.setAtIndex(ValueLayout.JAVA_INT, size, priceList);
+      columns.priorities.setAtIndex(ValueLayout.JAVA_INT, size, priority);
+      columns.currencies.setAtIndex(ValueLayout.JAVA_SHORT, size, currencyCode(currency));
+      size++;
+      return this;
+    }
+
+    public PriceColumnStore build() {
+      int capacity = Integer.highestOneBit(Math.max(keys, 1) * 2 - 1) << 1;
+      int mask = capacity - 1;
+      MemorySegment indexKeys = arena.allocate((long) capacity * Long.BYTES, Long.BYTES);
+      MemorySegment indexRanges = arena.allocate((long) capacity * Long.BYTES, Long.BYTES);
+      int from = 0;
+      for (int row = 1; row <= size; row++) {
+        if (row == size || columns.brandId(row) != columns.brandId(from)
+            || columns.productId(row) != columns.productId(from)) {
+          long key = key(columns.brandId(from), columns.productId(from));
+          int slot = slot(key, mask);
+          while (indexKeys.getAtIndex(ValueLayout.JAVA_LONG, slot) != EMPTY) {
+            slot = (slot + 1) & mask;
+          }
+          indexKeys.setAtIndex(ValueLayout.JAVA_LONG, slot, key);
+          indexRanges.setAtIndex(ValueLayout.JAVA_LONG, slot, ((long) from << 32) | row);
+          from = row;
+        }
+      }
+      return new PriceColumnStore(size, columns, currencies.toArray(String[]::new), indexKeys,
+          indexRanges);
+    }
+
+    private short currencyCode(String currency) {
+      return currencyCodes.computeIfAbsent(currency, value -> {
+        if (currencies.size() > Short.MAX_VALUE) {
+          throw new IllegalStateException("Too many distinct currencies");
+        }
+        currencies.add(value);
+        return (short) (currencies.size() - 1);
+      });
+    }
+  }
+
+  private static final class Columns {
+
+    private final int capacity;
+    private final MemorySegment ids;
+    private final MemorySegment brandIds;
+    private final MemorySegment productIds;
+    private final MemorySegment starts;
+    private final MemorySegment ends;
+    private final MemorySegment startNanos;
+    private final MemorySegment endNanos;
+    private final MemorySegment prices;
+    private final MemorySegment priceLists;
+    private final MemorySegment priorities;
+    private final MemorySegment currencies;
+
+    private Columns(Arena arena, int capacity) {
+      this.capacity = capacity;
+      this.ids = arena.allocate((long) capacity * Long.BYTES, Long.BYTES);
+      this.brandIds = arena.allocate((long) capacity * Integer.BYTES, Integer.BYTES);
+      this.productIds = arena.allocate((long) capacity * Integer.BYTES, Integer.BYTES);
+      this.starts = arena.allocate((long) capacity * Long.BYTES, Long.BYTES);
+      this.ends = arena.allocate((long) capacity * Long.BYTES, Long.BYTES);
+      this.startNanos = arena.allocate((long) capacity * Integer.BYTES, Integer.BYTES);
+      this.endNanos = arena.allocate((long) capacity * Integer.BYTES, Integer.BYTES);
+      this.prices = arena.allocate((long) capacity * Long.BYTES, Long.BYTES);
+      this.priceLists = arena.allocate((long) capacity * Integer.BYTES, Integer.BYTES);
+      this.priorities = arena.allocate((long) capacity * Integer.BYTES, Integer.BYTES);
+      this.currencies = arena.allocate((long) capacity * Short.BYTES, Short.BYTES);
+    }
+
+    Columns grow(Arena arena, int size) {
+      Columns grown = new Columns(arena, Math.toIntExact(Math.min((long) capacity * 2, Integer.MAX_VALUE - 8)));
+      copy(ids, grown.ids, (long) size * Long.BYTES);
+      copy(brandIds, grown.brandIds, (long) size * Integer.BYTES);
+      copy(productIds, grown.productIds, (long) size * Integer.BYTES);
+      copy(starts, grown.starts, (long) size * Long.BYTES);
+      copy(ends, grown.ends, (long) size * Long.BYTES);
+      copy(startNanos, grown.startNanos, (long) size * Integer.BYTES);
+      copy(endNanos, grown.endNanos, (long) size * Integer.BYTES);
+      copy(prices, grown.prices, (long) size * Long.BYTES);
+      copy(priceLists, grown.priceLists, (long) size * Integer.BYTES);
+      copy(priorities, grown.priorities, (long) size * Integer.BYTES);
+      copy(currencies, grown.currencies, (long) size * Short.BYTES);
+      return grown;
+    }
+
+    int brandId(int row) {
+      return brandIds.getAtIndex(ValueLayout.JAVA_INT, row);
+    }
+
+    int productId(int row) {
+      return productIds.getAtIndex(ValueLayout.JAVA_INT, row);
+    }
+
+    long start(int row) {
+      return starts.getAtIndex(ValueLayout.JAVA_LONG, row);
+    }
+
+    int startNanos(int row) {
+      return startNanos.getAtIndex(ValueLayout.JAVA_INT, row);
+    }
+
+    long bytes() {
+      return (long) capacity * ROW_BYTES;
+    }
+
+    private static void copy(MemorySegment source, MemorySegment target, long bytes) {
+      MemorySegment.copy(source, 0, target, 0, bytes);
+    }
+  }
+}
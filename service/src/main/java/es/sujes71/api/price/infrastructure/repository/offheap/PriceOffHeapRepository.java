@@ -0,0 +1,236 @@
+package es.sujes71.api.price.infrastructure.repository.offheap;
+
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.GET_PRICE_BY_PROPERTIES_ADDRESS;
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.GET_PRICE_SEGMENT_ADDRESS;
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.GET_PRICE_TIMELINE_BY_KEY_ADDRESS;
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.PRICES_IMPORTED_ADDRESS;
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.PRICE_CHANGED_ADDRESS;
+import static es.sujes71.shared.domain.ports.outbound.OutboundPort.register;
+import static es.sujes71.shared.domain.ports.outbound.OutboundPort.subscribe;
+
+import es.sujes71.api.price.domain.model.Price;
+import es.sujes71.api.price.domain.model.PriceChange;
+import es.sujes71.api.price.domain.model.PriceFilter;
+import es.sujes71.api.price.domain.model.PriceKey;
+import es.sujes71.api.price.domain.model.PriceSegment;
+import es.sujes71.api.price.domain.model.PriceTimeline;
+import es.sujes71.api.price.domain.model.PricesImported;
+import es.sujes71.api.price.infrastructure.repository.h2.dao.PriceDao;
+import es.sujes71.api.price.infrastructure.repository.h2.entity.PriceEntity;
+import es.sujes71.shared.domain.metrics.Stage;
+import es.sujes71.shared.infrastructure.metrics.StageMetrics;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Price changes go to an on-heap overlay that takes precedence over the immutable store for their
+ * key; the next reload folds it back in.
+ */
+@Repository
+@ConditionalOnProperty(name = "commerce.price.persistence", havingValue = "offheap")
+public class PriceOffHeapRepository implements MeterBinder {
+
+  private static final Logger log = LogManager.getLogger(PriceOffHeapRepository.class);
+
+  private static final String SELECT_SQL = """
+      SELECT ID, BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR
+      FROM PRICES
+      ORDER BY BRAND_ID, PRODUCT_ID, START_DATE, ID""";
+
+  private static final int INITIAL_ROWS = 1024;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final PriceDao priceDao;
+  private final int overlayThreshold;
+  private final ExecutorService reloads = Executors.newSingleThreadExecutor(Thread.ofPlatform()
+      .name("price-offheap-reload")
+      .daemon()
+      .factory());
+  private final AtomicBoolean reloadPending = new AtomicBoolean();
+  private final Object reloading = new Object();
+
+  private volatile State state;
+  private Set<PriceKey> refreshedDuringReload;
+
+  public PriceOffHeapRepository(JdbcTemplate jdbcTemplate, PriceDao priceDao,
+      @Value("${commerce.price.offheap.overlay-threshold:10000}") int overlayThreshold) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.priceDao = priceDao;
+    this.overlayThreshold = overlayThreshold;
+  }
+
+  @PostConstruct
+  public void start() {
+    reload();
+    register(GET_PRICE_BY_PROPERTIES_ADDRESS, this::findAllByProperties);
+    register(GET_PRICE_SEGMENT_ADDRESS, this::findSegmentByProperties);
+    register(GET_PRICE_TIMELINE_BY_KEY_ADDRESS, this::findTimelineByKey);
+    subscribe(PRICE_CHANGED_ADDRESS, "priceOffHeap", 0,
+        (PriceChange change) -> refresh(change.getKey()), this::reload);
+    subscribe(PRICES_IMPORTED_ADDRESS, "priceOffHeap", (PricesImported imported) -> reload());
+  }
+
+  @PreDestroy
+  public void stop() {
+    reloads.shutdown();
+    try {
+      reloads.awaitTermination(1, TimeUnit.MINUTES);
+    } catch (InterruptedException interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder("commerce.price.offheap.bytes", this, repository -> repository.state.store().bytes())
+        .baseUnit("bytes")
+        .register(registry);
+    Gauge.builder("commerce.price.offheap.overlay.keys", this, PriceOffHeapRepository::overlaySize)
+        .register(registry);
+  }
+
+  public List<Price> findAllByProperties(PriceFilter filter) {
+    State current = state;
+    if (!current.overlay().isEmpty()) {
+      PriceTimeline timeline = current.overlay().get(PriceKey.of(filter));
+      if (timeline != null) {
+        return timeline.priceAt(filter.getApplicationDate()).map(List::of).orElseGet(List::of);
+      }
+    }
+    PriceColumnStore store = current.store();
+    int winner = store.findTop(filter.getBrandId(), filter.getProductId(), filter.getApplicationDate());
+    return winner < 0 ? List.of() : List.of(store.toPrice(winner));
+  }
+
+  public Optional<PriceSegment> findSegmentByProperties(PriceFilter filter) {
+    long startedAt = System.nanoTime();
+    Optional<PriceSegment> segment = segmentOf(state, filter);
+    StageMetrics.record(Stage.SELECTION, System.nanoTime() - startedAt);
+    return segment;
+  }
+
+  private static Optional<PriceSegment> segmentOf(State current, PriceFilter filter) {
+    if (!current.overlay().isEmpty()) {
+      PriceTimeline timeline = current.overlay().get(PriceKey.of(filter));
+      if (timeline != null) {
+        return timeline.segmentAt(filter.getApplicationDate());
+      }
+    }
+    PriceColumnStore store = current.store();
+    int winner = store.findTop(filter.getBrandId(), filter.getProductId(), filter.getApplicationDate());
+    return winner < 0 ? Optional.empty() : Optional.of(store.segmentOf(winner, filter.getApplicationDate()));
+  }
+
+  public PriceTimeline findTimelineByKey(PriceKey key) {
+    State current = state;
+    PriceTimeline timeline = current.overlay().get(key);
+    return timeline != null
+        ? timeline
+        : PriceTimeline.of(current.store().pricesOf(key.brandId(), key.productId()));
+  }
+
+  /**
+   * Overrides the store for one key with its current rows in {@code PRICES}.
+   */
+  public synchronized void refresh(PriceKey key) {
+    List<Price> prices = priceDao.findAllByBrandAndProduct(key.brandId(), key.productId()).stream()
+        .map(PriceEntity::toDomain)
+        .toList();
+    state.overlay().put(key, PriceTimeline.of(prices));
+    if (refreshedDuringReload != null) {
+      refreshedDuringReload.add(key);
+    }
+    log.debug("Refreshed off-heap overlay for {} with {} rows", key, prices.size());
+
+    if (state.overlay().size() >= overlayThreshold && reloadPending.compareAndSet(false, true)) {
+      reloads.execute(this::reloadInBackground);
+    }
+  }
+
+  /**
+   * Number of keys the overlay currently overrides.
+   */
+  public int overlaySize() {
+    return state.overlay().size();
+  }
+
+  /**
+   * Builds a new store from {@code PRICES} while writes keep refreshing the current overlay. Keys
+   * refreshed during the build may be missing from it, so their overlay entries move to the new state.
+   */
+  public void reload() {
+    synchronized (reloading) {
+      long startedAt = System.nanoTime();
+      synchronized (this) {
+        refreshedDuringReload = new HashSet<>();
+      }
+      PriceColumnStore loaded;
+      try {
+        loaded = load();
+      } catch (RuntimeException error) {
+        synchronized (this) {
+          refreshedDuringReload = null;
+        }
+        throw error;
+      }
+      synchronized (this) {
+        Map<PriceKey, PriceTimeline> overlay = new ConcurrentHashMap<>();
+        refreshedDuringReload.forEach(key -> overlay.put(key, state.overlay().get(key)));
+        refreshedDuringReload = null;
+        state = new State(loaded, overlay);
+      }
+      log.info("Loaded off-heap price store with {} rows ({} bytes) in {} ms",
+          loaded.size(), loaded.bytes(), (System.nanoTime() - startedAt) / 1_000_000);
+    }
+  }
+
+  private PriceColumnStore load() {
+    PriceColumnStore.Builder builder = PriceColumnStore.builder(INITIAL_ROWS);
+    jdbcTemplate.query(SELECT_SQL, (RowCallbackHandler) resultSet -> builder.add(
+        resultSet.getLong(1),
+        resultSet.getInt(2),
+        resultSet.getInt(6),
+        resultSet.getTimestamp(3).toLocalDateTime(),
+        resultSet.getTimestamp(4).toLocalDateTime(),
+        resultSet.getBigDecimal(8),
+        resultSet.getInt(5),
+        resultSet.getInt(7),
+        resultSet.getString(9)));
+    return builder.build();
+  }
+
+  private void reloadInBackground() {
+    try {
+      if (state.overlay().size() >= overlayThreshold) {
+        reload();
+      }
+    } catch (RuntimeException error) {
+      log.error("Off-heap price store reload failed: {}", error.getMessage(), error);
+    } finally {
+      reloadPending.set(false);
+    }
+  }
+
+  private record State(PriceColumnStore store, Map<PriceKey, PriceTimeline> overlay) {
+  }
+}
@@ -0,0 +1,69 @@
+package es.sujes71.api.price.infrastructure.repository.r2dbc;
+
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.GET_PRICE_BY_PROPERTIES_ADDRESS;
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.GET_PRICE_SEGMENT_ADDRESS;
+import static es.sujes71.shared.domain.ports.outbound.OutboundPort.registerReactive;
+
+import es.sujes71.api.price.domain.model.Price;
+import es.sujes71.api.price.domain.model.PriceFilter;
+import es.sujes71.api.price.domain.model.PriceSegment;
+import es.sujes71.api.price.infrastructure.repository.r2dbc.dao.PriceReactiveLookupDao;
+import io.r2dbc.spi.ConnectionFactory;
+import jakarta.annotation.PostConstruct;
+import java.util.List;
+import java.util.Optional;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+/**
+ * R2DBC side of the {@code jdbc} backend for the reactive stack. It registers reactive handlers on
+ * the lookup addresses next to the blocking ones, so servlet callers keep using JDBC while WebFlux
+ * callers never block. Other backends answer from memory and need no reactive variant.
+ */
+@Repository
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+public class PriceReactiveRepository {
+
+  private static final Logger log = LogManager.getLogger(PriceReactiveRepository.class);
+
+  private static final String JDBC_PERSISTENCE = "jdbc";
+
+  private final PriceReactiveLookupDao priceReactiveLookupDao;
+  private final String persistence;
+
+  public PriceReactiveRepository(ConnectionFactory connectionFactory,
+      @Value("${commerce.price.persistence:" + JDBC_PERSISTENCE + "}") String persistence) {
+    this.priceReactiveLookupDao = new PriceReactiveLookupDao(DatabaseClient.create(connectionFactory));
+    this.persistence = persistence;
+  }
+
+  @PostConstruct
+  public void start() {
+    if (JDBC_PERSISTENCE.equals(persistence)) {
+      registerReactive(GET_PRICE_BY_PROPERTIES_ADDRESS, this::findTopByProperties);
+      registerReactive(GET_PRICE_SEGMENT_ADDRESS, this::findSegmentByProperties);
+    }
+  }
+
+  public Mono<List<Price>> findTopByProperties(PriceFilter filter) {
+    return priceReactiveLookupDao.findTopByProperties(
+            filter.getBrandId(), filter.getProductId(), filter.getApplicationDate())
+        .map(List::of)
+        .defaultIfEmpty(List.of())
+        .doOnError(error -> log.error("Error finding top price: {}", error.getMessage()));
+  }
+
+  public Mono<Optional<PriceSegment>> findSegmentByProperties(PriceFilter filter) {
+    return priceReactiveLookupDao.findSegmentByProperties(
+            filter.getBrandId(), filter.getProductId(), filter.getApplicationDate())
+        .map(Optional::of)
+        .defaultIfEmpty(Optional.empty())
+        .doOnError(error -> log.error("Error finding price segment: {}", error.getMessage()));
+  }
+}
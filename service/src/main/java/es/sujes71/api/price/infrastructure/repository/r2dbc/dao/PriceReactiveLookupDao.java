@@ -0,0 +1,104 @@
+package es.sujes71.api.price.infrastructure.repository.r2dbc.dao;
+
+import es.sujes71.api.price.domain.model.Price;
+import es.sujes71.api.price.domain.model.PriceSegment;
+import es.sujes71.shared.domain.metrics.Stage;
+import es.sujes71.shared.infrastructure.metrics.StageMetrics;
+import io.r2dbc.spi.Row;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of the JDBC lookup DAO: the same top-1 and segment-bound queries, issued
+ * through R2DBC so no thread waits on the database while they run.
+ */
+public class PriceReactiveLookupDao {
+
+  private static final String FIND_TOP_BY_PROPERTIES = """
+      SELECT START_DATE, END_DATE, PRICE_LIST, PRIORITY, PRICE, CURR, ID
+      FROM PRICES
+      WHERE BRAND_ID = :brandId
+      AND PRODUCT_ID = :productId
+      AND START_DATE <= :date
+      AND END_DATE >= :date
+      ORDER BY PRIORITY DESC, ID
+      LIMIT 1
+      """;
+
+  private static final String FIND_SEGMENT_BOUNDS = """
+      SELECT
+        (SELECT MAX(END_DATE) FROM PRICES
+         WHERE BRAND_ID = :brandId AND PRODUCT_ID = :productId AND END_DATE < :date AND END_DATE >= :start
+         AND (PRIORITY > :priority OR (PRIORITY = :priority AND ID < :id))),
+        (SELECT MIN(START_DATE) FROM PRICES
+         WHERE BRAND_ID = :brandId AND PRODUCT_ID = :productId AND START_DATE > :date AND START_DATE <= :end
+         AND (PRIORITY > :priority OR (PRIORITY = :priority AND ID < :id)))
+      """;
+
+  private final DatabaseClient databaseClient;
+
+  public PriceReactiveLookupDao(DatabaseClient databaseClient) {
+    this.databaseClient = databaseClient;
+  }
+
+  public Mono<Price> findTopByProperties(int brandId, int productId, LocalDateTime applicationDate) {
+    return findTop(brandId, productId, applicationDate).map(Ranked::price);
+  }
+
+  public Mono<PriceSegment> findSegmentByProperties(int brandId, int productId,
+      LocalDateTime applicationDate) {
+    return findTop(brandId, productId, applicationDate).flatMap(top -> {
+      Price price = top.price();
+      long startedAt = System.nanoTime();
+      return databaseClient.sql(FIND_SEGMENT_BOUNDS)
+          .bind("brandId", brandId)
+          .bind("productId", productId)
+          .bind("date", applicationDate)
+          .bind("start", price.getStartDate())
+          .bind("end", price.getEndDate())
+          .bind("priority", price.getPriority())
+          .bind("id", top.id())
+          .map((row, metadata) -> new Bounds(
+              row.get(0, LocalDateTime.class), row.get(1, LocalDateTime.class)))
+          .one()
+          .doOnNext(bounds -> StageMetrics.record(Stage.SELECTION, System.nanoTime() - startedAt))
+          .map(bounds -> PriceSegment.builder()
+              .from(bounds.lastEnd() != null ? bounds.lastEnd().plusNanos(1) : price.getStartDate())
+              .until(bounds.nextStart() != null ? bounds.nextStart() : price.getEndDate().plusNanos(1))
+              .price(price)
+              .build());
+    });
+  }
+
+  private Mono<Ranked> findTop(int brandId, int productId, LocalDateTime applicationDate) {
+    long startedAt = System.nanoTime();
+    return databaseClient.sql(FIND_TOP_BY_PROPERTIES)
+        .bind("brandId", brandId)
+        .bind("productId", productId)
+        .bind("date", applicationDate)
+        .map((row, metadata) -> new Ranked(row.get(6, Long.class), mapRow(row, brandId, productId)))
+        .first()
+        .doOnSuccess(ranked -> StageMetrics.record(Stage.QUERY, System.nanoTime() - startedAt));
+  }
+
+  private static Price mapRow(Row row, int brandId, int productId) {
+    return Price.builder()
+        .brandId(brandId)
+        .productId(productId)
+        .startDate(row.get(0, LocalDateTime.class))
+        .endDate(row.get(1, LocalDateTime.class))
+        .priceList(row.get(2, Integer.class))
+        .priority(row.get(3, Integer.class))
+        .price(row.get(4, BigDecimal.class))
+        .currency(row.get(5, String.class))
+        .build();
+  }
+
+  private record Ranked(long id, Price price) {
+  }
+
+  private record Bounds(LocalDateTime lastEnd, LocalDateTime nextStart) {
+  }
+}
@@ -0,0 +1,116 @@
+package es.sujes71.api.price.infrastructure.repository.snapshot;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.zip.CRC32C;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Append-only log of prices written after the snapshot was taken. Each entry is a snapshot record
+ * followed by its CRC32C, so a write torn by a crash is detected on replay and cut off instead of
+ * being read as a price.
+ */
+final class PriceChangeLog implements Closeable {
+
+  private static final Logger log = LogManager.getLogger(PriceChangeLog.class);
+
+  static final int ENTRY_SIZE = PriceSnapshotFile.RECORD_SIZE + Integer.BYTES;
+
+  private static final int READ_ENTRIES = 1024;
+
+  private final FileChannel channel;
+  private final boolean fsync;
+
+  private PriceChangeLog(FileChannel channel, boolean fsync) {
+    this.channel = channel;
+    this.fsync = fsync;
+  }
+
+  /**
+   * Opens the log for appending after replaying it. A corrupt or partial tail is truncated so new
+   * entries continue right after the last valid one.
+   */
+  static PriceChangeLog open(Path path, boolean fsync, List<PriceRecord> replayed) throws IOException {
+    Path parent = path.toAbsolutePath().getParent();
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
+    FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+        StandardOpenOption.WRITE);
+    try {
+      long valid = replay(channel, replayed);
+      if (valid < channel.size()) {
+        log.warn("Discarding {} bytes of torn or corrupt change log entries in {}",
+            channel.size() - valid, path);
+        channel.truncate(valid);
+      }
+      channel.position(valid);
+      return new PriceChangeLog(channel, fsync);
+    } catch (IOException | RuntimeException error) {
+      channel.close();
+      throw error;
+    }
+  }
+
+  synchronized void append(List<PriceRecord> records) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(records.size() * ENTRY_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    CRC32C crc = new CRC32C();
+    for (PriceRecord record : records) {
+      int start = buffer.position();
+      PriceSnapshotFile.encode(record, buffer);
+      crc.reset();
+      crc.update(buffer.array(), start, PriceSnapshotFile.RECORD_SIZE);
+      buffer.putInt((int) crc.getValue());
+    }
+    buffer.flip();
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+    if (fsync) {
+      channel.force(false);
+    }
+  }
+
+  synchronized void truncate() throws IOException {
+    channel.truncate(0);
+    channel.position(0);
+    if (fsync) {
+      channel.force(true);
+    }
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    channel.close();
+  }
+
+  private static long replay(FileChannel channel, List<PriceRecord> replayed) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(READ_ENTRIES * ENTRY_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    CRC32C crc = new CRC32C();
+    long position = 0;
+    while (true) {
+      buffer.clear();
+      int read = channel.read(buffer, position);
+      if (read < ENTRY_SIZE) {
+        return position;
+      }
+      for (int offset = 0; offset + ENTRY_SIZE <= read; offset += ENTRY_SIZE) {
+        crc.reset();
+        crc.update(buffer.array(), offset, PriceSnapshotFile.RECORD_SIZE);
+        if ((int) crc.getValue() != buffer.getInt(offset + PriceSnapshotFile.RECORD_SIZE)) {
+          return position;
+        }
+        replayed.add(PriceSnapshotFile.decode(buffer, offset));
+        position += ENTRY_SIZE;
+      }
+    }
+  }
+}
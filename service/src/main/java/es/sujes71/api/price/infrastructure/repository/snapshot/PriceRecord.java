@@ -0,0 +1,20 @@
+package es.sujes71.api.price.infrastructure.repository.snapshot;
+
+import es.sujes71.api.price.domain.model.Price;
+
+/**
+ * A price together with its {@code PRICES} id, which breaks priority ties the same way as the
+ * database lookups, and the {@code ROW_VERSION} it was read with. In the change log a record
+ * replaces any earlier one with the same id, and a {@code removed} record retracts it; {@code price}
+ * then holds the retracted values.
+ */
+public record PriceRecord(long id, long version, Price price, boolean removed) {
+
+  public PriceRecord(long id, long version, Price price) {
+    this(id, version, price, false);
+  }
+
+  public static PriceRecord removed(long id, Price price) {
+    return new PriceRecord(id, 0, price, true);
+  }
+}
@@ -0,0 +1,306 @@
+package es.sujes71.api.price.infrastructure.repository.snapshot;
+
+import es.sujes71.api.price.domain.model.Price;
+import java.io.Closeable;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Memory-mapped price snapshot: a {@value #HEADER_SIZE}-byte header followed by fixed-width
+ * little-endian records sorted by (brand, product, start, id). Files above 2 GB are mapped in chunks
+ * of whole records.
+ */
+final class PriceSnapshotFile {
+
+  static final int RECORD_SIZE = 72;
+  static final int HEADER_SIZE = 64;
+
+  private static final int MAGIC = 0x43505331;
+  private static final int VERSION = 2;
+  private static final int PRICE_SCALE = 2;
+  private static final long CHUNK_RECORDS = Integer.MAX_VALUE / RECORD_SIZE;
+  private static final byte[] PADDING = new byte[RECORD_SIZE - 68];
+
+  private final MappedByteBuffer[] chunks;
+  private final long size;
+  private final long versions;
+
+  private PriceSnapshotFile(MappedByteBuffer[] chunks, long size, long versions) {
+    this.chunks = chunks;
+    this.size = size;
+    this.versions = versions;
+  }
+
+  static PriceSnapshotFile open(Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+      int read = 0;
+      while (header.hasRemaining() && read >= 0) {
+        read = channel.read(header);
+      }
+      if (header.hasRemaining() || header.getInt(0) != MAGIC || header.getInt(4) != VERSION
+          || header.getInt(8) != RECORD_SIZE) {
+        throw new IOException("Not a price snapshot: " + path);
+      }
+      long size = header.getLong(16);
+      if (channel.size() < HEADER_SIZE + size * RECORD_SIZE) {
+        throw new IOException("Truncated price snapshot: " + path);
+      }
+
+      int chunkCount = (int) Math.max(1, (size + CHUNK_RECORDS - 1) / CHUNK_RECORDS);
+      MappedByteBuffer[] chunks = new MappedByteBuffer[chunkCount];
+      for (int chunk = 0; chunk < chunks.length; chunk++) {
+        long first = chunk * CHUNK_RECORDS;
+        long records = Math.min(CHUNK_RECORDS, size - first);
+        chunks[chunk] = channel.map(FileChannel.MapMode.READ_ONLY,
+            HEADER_SIZE + first * RECORD_SIZE, records * RECORD_SIZE);
+        chunks[chunk].order(ByteOrder.LITTLE_ENDIAN);
+      }
+      return new PriceSnapshotFile(chunks, size, header.getLong(32));
+    }
+  }
+
+  long size() {
+    return size;
+  }
+
+  /**
+   * Sum of the row versions of every record, to compare with {@code PRICES}.
+   */
+  long versions() {
+    return versions;
+  }
+
+  long id(long index) {
+    return chunk(index).getLong(offset(index));
+  }
+
+  long start(long index) {
+    return chunk(index).getLong(offset(index) + 8);
+  }
+
+  long end(long index) {
+    return chunk(index).getLong(offset(index) + 16);
+  }
+
+  long version(long index) {
+    return chunk(index).getLong(offset(index) + 32);
+  }
+
+  int priority(long index) {
+    return chunk(index).getInt(offset(index) + 52);
+  }
+
+  int startNanos(long index) {
+    return chunk(index).getInt(offset(index) + 56);
+  }
+
+  int endNanos(long index) {
+    return chunk(index).getInt(offset(index) + 60);
+  }
+
+  LocalDateTime startDate(long index) {
+    return dateTime(start(index), startNanos(index));
+  }
+
+  LocalDateTime endDate(long index) {
+    return dateTime(end(index), endNanos(index));
+  }
+
+  PriceRecord record(long index) {
+    return decode(chunk(index), offset(index));
+  }
+
+  /**
+   * First index whose (brand, product) is not below the given key.
+   */
+  long lowerBound(int brandId, int productId) {
+    return search(brandId, productId, false);
+  }
+
+  /**
+   * First index whose (brand, product) is above the given key.
+   */
+  long upperBound(int brandId, int productId) {
+    return search(brandId, productId, true);
+  }
+
+  /**
+   * First index in {@code [from, to)} whose start is after {@code epochSecond}.
+   */
+  long startsAfter(long from, long to, long epochSecond) {
+    long low = from;
+    long high = to;
+    while (low < high) {
+      long mid = (low + high) >>> 1;
+      if (start(mid) <= epochSecond) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  static long epochSecond(LocalDateTime date) {
+    return date.toEpochSecond(ZoneOffset.UTC);
+  }
+
+  static LocalDateTime dateTime(long epochSecond, int nanos) {
+    return LocalDateTime.ofEpochSecond(epochSecond, nanos, ZoneOffset.UTC);
+  }
+
+  static void encode(PriceRecord record, ByteBuffer buffer) {
+    Price price = record.price();
+    byte[] currency = price.getCurrency().getBytes(StandardCharsets.US_ASCII);
+    buffer.putLong(record.id())
+        .putLong(epochSecond(price.getStartDate()))
+        .putLong(epochSecond(price.getEndDate()))
+        .putLong(price.getPrice().setScale(PRICE_SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact())
+        .putLong(record.version())
+        .putInt(price.getBrandId())
+        .putInt(price.getProductId())
+        .putInt(price.getPriceList())
+        .putInt(price.getPriority())
+        .putInt(price.getStartDate().getNano())
+        .putInt(price.getEndDate().getNano())
+        .put(currency, 0, 3)
+        .put((byte) (record.removed() ? 1 : 0))
+        .put(PADDING);
+  }
+
+  static PriceRecord decode(ByteBuffer buffer, int offset) {
+    byte[] currency = new byte[3];
+    buffer.get(offset + 64, currency);
+    Price price = Price.builder()
+        .startDate(dateTime(buffer.getLong(offset + 8), buffer.getInt(offset + 56)))
+        .endDate(dateTime(buffer.getLong(offset + 16), buffer.getInt(offset + 60)))
+        .price(BigDecimal.valueOf(buffer.getLong(offset + 24), PRICE_SCALE))
+        .brandId(buffer.getInt(offset + 40))
+        .productId(buffer.getInt(offset + 44))
+        .priceList(buffer.getInt(offset + 48))
+        .priority(buffer.getInt(offset + 52))
+        .currency(new String(currency, StandardCharsets.US_ASCII))
+        .build();
+    return new PriceRecord(buffer.getLong(offset), buffer.getLong(offset + 32), price,
+        buffer.get(offset + 67) != 0);
+  }
+
+  private long search(int brandId, int productId, boolean includeKey) {
+    long low = 0;
+    long high = size;
+    while (low < high) {
+      long mid = (low + high) >>> 1;
+      ByteBuffer chunk = chunk(mid);
+      int offset = offset(mid);
+      int brand = chunk.getInt(offset + 40);
+      int product = chunk.getInt(offset + 44);
+      int compared = brand != brandId ? Integer.compare(brand, brandId) : Integer.compare(product, productId);
+      if (compared < 0 || (compared == 0 && includeKey)) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  private ByteBuffer chunk(long index) {
+    return chunks[(int) (index / CHUNK_RECORDS)];
+  }
+
+  private static int offset(long index) {
+    return (int) (index % CHUNK_RECORDS) * RECORD_SIZE;
+  }
+
+  /**
+   * Streams records, already in snapshot order, into a temporary file that replaces the snapshot
+   * atomically on {@link #commit()}. Closing without committing discards it.
+   */
+  static final class Writer implements Closeable {
+
+    private static final int BUFFER_RECORDS = 1024;
+
+    private final Path target;
+    private final Path temporary;
+    private final FileChannel channel;
+    private final ByteBuffer buffer =
+        ByteBuffer.allocateDirect(BUFFER_RECORDS * RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    private long size;
+    private long versions;
+    private boolean committed;
+
+    Writer(Path target) throws IOException {
+      this.target = target;
+      this.temporary = target.resolveSibling(target.getFileName() + ".tmp");
+      Path parent = target.toAbsolutePath().getParent();
+      if (parent != null) {
+        Files.createDirectories(parent);
+      }
+      this.channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+          StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+      channel.position(HEADER_SIZE);
+    }
+
+    void add(PriceRecord record) throws IOException {
+      if (!buffer.hasRemaining()) {
+        flush();
+      }
+      encode(record, buffer);
+      size++;
+      versions += record.version();
+    }
+
+    long size() {
+      return size;
+    }
+
+    void commit() throws IOException {
+      flush();
+      ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN)
+          .putInt(MAGIC)
+          .putInt(VERSION)
+          .putInt(RECORD_SIZE)
+          .putInt(0)
+          .putLong(size)
+          .putLong(System.currentTimeMillis())
+          .putLong(versions);
+      header.clear();
+      while (header.hasRemaining()) {
+        channel.write(header, header.position());
+      }
+      channel.force(true);
+      channel.close();
+      Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      committed = true;
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (!committed) {
+        channel.close();
+        Files.deleteIfExists(temporary);
+      }
+    }
+
+    private void flush() throws IOException {
+      buffer.flip();
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+      buffer.clear();
+    }
+  }
+}
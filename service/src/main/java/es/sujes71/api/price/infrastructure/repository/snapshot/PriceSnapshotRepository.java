@@ -0,0 +1,541 @@
+package es.sujes71.api.price.infrastructure.repository.snapshot;
+
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.GET_PRICE_BY_PROPERTIES_ADDRESS;
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.GET_PRICE_SEGMENT_ADDRESS;
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.GET_PRICE_TIMELINE_BY_KEY_ADDRESS;
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.PRICES_IMPORTED_ADDRESS;
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.PRICE_CHANGED_ADDRESS;
+import static es.sujes71.shared.domain.ports.outbound.OutboundPort.register;
+import static es.sujes71.shared.domain.ports.outbound.OutboundPort.subscribe;
+
+import es.sujes71.api.price.domain.model.Price;
+import es.sujes71.api.price.domain.model.PriceChange;
+import es.sujes71.api.price.domain.model.PriceFilter;
+import es.sujes71.api.price.domain.model.PriceKey;
+import es.sujes71.api.price.domain.model.PriceSegment;
+import es.sujes71.api.price.domain.model.PriceTimeline;
+import es.sujes71.api.price.domain.model.PricesImported;
+import es.sujes71.shared.domain.metrics.Stage;
+import es.sujes71.shared.infrastructure.metrics.StageMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Serves lookups from a mapped snapshot plus its change log, so startup does not load
+ * {@code PRICES}. The snapshot is rebuilt only when its row count and version sum no longer match.
+ */
+@Repository
+@ConditionalOnProperty(name = "commerce.price.persistence", havingValue = "snapshot")
+public class PriceSnapshotRepository {
+
+  private static final Logger log = LogManager.getLogger(PriceSnapshotRepository.class);
+
+  private static final String SELECT_SQL = """
+      SELECT ID, BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR, ROW_VERSION
+      FROM PRICES
+      ORDER BY BRAND_ID, PRODUCT_ID, START_DATE, ID""";
+
+  private static final String SELECT_BY_ID_SQL = """
+      SELECT ID, BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR, ROW_VERSION
+      FROM PRICES
+      WHERE ID = ?""";
+
+  private static final String FINGERPRINT_SQL = "SELECT COUNT(*), COALESCE(SUM(ROW_VERSION), 0) FROM PRICES";
+
+  private static final Comparator<PriceRecord> SNAPSHOT_ORDER = Comparator
+      .comparing((PriceRecord record) -> record.price().getBrandId())
+      .thenComparing(record -> record.price().getProductId())
+      .thenComparing(record -> record.price().getStartDate())
+      .thenComparingLong(PriceRecord::id);
+
+  private final JdbcTemplate jdbcTemplate;
+  private final Path snapshotPath;
+  private final Path changeLogPath;
+  private final Path compactedPath;
+  private final int compactThreshold;
+  private final boolean fsync;
+  private final ExecutorService compactions = Executors.newSingleThreadExecutor(Thread.ofPlatform()
+      .name("price-snapshot-compaction")
+      .daemon()
+      .factory());
+  private final AtomicBoolean compactionPending = new AtomicBoolean();
+  private final Object compaction = new Object();
+
+  private volatile State state;
+  private PriceChangeLog changeLog;
+
+  public PriceSnapshotRepository(JdbcTemplate jdbcTemplate,
+      @Value("${commerce.price.snapshot.path:data/prices.snapshot}") Path snapshotPath,
+      @Value("${commerce.price.snapshot.compact-threshold:10000}") int compactThreshold,
+      @Value("${commerce.price.snapshot.fsync:true}") boolean fsync) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.snapshotPath = snapshotPath;
+    this.changeLogPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".log");
+    this.compactedPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".compacted");
+    this.compactThreshold = compactThreshold;
+    this.fsync = fsync;
+  }
+
+  @PostConstruct
+  public void start() {
+    open();
+    register(GET_PRICE_BY_PROPERTIES_ADDRESS, this::findAllByProperties);
+    register(GET_PRICE_SEGMENT_ADDRESS, this::findSegmentByProperties);
+    register(GET_PRICE_TIMELINE_BY_KEY_ADDRESS, this::findTimelineByKey);
+    subscribe(PRICE_CHANGED_ADDRESS, "priceSnapshot", 0, this::onPriceChanged, this::rebuild);
+    subscribe(PRICES_IMPORTED_ADDRESS, "priceSnapshot", (PricesImported imported) -> rebuild());
+  }
+
+  /**
+   * Waits for a running compaction before closing the log; it holds the lock, so this one must not.
+   */
+  @PreDestroy
+  public void stop() throws IOException {
+    compactions.shutdown();
+    try {
+      compactions.awaitTermination(1, TimeUnit.MINUTES);
+    } catch (InterruptedException interrupted) {
+      Thread.currentThread().interrupt();
+    }
+    synchronized (this) {
+      changeLog.close();
+    }
+  }
+
+  public List<Price> findAllByProperties(PriceFilter filter) {
+    PriceRecord winner = winnerAt(state, filter);
+    return winner == null ? List.of() : List.of(winner.price());
+  }
+
+  /**
+   * Finds the winner like {@link #findAllByProperties} and bounds its segment from the mapped
+   * columns: it starts after the last outranking price that ends before the date and stops at the
+   * first one that starts after it, so only the winner is decoded.
+   */
+  public Optional<PriceSegment> findSegmentByProperties(PriceFilter filter) {
+    long startedAt = System.nanoTime();
+    State current = state;
+    PriceRecord winner = winnerAt(current, filter);
+    Optional<PriceSegment> segment = winner == null
+        ? Optional.empty()
+        : Optional.of(segmentOf(current, winner, filter));
+    StageMetrics.record(Stage.SELECTION, System.nanoTime() - startedAt);
+    return segment;
+  }
+
+  public PriceTimeline findTimelineByKey(PriceKey key) {
+    List<PriceRecord> records = recordsOf(key);
+    records.sort(Comparator.comparingLong(PriceRecord::id));
+    return PriceTimeline.of(records.stream().map(PriceRecord::price).toList());
+  }
+
+  private static PriceRecord winnerAt(State current, PriceFilter filter) {
+    LocalDateTime date = filter.getApplicationDate();
+    long second = PriceSnapshotFile.epochSecond(date);
+    int nanos = date.getNano();
+
+    PriceSnapshotFile file = current.file();
+    long from = file.lowerBound(filter.getBrandId(), filter.getProductId());
+    long to = file.upperBound(filter.getBrandId(), filter.getProductId());
+    long started = file.startsAfter(from, to, second);
+
+    Map<Long, PriceRecord> keyChanges = current.changes().getOrDefault(PriceKey.of(filter), Map.of());
+    long winner = -1;
+    for (long index = from; index < started; index++) {
+      long end = file.end(index);
+      if ((end > second || (end == second && file.endNanos(index) >= nanos))
+          && (file.start(index) < second || file.startNanos(index) <= nanos)
+          && (keyChanges.isEmpty() || !keyChanges.containsKey(file.id(index)))
+          && (winner < 0 || outranks(file.priority(index), file.id(index), file.priority(winner), file.id(winner)))) {
+        winner = index;
+      }
+    }
+    PriceRecord best = winner < 0 ? null : file.record(winner);
+
+    for (PriceRecord record : keyChanges.values()) {
+      Price price = record.price();
+      if (!record.removed() && !date.isBefore(price.getStartDate()) && !date.isAfter(price.getEndDate())
+          && (best == null || outranks(price.getPriority(), record.id(), best.price().getPriority(), best.id()))) {
+        best = record;
+      }
+    }
+    return best;
+  }
+
+  private static PriceSegment segmentOf(State current, PriceRecord winner, PriceFilter filter) {
+    Price price = winner.price();
+    long winnerEnd = PriceSnapshotFile.epochSecond(price.getEndDate());
+    SegmentBounds bounds = new SegmentBounds(price, filter.getApplicationDate());
+
+    PriceSnapshotFile file = current.file();
+    long to = file.upperBound(filter.getBrandId(), filter.getProductId());
+    Map<Long, PriceRecord> keyChanges = current.changes().getOrDefault(PriceKey.of(filter), Map.of());
+    for (long index = file.lowerBound(filter.getBrandId(), filter.getProductId());
+        index < to && file.start(index) <= winnerEnd; index++) {
+      if ((keyChanges.isEmpty() || !keyChanges.containsKey(file.id(index)))
+          && outranks(file.priority(index), file.id(index), price.getPriority(), winner.id())) {
+        bounds.add(file.startDate(index), file.endDate(index));
+      }
+    }
+    for (PriceRecord record : keyChanges.values()) {
+      Price other = record.price();
+      if (!record.removed()
+          && outranks(other.getPriority(), record.id(), price.getPriority(), winner.id())) {
+        bounds.add(other.getStartDate(), other.getEndDate());
+      }
+    }
+
+    return PriceSegment.builder()
+        .from(bounds.lastEnd == null ? price.getStartDate() : bounds.lastEnd.plusNanos(1))
+        .until(bounds.nextStart == null ? price.getEndDate().plusNanos(1) : bounds.nextStart)
+        .price(price)
+        .build();
+  }
+
+  /**
+   * Appends prices to the change log and makes them visible to lookups. A record replaces the
+   * snapshot row or earlier change with the same id; a removed record hides it.
+   */
+  public synchronized void append(List<PriceRecord> records) {
+    if (records.isEmpty()) {
+      return;
+    }
+    try {
+      changeLog.append(records);
+    } catch (IOException error) {
+      throw new UncheckedIOException(error);
+    }
+
+    state = new State(state.file(), fold(state.changes(), records), state.logged() + records.size());
+
+    if (state.logged() >= compactThreshold && compactionPending.compareAndSet(false, true)) {
+      compactions.execute(this::compactInBackground);
+    }
+  }
+
+  /**
+   * Logs the row as it is now rather than the event payload, so changes delivered out of order
+   * cannot leave an older version behind. The read runs under the lock, so the last append holds
+   * the last read. A row that is gone, or has moved to another key, is logged as removed from the
+   * key of the change.
+   */
+  private synchronized void onPriceChanged(PriceChange change) {
+    PriceRecord current = jdbcTemplate.query(SELECT_BY_ID_SQL,
+            (resultSet, row) -> toRecord(resultSet), change.getId()).stream()
+        .findFirst()
+        .filter(record -> PriceKey.of(record.price()).equals(change.getKey()))
+        .orElse(null);
+    append(List.of(current != null
+        ? current
+        : PriceRecord.removed(change.getId(),
+            change.getCurrent() != null ? change.getCurrent() : change.getPrevious())));
+  }
+
+  private void compactInBackground() {
+    try {
+      if (state.logged() >= compactThreshold) {
+        compact();
+      }
+    } catch (RuntimeException error) {
+      log.error("Price snapshot compaction failed: {}", error.getMessage(), error);
+    } finally {
+      compactionPending.set(false);
+    }
+  }
+
+  /**
+   * Writes a new snapshot with the change log folded in. Writes keep being logged meanwhile: the
+   * lock is only taken to swap the new snapshot in and keep in the log the changes appended since
+   * the compaction started. A rebuild in between makes the compacted snapshot obsolete.
+   */
+  public void compact() {
+    synchronized (compaction) {
+      long startedAt = System.nanoTime();
+      State compacted = state;
+      try {
+        long records = writeCompacted(compacted);
+        synchronized (this) {
+          if (state.file() != compacted.file()) {
+            Files.deleteIfExists(compactedPath);
+            return;
+          }
+          List<PriceRecord> arrived = appendedSince(compacted, state);
+          Files.move(compactedPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING,
+              StandardCopyOption.ATOMIC_MOVE);
+          PriceSnapshotFile file = PriceSnapshotFile.open(snapshotPath);
+          changeLog.truncate();
+          if (!arrived.isEmpty()) {
+            changeLog.append(arrived);
+          }
+          state = new State(file, fold(Map.of(), arrived), arrived.size());
+        }
+        log.info("Compacted price snapshot to {} records in {} ms",
+            records, (System.nanoTime() - startedAt) / 1_000_000);
+      } catch (IOException error) {
+        throw new UncheckedIOException(error);
+      }
+    }
+  }
+
+  private long writeCompacted(State current) throws IOException {
+    List<PriceRecord> changes = new ArrayList<>(current.logged());
+    current.changes().values().forEach(keyChanges -> keyChanges.values().stream()
+        .filter(record -> !record.removed())
+        .forEach(changes::add));
+    changes.sort(SNAPSHOT_ORDER);
+
+    try (PriceSnapshotFile.Writer writer = new PriceSnapshotFile.Writer(compactedPath)) {
+      PriceSnapshotFile file = current.file();
+      int next = 0;
+      for (long index = 0; index < file.size(); index++) {
+        PriceRecord record = file.record(index);
+        while (next < changes.size() && SNAPSHOT_ORDER.compare(changes.get(next), record) < 0) {
+          writer.add(changes.get(next++));
+        }
+        if (!isChanged(current, record)) {
+          writer.add(record);
+        }
+      }
+      while (next < changes.size()) {
+        writer.add(changes.get(next++));
+      }
+      writer.commit();
+      return writer.size();
+    }
+  }
+
+  /**
+   * Folding keeps the record instances it does not replace, so any record that is not the same
+   * instance in {@code before} was appended after it.
+   */
+  private static List<PriceRecord> appendedSince(State before, State after) {
+    List<PriceRecord> appended = new ArrayList<>();
+    after.changes().forEach((key, keyChanges) -> {
+      Map<Long, PriceRecord> earlier = before.changes().getOrDefault(key, Map.of());
+      keyChanges.forEach((id, record) -> {
+        if (earlier.get(id) != record) {
+          appended.add(record);
+        }
+      });
+    });
+    return appended;
+  }
+
+  /**
+   * Replaces the snapshot with the current content of {@code PRICES} and empties the change log.
+   */
+  public synchronized void rebuild() {
+    try {
+      writeFromDatabase();
+      replaceSnapshot();
+    } catch (IOException error) {
+      throw new UncheckedIOException(error);
+    }
+  }
+
+  /**
+   * Maps the snapshot, writing it from {@code PRICES} first if there is none or it cannot be read,
+   * and replays the change log. A snapshot whose fingerprint no longer matches {@code PRICES},
+   * because the table was written to while the service was down, is rebuilt from the database
+   * instead.
+   */
+  public synchronized void open() {
+    long startedAt = System.nanoTime();
+    try {
+      PriceSnapshotFile file = mapOrWrite();
+      List<PriceRecord> replayed = new ArrayList<>();
+      changeLog = PriceChangeLog.open(changeLogPath, fsync, replayed);
+      state = new State(file, fold(Map.of(), replayed), replayed.size());
+
+      Fingerprint expected = fingerprint(state);
+      Fingerprint actual = jdbcTemplate.queryForObject(FINGERPRINT_SQL,
+          (resultSet, row) -> new Fingerprint(resultSet.getLong(1), resultSet.getLong(2)));
+      if (!expected.equals(actual)) {
+        log.warn("Price snapshot holds {} but PRICES holds {}, rebuilding it", expected, actual);
+        writeFromDatabase();
+        replaceSnapshot();
+        return;
+      }
+      log.info("Mapped price snapshot with {} records and replayed {} changes in {} ms",
+          file.size(), replayed.size(), (System.nanoTime() - startedAt) / 1_000_000);
+    } catch (IOException error) {
+      throw new UncheckedIOException(error);
+    }
+  }
+
+  private PriceSnapshotFile mapOrWrite() throws IOException {
+    if (Files.exists(snapshotPath)) {
+      try {
+        return PriceSnapshotFile.open(snapshotPath);
+      } catch (IOException unreadable) {
+        log.warn("Price snapshot cannot be read, writing it again: {}", unreadable.getMessage());
+      }
+    }
+    writeFromDatabase();
+    return PriceSnapshotFile.open(snapshotPath);
+  }
+
+  private void replaceSnapshot() throws IOException {
+    PriceSnapshotFile file = PriceSnapshotFile.open(snapshotPath);
+    changeLog.truncate();
+    state = new State(file, Map.of(), 0);
+  }
+
+  private void writeFromDatabase() throws IOException {
+    long startedAt = System.nanoTime();
+    try (PriceSnapshotFile.Writer writer = new PriceSnapshotFile.Writer(snapshotPath)) {
+      jdbcTemplate.query(SELECT_SQL, (RowCallbackHandler) resultSet -> {
+        try {
+          writer.add(toRecord(resultSet));
+        } catch (IOException error) {
+          throw new UncheckedIOException(error);
+        }
+      });
+      writer.commit();
+      log.info("Wrote price snapshot with {} records from PRICES in {} ms",
+          writer.size(), (System.nanoTime() - startedAt) / 1_000_000);
+    }
+  }
+
+  private static PriceRecord toRecord(ResultSet resultSet) throws SQLException {
+    return new PriceRecord(resultSet.getLong(1), resultSet.getLong(10), Price.builder()
+        .brandId(resultSet.getInt(2))
+        .startDate(resultSet.getTimestamp(3).toLocalDateTime())
+        .endDate(resultSet.getTimestamp(4).toLocalDateTime())
+        .priceList(resultSet.getInt(5))
+        .productId(resultSet.getInt(6))
+        .priority(resultSet.getInt(7))
+        .price(resultSet.getBigDecimal(8))
+        .currency(resultSet.getString(9))
+        .build());
+  }
+
+  private List<PriceRecord> recordsOf(PriceKey key) {
+    State current = state;
+    PriceSnapshotFile file = current.file();
+    long from = file.lowerBound(key.brandId(), key.productId());
+    long to = file.upperBound(key.brandId(), key.productId());
+    List<PriceRecord> records = new ArrayList<>();
+    for (long index = from; index < to; index++) {
+      records.add(file.record(index));
+    }
+    Map<Long, PriceRecord> keyChanges = current.changes().getOrDefault(key, Map.of());
+    records.removeIf(record -> keyChanges.containsKey(record.id()));
+    keyChanges.values().stream().filter(record -> !record.removed()).forEach(records::add);
+    return records;
+  }
+
+  /**
+   * Applies change log records in order on top of the per-key changes, keeping the latest record of
+   * every id, removals included, so they keep masking the snapshot row they replace.
+   */
+  private static Map<PriceKey, Map<Long, PriceRecord>> fold(
+      Map<PriceKey, Map<Long, PriceRecord>> changes, List<PriceRecord> records) {
+    Map<PriceKey, Map<Long, PriceRecord>> folded = new HashMap<>(changes);
+    Map<PriceKey, Map<Long, PriceRecord>> touched = new HashMap<>();
+    for (PriceRecord record : records) {
+      PriceKey key = PriceKey.of(record.price());
+      touched.computeIfAbsent(key, ignored -> new HashMap<>(folded.getOrDefault(key, Map.of())))
+          .put(record.id(), record);
+    }
+    touched.forEach((key, keyChanges) -> folded.put(key, Map.copyOf(keyChanges)));
+    return folded;
+  }
+
+  /**
+   * Row count and sum of row versions of the snapshot with the log applied. Every write to
+   * {@code PRICES} draws a new {@code ROW_VERSION}, so an insert, update or delete the snapshot has
+   * not seen changes one or the other.
+   */
+  private static Fingerprint fingerprint(State state) {
+    PriceSnapshotFile file = state.file();
+    long rows = file.size();
+    long versions = file.versions();
+    for (Map.Entry<PriceKey, Map<Long, PriceRecord>> entry : state.changes().entrySet()) {
+      PriceKey key = entry.getKey();
+      Map<Long, PriceRecord> keyChanges = entry.getValue();
+      long to = file.upperBound(key.brandId(), key.productId());
+      for (long index = file.lowerBound(key.brandId(), key.productId()); index < to; index++) {
+        if (keyChanges.containsKey(file.id(index))) {
+          rows--;
+          versions -= file.version(index);
+        }
+      }
+      for (PriceRecord record : keyChanges.values()) {
+        if (!record.removed()) {
+          rows++;
+          versions += record.version();
+        }
+      }
+    }
+    return new Fingerprint(rows, versions);
+  }
+
+  private static boolean isChanged(State state, PriceRecord record) {
+    return state.changes().getOrDefault(PriceKey.of(record.price()), Map.of()).containsKey(record.id());
+  }
+
+  private static boolean outranks(int priority, long id, int otherPriority, long otherId) {
+    return priority > otherPriority || (priority == otherPriority && id < otherId);
+  }
+
+  private record State(PriceSnapshotFile file, Map<PriceKey, Map<Long, PriceRecord>> changes, int logged) {
+  }
+
+  private record Fingerprint(long rows, long versions) {
+  }
+
+  /**
+   * Narrows the winner's interval around the date with each outranking price: the latest end before
+   * the date and the earliest start after it.
+   */
+  private static final class SegmentBounds {
+
+    private final LocalDateTime winnerStart;
+    private final LocalDateTime winnerEnd;
+    private final LocalDateTime date;
+    private LocalDateTime lastEnd;
+    private LocalDateTime nextStart;
+
+    private SegmentBounds(Price winner, LocalDateTime date) {
+      this.winnerStart = winner.getStartDate();
+      this.winnerEnd = winner.getEndDate();
+      this.date = date;
+    }
+
+    private void add(LocalDateTime start, LocalDateTime end) {
+      if (!end.isBefore(winnerStart) && end.isBefore(date) && (lastEnd == null || end.isAfter(lastEnd))) {
+        lastEnd = end;
+      }
+      if (start.isAfter(date) && !start.isAfter(winnerEnd)
+          && (nextStart == null || start.isBefore(nextStart))) {
+        nextStart = start;
+      }
+    }
+  }
+}
@@ -1,26 +1,128 @@
 package es.sujes71.api.price.rest;
 
+import static es.sujes71.api.price.rest.adapter.PriceCacheAdapter.cacheControl;
+import static es.sujes71.api.price.rest.adapter.PriceCacheAdapter.etag;
 import static es.sujes71.api.price.rest.adapter.PriceFilterAdapter.adapt;
-import static es.sujes71.api.price.rest.validator.PriceParameterValidator.validate;
+import static es.sujes71.api.price.rest.validator.PriceParameterValidator.positiveLong;
 import static es.sujes71.shared.rest.Routing.BASE_PATH;
+import static es.sujes71.shared.rest.Routing.EXPORT_PRICES_PATH;
+import static es.sujes71.shared.rest.Routing.GET_PRICES_BATCH_PATH;
+import static es.sujes71.shared.rest.Routing.GET_PRICES_BY_PRODUCTS_PATH;
 import static es.sujes71.shared.rest.Routing.GET_PRICE_BY_PROPERTIES_PATH;
+import static es.sujes71.shared.rest.Routing.GET_PRICE_TIMELINE_PATH;
+import static es.sujes71.shared.rest.Routing.IMPORT_PRICES_PATH;
+import static es.sujes71.shared.rest.Routing.PRICE_BY_ID_PATH;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import es.sujes71.api.price.domain.model.Price;
-import es.sujes71.api.price.domain.ports.inbound.GetPriceByPropertiesUseCase;
+import es.sujes71.api.price.domain.model.PriceExport;
+import es.sujes71.api.price.domain.model.PriceFilter;
+import es.sujes71.api.price.domain.model.PriceImport;
+import es.sujes71.api.price.domain.model.PriceImportFormat;
+import es.sujes71.api.price.domain.model.PriceImportReport;
+import es.sujes71.api.price.domain.model.PriceProductsFilter;
+import es.sujes71.api.price.domain.model.PriceSegment;
+import es.sujes71.api.price.domain.model.PriceWindow;
+import es.sujes71.api.price.domain.model.StoredPrice;
+import es.sujes71.api.price.domain.model.exceptions.PriceNotFoundException;
+import es.sujes71.api.price.domain.ports.inbound.CreatePriceUseCase;
+import es.sujes71.api.price.domain.ports.inbound.DeletePriceUseCase;
+import es.sujes71.api.price.domain.ports.inbound.ExportPricesUseCase;
+import es.sujes71.api.price.domain.ports.inbound.GetPriceSegmentUseCase;
+import es.sujes71.api.price.domain.ports.inbound.GetPriceTimelineUseCase;
+import es.sujes71.api.price.domain.ports.inbound.GetPricesByFiltersUseCase;
+import es.sujes71.api.price.domain.ports.inbound.GetPricesByProductsUseCase;
+import es.sujes71.api.price.domain.ports.inbound.ImportPricesUseCase;
+import es.sujes71.api.price.domain.ports.inbound.UpdatePriceUseCase;
+import es.sujes71.api.price.rest.adapter.PriceExportAdapter;
+import es.sujes71.api.price.rest.adapter.PriceProductsAdapter;
+import es.sujes71.api.price.rest.adapter.PriceTimelineAdapter;
+import es.sujes71.api.price.rest.adapter.PriceWriteAdapter;
+import es.sujes71.api.price.rest.dto.PriceBatchItem;
+import es.sujes71.api.price.rest.dto.PriceExportLine;
+import es.sujes71.api.price.rest.dto.PriceProductItem;
+import es.sujes71.api.price.rest.dto.PriceRequest;
+import es.sujes71.api.price.rest.dto.PriceTimelineSegment;
+import es.sujes71.api.price.rest.dto.PriceWriteRequest;
+import es.sujes71.api.price.rest.validator.ParameterValidationException;
+import es.sujes71.shared.domain.metrics.Stage;
+import es.sujes71.shared.domain.model.ErrorResponse;
+import es.sujes71.shared.infrastructure.metrics.StageMetrics;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
+@ConditionalOnWebApplication(type = Type.SERVLET)
 @RequestMapping(BASE_PATH)
 public class PriceController {
 
-  private final GetPriceByPropertiesUseCase getPriceByPropertiesUseCase;
+  private final GetPriceSegmentUseCase getPriceSegmentUseCase;
+  private final GetPriceTimelineUseCase getPriceTimelineUseCase;
+  private final GetPricesByFiltersUseCase getPricesByFiltersUseCase;
+  private final GetPricesByProductsUseCase getPricesByProductsUseCase;
+  private final ImportPricesUseCase importPricesUseCase;
+  private final ExportPricesUseCase exportPricesUseCase;
+  private final CreatePriceUseCase createPriceUseCase;
+  private final UpdatePriceUseCase updatePriceUseCase;
+  private final DeletePriceUseCase deletePriceUseCase;
+  private final ObjectWriter exportLineWriter;
+  private final int batchMaxSize;
+  private final int productsMaxSize;
+  private final long maxAgeCapSeconds;
 
-  public PriceController(GetPriceByPropertiesUseCase getPriceByPropertiesUseCase) {
-    this.getPriceByPropertiesUseCase = getPriceByPropertiesUseCase;
+  public PriceController(GetPriceSegmentUseCase getPriceSegmentUseCase,
+      GetPriceTimelineUseCase getPriceTimelineUseCase,
+      GetPricesByFiltersUseCase getPricesByFiltersUseCase,
+      GetPricesByProductsUseCase getPricesByProductsUseCase,
+      ImportPricesUseCase importPricesUseCase,
+      ExportPricesUseCase exportPricesUseCase,
+      CreatePriceUseCase createPriceUseCase,
+      UpdatePriceUseCase updatePriceUseCase,
+      DeletePriceUseCase deletePriceUseCase,
+      ObjectMapper objectMapper,
+      @Value("${commerce.price.batch.max-size:5000}") int batchMaxSize,
+      @Value("${commerce.price.products.max-size:500}") int productsMaxSize,
+      @Value("${commerce.price.http.max-age-cap-seconds:3600}") long maxAgeCapSeconds) {
+    this.getPriceSegmentUseCase = getPriceSegmentUseCase;
+    this.getPriceTimelineUseCase = getPriceTimelineUseCase;
+    this.getPricesByFiltersUseCase = getPricesByFiltersUseCase;
+    this.getPricesByProductsUseCase = getPricesByProductsUseCase;
+    this.importPricesUseCase = importPricesUseCase;
+    this.exportPricesUseCase = exportPricesUseCase;
+    this.createPriceUseCase = createPriceUseCase;
+    this.updatePriceUseCase = updatePriceUseCase;
+    this.deletePriceUseCase = deletePriceUseCase;
+    this.exportLineWriter = objectMapper.writerFor(PriceExportLine.class);
+    this.batchMaxSize = batchMaxSize;
+    this.productsMaxSize = productsMaxSize;
+    this.maxAgeCapSeconds = maxAgeCapSeconds;
   }
 
   @GetMapping(GET_PRICE_BY_PROPERTIES_PATH)
@@ -29,8 +131,156 @@ public class PriceController {
       @RequestParam(required = false) String productId,
       @RequestParam(required = false) String applicationDate) {
 
-    validate(brandId, productId, applicationDate);
-    Price price = getPriceByPropertiesUseCase.execute(adapt(brandId, productId, applicationDate));
-    return ResponseEntity.ok(price);
+    long startedAt = System.nanoTime();
+    PriceFilter filter = adapt(brandId, productId, applicationDate);
+    StageMetrics.record(Stage.ADAPT, System.nanoTime() - startedAt);
+    PriceSegment segment = getPriceSegmentUseCase.execute(filter);
+    return ResponseEntity.ok()
+        .eTag(etag(segment.getPrice()))
+        .cacheControl(cacheControl(segment, filter.getApplicationDate(), maxAgeCapSeconds))
+        .body(segment.getPrice());
   }
-}
\ No newline at end of file
+
+  @PostMapping(GET_PRICE_BY_PROPERTIES_PATH)
+  public ResponseEntity<StoredPrice> createPrice(
+      @RequestBody(required = false) PriceWriteRequest request) {
+
+    StoredPrice created = createPriceUseCase.execute(PriceWriteAdapter.adapt(request));
+    return ResponseEntity
+        .created(URI.create("/" + BASE_PATH + GET_PRICE_BY_PROPERTIES_PATH + "/" + created.getId()))
+        .body(created);
+  }
+
+  @PutMapping(PRICE_BY_ID_PATH)
+  public ResponseEntity<StoredPrice> updatePrice(
+      @PathVariable String id,
+      @RequestBody(required = false) PriceWriteRequest request) {
+
+    StoredPrice storedPrice = StoredPrice.builder()
+        .id(positiveLong(id, "id"))
+        .price(PriceWriteAdapter.adapt(request))
+        .build();
+    return ResponseEntity.ok(updatePriceUseCase.execute(storedPrice));
+  }
+
+  @DeleteMapping(PRICE_BY_ID_PATH)
+  public ResponseEntity<Void> deletePrice(@PathVariable String id) {
+    deletePriceUseCase.execute(positiveLong(id, "id"));
+    return ResponseEntity.noContent().build();
+  }
+
+  @GetMapping(GET_PRICE_TIMELINE_PATH)
+  public ResponseEntity<List<PriceTimelineSegment>> getPriceTimeline(
+      @RequestParam(required = false) String brandId,
+      @RequestParam(required = false) String productId,
+      @RequestParam(required = false) String from,
+      @RequestParam(required = false) String to) {
+
+    PriceWindow window = PriceTimelineAdapter.adapt(brandId, productId, from, to);
+    return ResponseEntity.ok(getPriceTimelineUseCase.execute(window).stream()
+        .map(PriceTimelineSegment::of)
+        .toList());
+  }
+
+  @PostMapping(GET_PRICES_BATCH_PATH)
+  public ResponseEntity<List<PriceBatchItem>> getPrices(
+      @RequestBody(required = false) List<PriceRequest> requests) {
+
+    if (requests == null || requests.isEmpty()) {
+      throw new ParameterValidationException("At least one price request is required");
+    }
+    if (requests.size() > batchMaxSize) {
+      throw new ParameterValidationException(
+          "A batch cannot contain more than " + batchMaxSize + " requests");
+    }
+
+    PriceFilter[] filters = new PriceFilter[requests.size()];
+    PriceBatchItem[] items = new PriceBatchItem[requests.size()];
+    List<PriceFilter> validFilters = new ArrayList<>(requests.size());
+    for (int i = 0; i < requests.size(); i++) {
+      PriceRequest request = requests.get(i);
+      try {
+        if (request == null) {
+          throw new ParameterValidationException("Price request cannot be null");
+        }
+        filters[i] = adapt(request.brandId(), request.productId(), request.applicationDate());
+        validFilters.add(filters[i]);
+      } catch (IllegalArgumentException error) {
+        items[i] = PriceBatchItem.failed(i, new ErrorResponse(
+            "VALIDATION_ERROR", error.getMessage(), HttpStatus.BAD_REQUEST.value()));
+      }
+    }
+
+    Map<PriceFilter, Price> prices = getPricesByFiltersUseCase.execute(validFilters);
+    for (int i = 0; i < filters.length; i++) {
+      if (filters[i] == null) {
+        continue;
+      }
+      Price price = prices.get(filters[i]);
+      items[i] = price != null
+          ? PriceBatchItem.found(i, price)
+          : PriceBatchItem.failed(i, new ErrorResponse(
+              "PRICE_NOT_FOUND", PriceNotFoundException.MESSAGE, HttpStatus.NOT_FOUND.value()));
+    }
+
+    return ResponseEntity.ok(Arrays.asList(items));
+  }
+
+  @GetMapping(GET_PRICES_BY_PRODUCTS_PATH)
+  public ResponseEntity<Map<Integer, PriceProductItem>> getPricesByProducts(
+      @RequestParam(required = false) String brandId,
+      @RequestParam(required = false) String productIds,
+      @RequestParam(required = false) String applicationDate) {
+
+    PriceProductsFilter filter = PriceProductsAdapter.adapt(brandId, productIds, applicationDate,
+        productsMaxSize);
+    Map<Integer, Price> prices = getPricesByProductsUseCase.execute(filter);
+
+    Map<Integer, PriceProductItem> items = LinkedHashMap.newLinkedHashMap(filter.getProductIds().size());
+    for (Integer productId : filter.getProductIds()) {
+      Price price = prices.get(productId);
+      items.put(productId, price != null
+          ? PriceProductItem.found(price)
+          : PriceProductItem.failed(new ErrorResponse(
+              "PRICE_NOT_FOUND", PriceNotFoundException.MESSAGE, HttpStatus.NOT_FOUND.value())));
+    }
+    return ResponseEntity.ok(items);
+  }
+
+  @PostMapping(path = IMPORT_PRICES_PATH, consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+  public ResponseEntity<PriceImportReport> importPrices(
+      @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType, InputStream content) {
+
+    PriceImportFormat format = MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)
+        ? PriceImportFormat.NDJSON
+        : PriceImportFormat.CSV;
+    PriceImportReport report = importPricesUseCase.execute(
+        PriceImport.builder().format(format).content(content).build());
+    HttpStatus status = report.getFailure() == null ? HttpStatus.OK : HttpStatus.INTERNAL_SERVER_ERROR;
+    return ResponseEntity.status(status).body(report);
+  }
+
+  @GetMapping(EXPORT_PRICES_PATH)
+  public void exportPrices(
+      @RequestParam(required = false) String brandId,
+      @RequestParam(required = false) String from,
+      @RequestParam(required = false) String to,
+      @RequestParam(required = false) String after,
+      HttpServletResponse response) throws IOException {
+
+    PriceExport export = PriceExportAdapter.adapt(brandId, from, to, after);
+    response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+    OutputStream output = response.getOutputStream();
+    export.setSink(item -> writeLine(output, PriceExportLine.of(item)));
+    exportPricesUseCase.execute(export);
+  }
+
+  private void writeLine(OutputStream output, PriceExportLine line) {
+    try {
+      output.write(exportLineWriter.writeValueAsBytes(line));
+      output.write('\n');
+    } catch (IOException error) {
+      throw new UncheckedIOException(error);
+    }
+  }
+}
@@ -0,0 +1,37 @@
+package es.sujes71.api.price.rest.adapter;
+
+import es.sujes71.api.price.domain.model.Price;
+import es.sujes71.api.price.domain.model.PriceSegment;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import org.springframework.http.CacheControl;
+
+/**
+ * HTTP caching metadata for a resolved price. The ETag hashes every field of the price row, so it
+ * changes whenever the row is replaced or edited; {@code max-age} is the time left in the winning
+ * segment after the requested date, bounded by a configured cap.
+ */
+public class PriceCacheAdapter {
+
+  private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  public static String etag(Price price) {
+    String identity = price.getBrandId() + "|" + price.getProductId() + "|" + price.getPriceList()
+        + "|" + price.getStartDate() + "|" + price.getEndDate() + "|" + price.getPriority()
+        + "|" + price.getPrice() + "|" + price.getCurrency();
+    long hash = FNV_OFFSET_BASIS;
+    for (int i = 0; i < identity.length(); i++) {
+      hash = (hash ^ identity.charAt(i)) * FNV_PRIME;
+    }
+    return "\"" + Long.toHexString(hash) + "\"";
+  }
+
+  public static CacheControl cacheControl(PriceSegment segment, LocalDateTime applicationDate,
+      long maxAgeCapSeconds) {
+    long remaining = Duration.between(applicationDate, segment.getUntil()).toSeconds();
+    return CacheControl.maxAge(Math.max(0, Math.min(remaining, maxAgeCapSeconds)), TimeUnit.SECONDS)
+        .cachePublic();
+  }
+}
@@ -0,0 +1,35 @@
+package es.sujes71.api.price.rest.adapter;
+
+import static es.sujes71.api.price.rest.validator.PriceParameterValidator.isoDateTime;
+import static es.sujes71.api.price.rest.validator.PriceParameterValidator.positiveInt;
+
+import es.sujes71.api.price.domain.model.PriceExport;
+import es.sujes71.api.price.rest.validator.ParameterValidationException;
+
+public class PriceExportAdapter {
+
+  public static PriceExport adapt(String brandId, String from, String to, String after) {
+    PriceExport export = PriceExport.builder()
+        .brandId(positiveInt(brandId, "brandId"))
+        .from(from != null ? isoDateTime(from, "from") : null)
+        .to(to != null ? isoDateTime(to, "to") : null)
+        .after(after != null ? resumeKey(after) : null)
+        .build();
+    if (export.getFrom() != null && export.getTo() != null && export.getFrom().isAfter(export.getTo())) {
+      throw new ParameterValidationException("from must not be after to");
+    }
+    return export;
+  }
+
+  private static long resumeKey(String after) {
+    try {
+      long id = Long.parseLong(after.strip());
+      if (id < 0) {
+        throw new ParameterValidationException("after must not be negative");
+      }
+      return id;
+    } catch (NumberFormatException error) {
+      throw new ParameterValidationException("after must be a valid price id");
+    }
+  }
+}
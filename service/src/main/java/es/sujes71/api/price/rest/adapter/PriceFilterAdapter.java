@@ -1,16 +1,16 @@
 package es.sujes71.api.price.rest.adapter;
 
+import static es.sujes71.api.price.rest.validator.PriceParameterValidator.isoDateTime;
+import static es.sujes71.api.price.rest.validator.PriceParameterValidator.positiveInt;
 
 import es.sujes71.api.price.domain.model.PriceFilter;
-import java.time.LocalDateTime;
 
 public class PriceFilterAdapter {
 
   public static PriceFilter adapt(String brandId, String productId, String applicationDate) {
-    return PriceFilter.builder()
-        .brandId(Integer.parseInt(brandId.trim()))
-        .productId(Integer.parseInt(productId.trim()))
-        .applicationDate(LocalDateTime.parse(applicationDate.trim()))
-        .build();
+    return new PriceFilter(
+        positiveInt(brandId, "brandId"),
+        positiveInt(productId, "productId"),
+        isoDateTime(applicationDate, "applicationDate"));
   }
-}
\ No newline at end of file
+}
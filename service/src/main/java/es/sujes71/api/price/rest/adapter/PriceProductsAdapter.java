@@ -0,0 +1,37 @@
+package es.sujes71.api.price.rest.adapter;
+
+import static es.sujes71.api.price.rest.validator.PriceParameterValidator.isoDateTime;
+import static es.sujes71.api.price.rest.validator.PriceParameterValidator.positiveInt;
+
+import es.sujes71.api.price.domain.model.PriceProductsFilter;
+import es.sujes71.api.price.rest.validator.ParameterValidationException;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+public class PriceProductsAdapter {
+
+  public static PriceProductsFilter adapt(String brandId, String productIds, String applicationDate,
+      int maxProducts) {
+    return PriceProductsFilter.builder()
+        .brandId(positiveInt(brandId, "brandId"))
+        .productIds(productIds(productIds, maxProducts))
+        .applicationDate(isoDateTime(applicationDate, "applicationDate"))
+        .build();
+  }
+
+  private static List<Integer> productIds(String productIds, int maxProducts) {
+    if (productIds == null || productIds.isBlank()) {
+      throw new ParameterValidationException("productIds is required");
+    }
+    Set<Integer> ids = new LinkedHashSet<>();
+    for (String productId : productIds.split(",")) {
+      ids.add(positiveInt(productId, "productIds"));
+    }
+    if (ids.size() > maxProducts) {
+      throw new ParameterValidationException(
+          "productIds cannot contain more than " + maxProducts + " products");
+    }
+    return List.copyOf(ids);
+  }
+}
@@ -0,0 +1,23 @@
+package es.sujes71.api.price.rest.adapter;
+
+import static es.sujes71.api.price.rest.validator.PriceParameterValidator.isoDateTime;
+import static es.sujes71.api.price.rest.validator.PriceParameterValidator.positiveInt;
+
+import es.sujes71.api.price.domain.model.PriceWindow;
+import es.sujes71.api.price.rest.validator.ParameterValidationException;
+
+public class PriceTimelineAdapter {
+
+  public static PriceWindow adapt(String brandId, String productId, String from, String to) {
+    PriceWindow window = PriceWindow.builder()
+        .brandId(positiveInt(brandId, "brandId"))
+        .productId(positiveInt(productId, "productId"))
+        .from(isoDateTime(from, "from"))
+        .to(isoDateTime(to, "to"))
+        .build();
+    if (window.getFrom().isAfter(window.getTo())) {
+      throw new ParameterValidationException("from must not be after to");
+    }
+    return window;
+  }
+}
@@ -0,0 +1,37 @@
+package es.sujes71.api.price.rest.adapter;
+
+import static es.sujes71.api.price.rest.validator.PriceParameterValidator.isoDateTime;
+
+import es.sujes71.api.price.domain.model.Price;
+import es.sujes71.api.price.rest.dto.PriceWriteRequest;
+import es.sujes71.api.price.rest.validator.ParameterValidationException;
+
+/**
+ * Turns a write request into a {@link Price}. Only presence and date syntax are checked here; value
+ * constraints are enforced by the repository with the same rules as imports.
+ */
+public class PriceWriteAdapter {
+
+  public static Price adapt(PriceWriteRequest request) {
+    if (request == null) {
+      throw new ParameterValidationException("Price body is required");
+    }
+    return Price.builder()
+        .brandId(required(request.brandId(), "brandId"))
+        .productId(required(request.productId(), "productId"))
+        .startDate(isoDateTime(request.startDate(), "startDate"))
+        .endDate(isoDateTime(request.endDate(), "endDate"))
+        .priceList(required(request.priceList(), "priceList"))
+        .priority(required(request.priority(), "priority"))
+        .price(required(request.price(), "price"))
+        .currency(required(request.currency(), "currency"))
+        .build();
+  }
+
+  private static <T> T required(T value, String name) {
+    if (value == null) {
+      throw new ParameterValidationException(name + " is required");
+    }
+    return value;
+  }
+}
@@ -0,0 +1,21 @@
+package es.sujes71.api.price.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import es.sujes71.api.price.domain.model.Price;
+import es.sujes71.shared.domain.model.ErrorResponse;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PriceBatchItem(
+    int index,
+    Price price,
+    ErrorResponse error
+) {
+
+  public static PriceBatchItem found(int index, Price price) {
+    return new PriceBatchItem(index, price, null);
+  }
+
+  public static PriceBatchItem failed(int index, ErrorResponse error) {
+    return new PriceBatchItem(index, null, error);
+  }
+}
@@ -0,0 +1,12 @@
+package es.sujes71.api.price.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import es.sujes71.api.price.domain.model.Price;
+import es.sujes71.api.price.domain.model.PriceExportItem;
+
+public record PriceExportLine(long id, @JsonUnwrapped Price price) {
+
+  public static PriceExportLine of(PriceExportItem item) {
+    return new PriceExportLine(item.getId(), item.getPrice());
+  }
+}
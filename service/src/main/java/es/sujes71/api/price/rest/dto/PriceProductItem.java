@@ -0,0 +1,20 @@
+package es.sujes71.api.price.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import es.sujes71.api.price.domain.model.Price;
+import es.sujes71.shared.domain.model.ErrorResponse;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PriceProductItem(
+    Price price,
+    ErrorResponse error
+) {
+
+  public static PriceProductItem found(Price price) {
+    return new PriceProductItem(price, null);
+  }
+
+  public static PriceProductItem failed(ErrorResponse error) {
+    return new PriceProductItem(null, error);
+  }
+}
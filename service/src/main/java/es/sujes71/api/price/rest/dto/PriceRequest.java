@@ -0,0 +1,8 @@
+package es.sujes71.api.price.rest.dto;
+
+public record PriceRequest(
+    String brandId,
+    String productId,
+    String applicationDate
+) {
+}
@@ -0,0 +1,32 @@
+package es.sujes71.api.price.rest.dto;
+
+import es.sujes71.api.price.domain.model.PriceSegment;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * One stretch of a price timeline. Both bounds are inclusive and at second resolution, like
+ * {@code START_DATE} and {@code END_DATE} in {@code PRICES}.
+ */
+public record PriceTimelineSegment(
+    LocalDateTime from,
+    LocalDateTime to,
+    Integer priceList,
+    BigDecimal price,
+    String currency
+) {
+
+  public static PriceTimelineSegment of(PriceSegment segment) {
+    return new PriceTimelineSegment(
+        ceilingSecond(segment.getFrom()),
+        segment.getUntil().minusNanos(1).truncatedTo(ChronoUnit.SECONDS),
+        segment.getPrice().getPriceList(),
+        segment.getPrice().getPrice(),
+        segment.getPrice().getCurrency());
+  }
+
+  private static LocalDateTime ceilingSecond(LocalDateTime date) {
+    return date.getNano() == 0 ? date : date.truncatedTo(ChronoUnit.SECONDS).plusSeconds(1);
+  }
+}
@@ -0,0 +1,15 @@
+package es.sujes71.api.price.rest.dto;
+
+import java.math.BigDecimal;
+
+public record PriceWriteRequest(
+    Integer brandId,
+    Integer productId,
+    String startDate,
+    String endDate,
+    Integer priceList,
+    Integer priority,
+    BigDecimal price,
+    String currency
+) {
+}
@@ -0,0 +1,82 @@
+package es.sujes71.api.price.rest.reactive;
+
+import static es.sujes71.api.price.rest.adapter.PriceCacheAdapter.cacheControl;
+import static es.sujes71.api.price.rest.adapter.PriceCacheAdapter.etag;
+
+import es.sujes71.api.price.domain.model.PriceFilter;
+import es.sujes71.api.price.domain.model.exceptions.PriceNotFoundException;
+import es.sujes71.api.price.domain.ports.inbound.GetPriceSegmentReactiveUseCase;
+import es.sujes71.api.price.rest.adapter.PriceFilterAdapter;
+import es.sujes71.shared.domain.metrics.Stage;
+import es.sujes71.shared.domain.model.ErrorResponse;
+import es.sujes71.shared.infrastructure.concurrency.ConcurrencyLimitExceededException;
+import es.sujes71.shared.infrastructure.metrics.StageMetrics;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebFlux entry point for price lookups. It answers like the servlet controller, including the ETag,
+ * {@code Cache-Control} and error bodies, but the request never holds a thread while the lookup is
+ * in flight. Error mapping mirrors {@code GlobalExceptionHandler}, which does not apply to
+ * functional endpoints.
+ */
+@Component
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+public class PriceReactiveHandler {
+
+  private static final Logger log = LogManager.getLogger(PriceReactiveHandler.class);
+
+  private final GetPriceSegmentReactiveUseCase getPriceSegmentReactiveUseCase;
+  private final long maxAgeCapSeconds;
+
+  public PriceReactiveHandler(GetPriceSegmentReactiveUseCase getPriceSegmentReactiveUseCase,
+      @Value("${commerce.price.http.max-age-cap-seconds:3600}") long maxAgeCapSeconds) {
+    this.getPriceSegmentReactiveUseCase = getPriceSegmentReactiveUseCase;
+    this.maxAgeCapSeconds = maxAgeCapSeconds;
+  }
+
+  public Mono<ServerResponse> getPrice(ServerRequest request) {
+    return Mono.defer(() -> {
+          long startedAt = System.nanoTime();
+          PriceFilter filter = PriceFilterAdapter.adapt(
+              request.queryParam("brandId").orElse(null),
+              request.queryParam("productId").orElse(null),
+              request.queryParam("applicationDate").orElse(null));
+          StageMetrics.record(Stage.ADAPT, System.nanoTime() - startedAt);
+          return getPriceSegmentReactiveUseCase.execute(filter).flatMap(segment -> {
+            String etag = etag(segment.getPrice());
+            return request.checkNotModified(etag).switchIfEmpty(Mono.defer(() -> ServerResponse.ok()
+                .eTag(etag)
+                .cacheControl(cacheControl(segment, filter.getApplicationDate(), maxAgeCapSeconds))
+                .bodyValue(segment.getPrice())));
+          });
+        })
+        .onErrorResume(IllegalArgumentException.class,
+            error -> error(HttpStatus.BAD_REQUEST, "VALIDATION_ERROR", error.getMessage()))
+        .onErrorResume(PriceNotFoundException.class,
+            error -> error(HttpStatus.NOT_FOUND, "PRICE_NOT_FOUND", error.getMessage()))
+        .onErrorResume(ConcurrencyLimitExceededException.class,
+            error -> ServerResponse.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(error.getRetryAfterSeconds()))
+                .bodyValue(new ErrorResponse("SERVICE_OVERLOADED", "The service is overloaded, retry later",
+                    HttpStatus.SERVICE_UNAVAILABLE.value())))
+        .onErrorResume(error -> {
+          log.error("Error serving price lookup: {}", error.getMessage());
+          return error(HttpStatus.INTERNAL_SERVER_ERROR, "INTERNAL_SERVER_ERROR",
+              "An unexpected error occurred");
+        });
+  }
+
+  private static Mono<ServerResponse> error(HttpStatus status, String code, String message) {
+    return ServerResponse.status(status).bodyValue(new ErrorResponse(code, message, status.value()));
+  }
+}
@@ -0,0 +1,24 @@
+package es.sujes71.api.price.rest.reactive;
+
+import static es.sujes71.shared.rest.Routing.BASE_PATH;
+import static es.sujes71.shared.rest.Routing.GET_PRICE_BY_PROPERTIES_PATH;
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+public class PriceReactiveRouter {
+
+  @Bean
+  public RouterFunction<ServerResponse> priceRoutes(PriceReactiveHandler priceReactiveHandler) {
+    return RouterFunctions.route(GET("/" + BASE_PATH + GET_PRICE_BY_PROPERTIES_PATH),
+        priceReactiveHandler::getPrice);
+  }
+}
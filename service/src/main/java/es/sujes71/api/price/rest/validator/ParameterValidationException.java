@@ -0,0 +1,17 @@
+package es.sujes71.api.price.rest.validator;
+
+/**
+ * Invalid request parameter. Malformed requests are answered with a 400 and never need a stack
+ * trace, so none is captured.
+ */
+public class ParameterValidationException extends IllegalArgumentException {
+
+  public ParameterValidationException(String message) {
+    super(message);
+  }
+
+  @Override
+  public synchronized Throwable fillInStackTrace() {
+    return this;
+  }
+}
@@ -1,56 +1,191 @@
 package es.sujes71.api.price.rest.validator;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeParseException;
+import java.time.Year;
 import org.springframework.stereotype.Component;
 
+/**
+ * Validates and parses request parameters in a single pass over each string. Leading and trailing
+ * whitespace is skipped by index instead of trimming, and nothing is allocated or thrown unless the
+ * value is invalid.
+ */
 @Component
 public class PriceParameterValidator {
 
-  public static void validate(String brandId, String productId, String applicationDate) {
-    if (brandId == null || brandId.trim().isEmpty()) {
-      throw new IllegalArgumentException("brandId is required");
+  private static final String ISO_FORMAT_MESSAGE = " must be in ISO format (yyyy-MM-ddTHH:mm:ss)";
+
+  public static int positiveInt(String value, String name) {
+    if (value == null) {
+      throw required(name);
+    }
+    int start = firstNonBlank(value);
+    int end = lastNonBlank(value, start);
+    if (start == end) {
+      throw required(name);
     }
 
-    try {
-      int parsedBrandId = Integer.parseInt(brandId.trim());
-      if (parsedBrandId <= 0) {
-        throw new IllegalArgumentException("brandId must be a positive integer");
+    int index = start;
+    boolean negative = false;
+    char sign = value.charAt(index);
+    if (sign == '-' || sign == '+') {
+      negative = sign == '-';
+      if (++index == end) {
+        throw new ParameterValidationException(name + " must be a valid integer");
       }
-    } catch (NumberFormatException e) {
-      throw new IllegalArgumentException("brandId must be a valid integer");
     }
 
-    if (productId == null || productId.trim().isEmpty()) {
-      throw new IllegalArgumentException("productId is required");
+    long result = 0;
+    for (; index < end; index++) {
+      int digit = Character.digit(value.charAt(index), 10);
+      if (digit < 0) {
+        throw new ParameterValidationException(name + " must be a valid integer");
+      }
+      result = result * 10 + digit;
+      if (result > Integer.MAX_VALUE + 1L) {
+        throw new ParameterValidationException(name + " must be a valid integer");
+      }
+    }
+    if (!negative && result > Integer.MAX_VALUE) {
+      throw new ParameterValidationException(name + " must be a valid integer");
+    }
+    if (negative || result == 0) {
+      throw new ParameterValidationException(name + " must be a positive integer");
+    }
+    return (int) result;
+  }
+
+  public static long positiveLong(String value, String name) {
+    if (value == null) {
+      throw required(name);
+    }
+    int start = firstNonBlank(value);
+    int end = lastNonBlank(value, start);
+    if (start == end) {
+      throw required(name);
     }
 
-    try {
-      int parsedProductId = Integer.parseInt(productId.trim());
-      if (parsedProductId <= 0) {
-        throw new IllegalArgumentException("productId must be a positive integer");
+    int index = start;
+    boolean negative = false;
+    char sign = value.charAt(index);
+    if (sign == '-' || sign == '+') {
+      negative = sign == '-';
+      if (++index == end) {
+        throw new ParameterValidationException(name + " must be a valid integer");
       }
-    } catch (NumberFormatException e) {
-      throw new IllegalArgumentException("productId must be a valid integer");
     }
 
-    try {
-      int parsedProductId = Integer.parseInt(productId.trim());
-      if (parsedProductId <= 0) {
-        throw new IllegalArgumentException("productId must be a positive integer");
+    long result = 0;
+    for (; index < end; index++) {
+      int digit = Character.digit(value.charAt(index), 10);
+      if (digit < 0 || result > (Long.MAX_VALUE - digit) / 10) {
+        throw new ParameterValidationException(name + " must be a valid integer");
       }
-    } catch (NumberFormatException e) {
-      throw new IllegalArgumentException("productId must be a valid integer");
+      result = result * 10 + digit;
+    }
+    if (negative || result == 0) {
+      throw new ParameterValidationException(name + " must be a positive integer");
     }
+    return result;
+  }
 
-    if (applicationDate == null || applicationDate.trim().isEmpty()) {
-      throw new IllegalArgumentException("applicationDate is required");
+  /**
+   * Parses {@code yyyy-MM-ddTHH:mm[:ss[.fffffffff]]}, the subset of ISO-8601 accepted by
+   * {@link LocalDateTime#parse(CharSequence)} for four-digit years.
+   */
+  public static LocalDateTime isoDateTime(String value, String name) {
+    if (value == null) {
+      throw required(name);
+    }
+    int start = firstNonBlank(value);
+    int end = lastNonBlank(value, start);
+    int length = end - start;
+    if (length == 0) {
+      throw required(name);
+    }
+    if (length < 16
+        || value.charAt(start + 4) != '-'
+        || value.charAt(start + 7) != '-'
+        || (value.charAt(start + 10) != 'T' && value.charAt(start + 10) != 't')
+        || value.charAt(start + 13) != ':') {
+      throw invalidDate(name);
     }
 
-    try {
-      LocalDateTime.parse(applicationDate.trim());
-    } catch (DateTimeParseException e) {
-      throw new IllegalArgumentException("applicationDate must be in ISO format (yyyy-MM-ddTHH:mm:ss)");
+    int year = digits(value, start, 4);
+    int month = digits(value, start + 5, 2);
+    int day = digits(value, start + 8, 2);
+    int hour = digits(value, start + 11, 2);
+    int minute = digits(value, start + 14, 2);
+    int second = 0;
+    int nano = 0;
+
+    int index = start + 16;
+    if (index < end) {
+      if (value.charAt(index) != ':' || end - index < 3) {
+        throw invalidDate(name);
+      }
+      second = digits(value, index + 1, 2);
+      index += 3;
+      if (index < end) {
+        int fractionDigits = end - index - 1;
+        if (value.charAt(index) != '.' || fractionDigits > 9) {
+          throw invalidDate(name);
+        }
+        nano = digits(value, index + 1, fractionDigits);
+        for (int i = fractionDigits; i < 9 && nano >= 0; i++) {
+          nano *= 10;
+        }
+      }
     }
+
+    if (year < 0 || month < 1 || month > 12 || day < 1 || hour < 0 || hour > 23
+        || minute < 0 || minute > 59 || second < 0 || second > 59 || nano < 0
+        || day > daysInMonth(year, month)) {
+      throw invalidDate(name);
+    }
+    return LocalDateTime.of(year, month, day, hour, minute, second, nano);
+  }
+
+  private static int digits(String value, int from, int count) {
+    int result = 0;
+    for (int i = from; i < from + count; i++) {
+      int digit = value.charAt(i) - '0';
+      if (digit < 0 || digit > 9) {
+        return -1;
+      }
+      result = result * 10 + digit;
+    }
+    return result;
+  }
+
+  private static int daysInMonth(int year, int month) {
+    return switch (month) {
+      case 2 -> Year.isLeap(year) ? 29 : 28;
+      case 4, 6, 9, 11 -> 30;
+      default -> 31;
+    };
+  }
+
+  private static int firstNonBlank(String value) {
+    int index = 0;
+    while (index < value.length() && value.charAt(index) <= ' ') {
+      index++;
+    }
+    return index;
+  }
+
+  private static int lastNonBlank(String value, int start) {
+    int index = value.length();
+    while (index > start && value.charAt(index - 1) <= ' ') {
+      index--;
+    }
+    return index;
+  }
+
+  private static ParameterValidationException required(String name) {
+    return new ParameterValidationException(name + " is required");
+  }
+
+  private static ParameterValidationException invalidDate(String name) {
+    return new ParameterValidationException(name + ISO_FORMAT_MESSAGE);
   }
-}
\ No newline at end of file
+}
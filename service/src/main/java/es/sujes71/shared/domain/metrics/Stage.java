@@ -0,0 +1,20 @@
+package es.sujes71.shared.domain.metrics;
+
+import java.util.Locale;
+
+/**
+ * Stages of a price lookup, in the order they are reported.
+ */
+public enum Stage {
+  ADAPT,
+  DISPATCH,
+  QUERY,
+  MAPPING,
+  SELECTION;
+
+  private final String label = name().toLowerCase(Locale.ROOT);
+
+  public String label() {
+    return label;
+  }
+}
@@ -0,0 +1,27 @@
+package es.sujes71.shared.domain.metrics;
+
+/**
+ * Entry point for stage durations measured in the domain. Infrastructure installs the
+ * {@link Recorder} that publishes them; until one is installed, durations are dropped.
+ */
+public final class StageTimings {
+
+  private static volatile Recorder recorder = (stage, nanos) -> {
+  };
+
+  private StageTimings() {
+  }
+
+  public static void install(Recorder installed) {
+    recorder = installed;
+  }
+
+  public static void record(Stage stage, long nanos) {
+    recorder.record(stage, nanos);
+  }
+
+  @FunctionalInterface
+  public interface Recorder {
+    void record(Stage stage, long nanos);
+  }
+}
@@ -1,37 +1,333 @@
 package es.sujes71.shared.domain.ports.outbound;
 
 import es.sujes71.shared.domain.model.Message;
-import java.util.HashMap;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
 
+/**
+ * Channels are created once per address and never replaced, so callers can resolve them at wiring
+ * time. Decorators belong to the instance that installed them and are removed when it shuts down.
+ */
 @Component
 public class OutboundPort {
 
-  private static final Map<String, EventHandler<?, ?>> eventBus = new HashMap<>();
+  private static final Logger log = LogManager.getLogger(OutboundPort.class);
 
-  private OutboundPort() {
+  private static final Map<String, Channel<?, ?>> channels = new ConcurrentHashMap<>();
+  private static List<SharedDecoration> sharedDecorations = List.of();
+  private static final LongAdder listenerFailures = new LongAdder();
+
+  private final ExecutorService executor;
+
+  public OutboundPort(
+      @Value("${commerce.outbound.async.virtual-threads:true}") boolean virtualThreads,
+      @Value("${commerce.outbound.async.pool-size:0}") int poolSize) {
+    this.executor = virtualThreads
+        ? Executors.newVirtualThreadPerTaskExecutor()
+        : Executors.newFixedThreadPool(
+            poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors(),
+            Thread.ofPlatform().daemon().name("outbound-", 0).factory());
   }
 
-  public static <B, R> R requestEvent(Message<B> event) {
-    EventHandler<B, R> handler = resolve(event.address());
-    if (handler == null) {
-      throw new IllegalArgumentException("No handler found for address: " + event.address());
+  @PreDestroy
+  public void shutdown() {
+    synchronized (OutboundPort.class) {
+      sharedDecorations = sharedDecorations.stream()
+          .filter(decoration -> decoration.owner() != this)
+          .toList();
+      channels.values().forEach(channel -> channel.removeDecorations(this));
     }
-    return handler.handle(event.body());
+    executor.shutdown();
+  }
+
+  public static <B, R> R requestEvent(Message<B> event) {
+    return OutboundPort.<B, R>channel(event.address()).request(event.body());
+  }
+
+  public <B, R> CompletableFuture<R> requestEventAsync(Message<B> event) {
+    return OutboundPort.<B, R>channel(event.address()).requestAsync(event.body(), executor);
+  }
+
+  public <B, R> Mono<R> requestEventReactive(Message<B> event) {
+    return OutboundPort.<B, R>channel(event.address()).requestReactive(event.body(), executor);
+  }
+
+  public static <B> void publishEvent(Message<B> event) {
+    OutboundPort.<B, Void>channel(event.address()).publish(event.body());
   }
 
   public static <B, R> void register(String address, EventHandler<B, R> handler) {
-    eventBus.put(address, handler);
+    OutboundPort.<B, R>channel(address).register(handler);
+  }
+
+  public static <B, R> void registerReactive(String address, ReactiveEventHandler<B, R> handler) {
+    OutboundPort.<B, R>channel(address).registerReactive(handler);
+  }
+
+  /**
+   * Decorators run in ascending {@code order} from the outside in. A later decorator with the same
+   * name shadows an earlier one until its owner shuts down.
+   */
+  public <B, R> void decorate(String address, String name, int order, ChannelDecorator<B, R> decorator) {
+    OutboundPort.<B, R>channel(address).decorate(this, name, order, decorator);
+  }
+
+  /**
+   * Also applies to addresses created later.
+   */
+  public void decorateAll(String name, int order, ChannelDecoratorFactory factory) {
+    synchronized (OutboundPort.class) {
+      List<SharedDecoration> updated = new ArrayList<>(sharedDecorations);
+      updated.removeIf(decoration -> decoration.owner() == this && decoration.name().equals(name));
+      updated.add(new SharedDecoration(this, name, order, factory));
+      sharedDecorations = List.copyOf(updated);
+      channels.values().forEach(channel -> channel.decorate(this, name, order, factory));
+    }
+  }
+
+  public static <B> void subscribe(String address, String subscriber, EventListener<B> listener) {
+    subscribe(address, subscriber, 0, listener);
+  }
+
+  /**
+   * Listeners are notified in ascending {@code order}, then in subscription order, and subscribing
+   * again under the same name replaces the listener.
+   */
+  public static <B> void subscribe(String address, String subscriber, int order,
+      EventListener<B> listener) {
+    subscribe(address, subscriber, order, listener, () -> {
+    });
+  }
+
+  /**
+   * Also names the {@code recovery} that runs when the listener fails, typically a full reload of
+   * whatever the listener keeps up to date.
+   */
+  public static <B> void subscribe(String address, String subscriber, int order,
+      EventListener<B> listener, Runnable recovery) {
+    OutboundPort.<B, Object>channel(address).subscribe(subscriber, order, listener, recovery);
+  }
+
+  public static long listenerFailures() {
+    return listenerFailures.sum();
+  }
+
+  /**
+   * Executor that runs blocking handlers for asynchronous and reactive requests.
+   */
+  public Executor executor() {
+    return executor;
   }
 
   @SuppressWarnings("unchecked")
-  private static <B, R> EventHandler<B, R> resolve(String address) {
-    return (EventHandler<B, R>) eventBus.get(address);
+  public static <B, R> Channel<B, R> channel(String address) {
+    Channel<?, ?> channel = channels.get(address);
+    return (Channel<B, R>) (channel != null ? channel : createChannel(address));
+  }
+
+  /**
+   * Created under the lock that installs shared decorators, so a new address cannot miss one.
+   */
+  private static synchronized Channel<?, ?> createChannel(String address) {
+    return channels.computeIfAbsent(address, key -> {
+      Channel<?, ?> created = new Channel<>(key);
+      sharedDecorations.forEach(decoration -> created.decorate(
+          decoration.owner(), decoration.name(), decoration.order(), decoration.factory()));
+      return created;
+    });
   }
 
   @FunctionalInterface
   public interface EventHandler<B, R> {
     R handle(B body);
   }
-}
\ No newline at end of file
+
+  @FunctionalInterface
+  public interface ReactiveEventHandler<B, R> {
+    Mono<R> handle(B body);
+  }
+
+  @FunctionalInterface
+  public interface EventListener<B> {
+    void onEvent(B body);
+  }
+
+  @FunctionalInterface
+  public interface ChannelDecorator<B, R> {
+
+    EventHandler<B, R> decorate(EventHandler<B, R> handler);
+
+    /**
+     * Reactive handlers are left as they are unless the decorator also knows how to wrap them.
+     */
+    default ReactiveEventHandler<B, R> decorateReactive(ReactiveEventHandler<B, R> handler) {
+      return handler;
+    }
+  }
+
+  /**
+   * Builds the decorator of one address for {@link #decorateAll}. The decorator must not depend on
+   * the body or result types, since it is applied to every address.
+   */
+  @FunctionalInterface
+  public interface ChannelDecoratorFactory {
+    ChannelDecorator<Object, Object> forAddress(String address);
+  }
+
+  public static final class Channel<B, R> {
+
+    private final String address;
+    private volatile EventHandler<B, R> handler;
+    private volatile ReactiveEventHandler<B, R> reactiveHandler;
+    private volatile List<Subscription<B>> listeners = List.of();
+    private EventHandler<B, R> registeredHandler;
+    private ReactiveEventHandler<B, R> registeredReactiveHandler;
+    private List<Decoration<B, R>> decorations = List.of();
+
+    private Channel(String address) {
+      this.address = address;
+    }
+
+    public R request(B body) {
+      EventHandler<B, R> current = handler;
+      if (current == null) {
+        throw new IllegalArgumentException("No handler found for address: " + address);
+      }
+      return current.handle(body);
+    }
+
+    public CompletableFuture<R> requestAsync(B body, Executor executor) {
+      EventHandler<B, R> current = handler;
+      if (current == null) {
+        return CompletableFuture.failedFuture(
+            new IllegalArgumentException("No handler found for address: " + address));
+      }
+      return CompletableFuture.supplyAsync(() -> current.handle(body), executor);
+    }
+
+    public Mono<R> requestReactive(B body, Executor executor) {
+      ReactiveEventHandler<B, R> current = reactiveHandler;
+      if (current == null) {
+        return Mono.fromFuture(() -> requestAsync(body, executor));
+      }
+      return Mono.defer(() -> current.handle(body));
+    }
+
+    /**
+     * Runs after the change is committed, so a failing listener is left to its recovery instead of
+     * failing the caller.
+     */
+    public void publish(B body) {
+      for (Subscription<B> subscription : listeners) {
+        try {
+          subscription.listener().onEvent(body);
+        } catch (RuntimeException error) {
+          listenerFailures.increment();
+          log.error("Listener {} failed on {}: {}", subscription.name(), address, error.getMessage());
+          recover(subscription);
+        }
+      }
+    }
+
+    private void recover(Subscription<B> subscription) {
+      try {
+        subscription.recovery().run();
+      } catch (RuntimeException error) {
+        log.error("Recovery of listener {} failed on {}: {}", subscription.name(), address,
+            error.getMessage());
+      }
+    }
+
+    private synchronized void register(EventHandler<B, R> registered) {
+      registeredHandler = registered;
+      applyDecorations();
+    }
+
+    private synchronized void registerReactive(ReactiveEventHandler<B, R> registered) {
+      registeredReactiveHandler = registered;
+      applyDecorations();
+    }
+
+    private synchronized void decorate(OutboundPort owner, String name, int order,
+        ChannelDecorator<B, R> decorator) {
+      List<Decoration<B, R>> updated = new ArrayList<>(decorations);
+      updated.removeIf(decoration -> decoration.owner() == owner && decoration.name().equals(name));
+      updated.add(new Decoration<>(owner, name, order, decorator));
+      decorations = List.copyOf(updated);
+      applyDecorations();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void decorate(OutboundPort owner, String name, int order,
+        ChannelDecoratorFactory factory) {
+      decorate(owner, name, order,
+          (ChannelDecorator<B, R>) (ChannelDecorator<?, ?>) factory.forAddress(address));
+    }
+
+    private synchronized void removeDecorations(OutboundPort owner) {
+      decorations = decorations.stream()
+          .filter(decoration -> decoration.owner() != owner)
+          .toList();
+      applyDecorations();
+    }
+
+    /**
+     * Keeps the latest decoration of each name, then wraps the innermost one first.
+     */
+    private void applyDecorations() {
+      Map<String, Decoration<B, R>> latest = new LinkedHashMap<>();
+      decorations.forEach(decoration -> latest.put(decoration.name(), decoration));
+      List<Decoration<B, R>> applied = new ArrayList<>(latest.values());
+      applied.sort(Comparator.comparingInt(Decoration::order));
+      EventHandler<B, R> decorated = registeredHandler;
+      ReactiveEventHandler<B, R> decoratedReactive = registeredReactiveHandler;
+      for (int i = applied.size() - 1; i >= 0; i--) {
+        ChannelDecorator<B, R> decorator = applied.get(i).decorator();
+        decorated = decorated == null ? null : decorator.decorate(decorated);
+        decoratedReactive = decoratedReactive == null ? null : decorator.decorateReactive(decoratedReactive);
+      }
+      handler = decorated;
+      reactiveHandler = decoratedReactive;
+    }
+
+    private synchronized void subscribe(String subscriber, int order, EventListener<B> listener,
+        Runnable recovery) {
+      List<Subscription<B>> updated = new ArrayList<>(listeners);
+      updated.removeIf(subscription -> subscription.name().equals(subscriber));
+      updated.add(new Subscription<>(subscriber, order, listener, recovery));
+      updated.sort(Comparator.comparingInt(Subscription::order));
+      listeners = List.copyOf(updated);
+    }
+
+    public String address() {
+      return address;
+    }
+  }
+
+  private record Decoration<B, R>(OutboundPort owner, String name, int order,
+      ChannelDecorator<B, R> decorator) {
+  }
+
+  private record Subscription<B>(String name, int order, EventListener<B> listener,
+      Runnable recovery) {
+  }
+
+  private record SharedDecoration(OutboundPort owner, String name, int order,
+      ChannelDecoratorFactory factory) {
+  }
+}
@@ -0,0 +1,136 @@
+package es.sujes71.shared.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Half-open ranges {@code [from, until)} known to have no result, grouped so a change forgets a
+ * whole group. An absence is only recorded if no invalidation happened since its
+ * {@link #generation()}.
+ */
+public final class NegativeCache<G, K extends Comparable<? super K>> implements MeterBinder {
+
+  public static final String NEGATIVE_CACHE_COUNTER = "commerce.outbound.negative-cache";
+  public static final String NEGATIVE_CACHE_ENTRIES = "commerce.outbound.negative-cache.entries";
+
+  private static final int MAX_RANGES_PER_GROUP = 64;
+
+  private final String name;
+  private final Cache<G, List<Range<K>>> absent;
+  private final AtomicLong invalidations = new AtomicLong();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  public NegativeCache(String name, long maxEntries, Duration ttl) {
+    this.name = name;
+    this.absent = Caffeine.newBuilder()
+        .maximumWeight(maxEntries)
+        .weigher((G group, List<Range<K>> ranges) -> ranges.size())
+        .expireAfterWrite(ttl)
+        .build();
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    counter(registry, "hit", hits);
+    counter(registry, "miss", misses);
+    Gauge.builder(NEGATIVE_CACHE_ENTRIES, this, NegativeCache::size)
+        .tag("name", name)
+        .register(registry);
+  }
+
+  public boolean isAbsent(G group, K key) {
+    List<Range<K>> ranges = absent.getIfPresent(group);
+    if (ranges != null) {
+      for (Range<K> range : ranges) {
+        if (range.contains(key)) {
+          hits.increment();
+          return true;
+        }
+      }
+    }
+    misses.increment();
+    return false;
+  }
+
+  public long generation() {
+    return invalidations.get();
+  }
+
+  /**
+   * Records that no key in {@code [from, until)} has a result, unless the group was invalidated
+   * since {@code generation} was taken. Groups are copied on write so the weight of an entry is
+   * always its current size.
+   */
+  public void recordAbsent(G group, K from, K until, long generation) {
+    if (invalidations.get() != generation) {
+      return;
+    }
+    Range<K> range = new Range<>(from, until);
+    absent.asMap().compute(group, (ignored, ranges) -> {
+      if (ranges == null) {
+        return List.of(range);
+      }
+      if (ranges.contains(range) || ranges.size() >= MAX_RANGES_PER_GROUP) {
+        return ranges;
+      }
+      List<Range<K>> grown = new ArrayList<>(ranges);
+      grown.add(range);
+      return List.copyOf(grown);
+    });
+    if (invalidations.get() != generation) {
+      absent.invalidate(group);
+    }
+  }
+
+  public void invalidate(G group) {
+    invalidations.incrementAndGet();
+    absent.invalidate(group);
+  }
+
+  public void invalidateAll() {
+    invalidations.incrementAndGet();
+    absent.invalidateAll();
+  }
+
+  /**
+   * Number of absent ranges currently remembered, across all groups.
+   */
+  public long size() {
+    return absent.policy().eviction()
+        .map(eviction -> eviction.weightedSize().orElse(0))
+        .orElse(0L);
+  }
+
+  public long hits() {
+    return hits.sum();
+  }
+
+  public long misses() {
+    return misses.sum();
+  }
+
+  private void counter(MeterRegistry registry, String outcome, LongAdder adder) {
+    FunctionCounter.builder(NEGATIVE_CACHE_COUNTER, adder, LongAdder::sum)
+        .tag("name", name)
+        .tag("outcome", outcome)
+        .register(registry);
+  }
+
+  private record Range<K extends Comparable<? super K>>(K from, K until) {
+
+    boolean contains(K key) {
+      return (from == null || from.compareTo(key) <= 0)
+          && (until == null || key.compareTo(until) < 0);
+    }
+  }
+}
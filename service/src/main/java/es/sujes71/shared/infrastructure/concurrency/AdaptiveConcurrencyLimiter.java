@@ -0,0 +1,204 @@
+package es.sujes71.shared.infrastructure.concurrency;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Supplier;
+import reactor.core.publisher.Mono;
+
+/**
+ * AIMD limit on calls in flight. A slow call cuts the limit by 10%, at most once per round trip;
+ * a threshold of zero makes it a fixed bulkhead of {@code maxLimit}.
+ */
+public final class AdaptiveConcurrencyLimiter implements MeterBinder {
+
+  public static final String LIMIT_GAUGE = "commerce.outbound.limiter.limit";
+  public static final String IN_FLIGHT_GAUGE = "commerce.outbound.limiter.in-flight";
+  public static final String REJECTED_COUNTER = "commerce.outbound.limiter.rejected";
+  public static final String QUEUE_TIMER = "commerce.outbound.limiter.queue";
+
+  private static final double BACKOFF = 0.9;
+  private static final int MIN_LIMIT = 1;
+
+  private final String name;
+  private final int maxLimit;
+  private final long latencyThresholdNanos;
+  private final long maxWaitNanos;
+  private final long retryAfterSeconds;
+
+  private final AtomicLong limitBits;
+  private final AtomicLong lastDecrease = new AtomicLong(System.nanoTime());
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final AtomicInteger waiting = new AtomicInteger();
+  private final LongAdder rejected = new LongAdder();
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition released = lock.newCondition();
+  private volatile Timer queueTimer;
+
+  public AdaptiveConcurrencyLimiter(String name, int maxLimit, long latencyThresholdMillis,
+      long maxWaitMillis, long retryAfterSeconds) {
+    if (maxLimit < MIN_LIMIT) {
+      throw new IllegalArgumentException("Concurrency limit for " + name + " must be positive");
+    }
+    this.name = name;
+    this.maxLimit = maxLimit;
+    this.latencyThresholdNanos = TimeUnit.MILLISECONDS.toNanos(latencyThresholdMillis);
+    this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+    this.retryAfterSeconds = retryAfterSeconds;
+    this.limitBits = new AtomicLong(Double.doubleToLongBits(maxLimit));
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder(LIMIT_GAUGE, this, AdaptiveConcurrencyLimiter::limit)
+        .tag("name", name)
+        .register(registry);
+    Gauge.builder(IN_FLIGHT_GAUGE, inFlight, AtomicInteger::get)
+        .tag("name", name)
+        .register(registry);
+    FunctionCounter.builder(REJECTED_COUNTER, rejected, LongAdder::sum)
+        .tag("name", name)
+        .register(registry);
+    queueTimer = Timer.builder(QUEUE_TIMER)
+        .tag("name", name)
+        .publishPercentileHistogram()
+        .register(registry);
+  }
+
+  public <V> V execute(Supplier<V> call) {
+    long arrivedAt = System.nanoTime();
+    if (!tryAcquire() && !awaitSlot(arrivedAt)) {
+      rejected.increment();
+      throw new ConcurrencyLimitExceededException(name, retryAfterSeconds);
+    }
+    long startedAt = System.nanoTime();
+    Timer timer = queueTimer;
+    if (timer != null) {
+      timer.record(startedAt - arrivedAt, TimeUnit.NANOSECONDS);
+    }
+    try {
+      return call.get();
+    } finally {
+      release(startedAt, System.nanoTime() - startedAt);
+    }
+  }
+
+  /**
+   * Reactive calls must not park their thread, so they take a free slot or are rejected at once.
+   * The slot is held until the returned {@link Mono} terminates or is cancelled.
+   */
+  public <V> Mono<V> executeReactive(Supplier<Mono<V>> call) {
+    return Mono.defer(() -> {
+      if (!tryAcquire()) {
+        rejected.increment();
+        return Mono.error(new ConcurrencyLimitExceededException(name, retryAfterSeconds));
+      }
+      Timer timer = queueTimer;
+      if (timer != null) {
+        timer.record(0, TimeUnit.NANOSECONDS);
+      }
+      long startedAt = System.nanoTime();
+      return Mono.defer(call)
+          .doFinally(signal -> release(startedAt, System.nanoTime() - startedAt));
+    });
+  }
+
+  public int limit() {
+    return (int) currentLimit();
+  }
+
+  public int inFlight() {
+    return inFlight.get();
+  }
+
+  public long rejected() {
+    return rejected.sum();
+  }
+
+  private boolean tryAcquire() {
+    while (true) {
+      int current = inFlight.get();
+      if (current >= limit()) {
+        return false;
+      }
+      if (inFlight.compareAndSet(current, current + 1)) {
+        return true;
+      }
+    }
+  }
+
+  private boolean awaitSlot(long arrivedAt) {
+    if (maxWaitNanos <= 0) {
+      return false;
+    }
+    lock.lock();
+    waiting.incrementAndGet();
+    try {
+      long remaining = maxWaitNanos - (System.nanoTime() - arrivedAt);
+      while (!tryAcquire()) {
+        if (remaining <= 0) {
+          return false;
+        }
+        remaining = released.awaitNanos(remaining);
+      }
+      return true;
+    } catch (InterruptedException error) {
+      Thread.currentThread().interrupt();
+      return false;
+    } finally {
+      waiting.decrementAndGet();
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Adjusts the limit before giving the slot back, so a waiter woken by the release already sees
+   * the new limit.
+   */
+  private void release(long startedAt, long latencyNanos) {
+    if (latencyThresholdNanos > 0) {
+      adjust(startedAt, latencyNanos, inFlight.get());
+    }
+    inFlight.decrementAndGet();
+    if (waiting.get() > 0) {
+      lock.lock();
+      try {
+        released.signal();
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
+  private void adjust(long startedAt, long latencyNanos, int inFlightBeforeRelease) {
+    if (latencyNanos > latencyThresholdNanos) {
+      long decreasedAt = lastDecrease.get();
+      if (startedAt - decreasedAt >= 0 && lastDecrease.compareAndSet(decreasedAt, System.nanoTime())) {
+        update(limit -> Math.max(MIN_LIMIT, limit * BACKOFF));
+      }
+    } else if (inFlightBeforeRelease * 2 >= currentLimit()) {
+      update(limit -> Math.min(maxLimit, limit + 1 / limit));
+    }
+  }
+
+  private void update(DoubleUnaryOperator function) {
+    long bits;
+    do {
+      bits = limitBits.get();
+    } while (!limitBits.compareAndSet(bits,
+        Double.doubleToLongBits(function.applyAsDouble(Double.longBitsToDouble(bits)))));
+  }
+
+  private double currentLimit() {
+    return Double.longBitsToDouble(limitBits.get());
+  }
+}
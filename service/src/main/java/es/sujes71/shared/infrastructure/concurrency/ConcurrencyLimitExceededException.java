@@ -0,0 +1,19 @@
+package es.sujes71.shared.infrastructure.concurrency;
+
+/**
+ * Thrown when a call is shed by an {@link AdaptiveConcurrencyLimiter}. Rejections are expected
+ * under overload and carry no stack trace, so shedding stays cheap.
+ */
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+  private final long retryAfterSeconds;
+
+  public ConcurrencyLimitExceededException(String name, long retryAfterSeconds) {
+    super("Concurrency limit reached for " + name, null, false, false);
+    this.retryAfterSeconds = retryAfterSeconds;
+  }
+
+  public long getRetryAfterSeconds() {
+    return retryAfterSeconds;
+  }
+}
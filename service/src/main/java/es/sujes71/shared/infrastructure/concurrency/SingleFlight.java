@@ -0,0 +1,217 @@
+package es.sujes71.shared.infrastructure.concurrency;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import reactor.core.publisher.Mono;
+
+/**
+ * Collapses concurrent calls for the same key into one. With a join window the result stays
+ * joinable for that long after it completes.
+ */
+public final class SingleFlight<K, V> implements MeterBinder {
+
+  public static final String COALESCING_COUNTER = "commerce.outbound.coalescing";
+
+  private final String name;
+  private final ConcurrentHashMap<K, Flight<V>> flights = new ConcurrentHashMap<>();
+  private final Executor expiry;
+  private final long windowNanos;
+  private final LongAdder leaders = new LongAdder();
+  private final LongAdder joined = new LongAdder();
+  private final LongAdder bypassed = new LongAdder();
+
+  public SingleFlight(String name, long windowMillis) {
+    this.name = name;
+    this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+    this.expiry = CompletableFuture.delayedExecutor(Math.max(windowMillis, 0), TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    counter(registry, "leader", leaders);
+    counter(registry, "joined", joined);
+    counter(registry, "bypassed", bypassed);
+  }
+
+  public V execute(K key, Supplier<V> call) {
+    return execute(key, call, value -> true);
+  }
+
+  public V execute(K key, Supplier<V> call, Predicate<V> reusable) {
+    while (true) {
+      Flight<V> flight = new Flight<>();
+      Flight<V> current = flights.putIfAbsent(key, flight);
+      if (current == null) {
+        return lead(key, flight, call);
+      }
+      if (current.isExpired()) {
+        flights.remove(key, current);
+        continue;
+      }
+      V value;
+      try {
+        value = current.join();
+      } catch (CancellationException cancelled) {
+        bypassed.increment();
+        return call.get();
+      }
+      if (reusable.test(value)) {
+        joined.increment();
+        return value;
+      }
+      bypassed.increment();
+      return call.get();
+    }
+  }
+
+  /**
+   * Like {@link #execute(Object, Supplier, Predicate)}, but followers subscribe to the flight instead
+   * of blocking on it. Blocking and reactive callers of one key share the same flights. A reactive
+   * leader cancelled before its result leaves its followers to run their own call.
+   */
+  public Mono<V> executeReactive(K key, Supplier<Mono<V>> call, Predicate<V> reusable) {
+    return Mono.defer(() -> {
+      while (true) {
+        Flight<V> flight = new Flight<>();
+        Flight<V> current = flights.putIfAbsent(key, flight);
+        if (current == null) {
+          return leadReactive(key, flight, call);
+        }
+        if (current.isExpired()) {
+          flights.remove(key, current);
+          continue;
+        }
+        return Mono.fromFuture(current.result, true)
+            .onErrorResume(CancellationException.class, cancelled -> {
+              bypassed.increment();
+              return Mono.defer(call);
+            })
+            .flatMap(value -> {
+              if (reusable.test(value)) {
+                joined.increment();
+                return Mono.just(value);
+              }
+              bypassed.increment();
+              return Mono.defer(call);
+            });
+      }
+    });
+  }
+
+  public void forget(Predicate<K> keys) {
+    flights.keySet().removeIf(keys);
+  }
+
+  public void forgetAll() {
+    flights.clear();
+  }
+
+  public long leaders() {
+    return leaders.sum();
+  }
+
+  public long joined() {
+    return joined.sum();
+  }
+
+  public long bypassed() {
+    return bypassed.sum();
+  }
+
+  private V lead(K key, Flight<V> flight, Supplier<V> call) {
+    leaders.increment();
+    try {
+      V value = call.get();
+      flight.complete(value, windowNanos);
+      return value;
+    } catch (RuntimeException | Error error) {
+      flight.fail(error);
+      flights.remove(key, flight);
+      throw error;
+    } finally {
+      if (windowNanos <= 0) {
+        flights.remove(key, flight);
+      } else {
+        expiry.execute(() -> flights.remove(key, flight));
+      }
+    }
+  }
+
+  private Mono<V> leadReactive(K key, Flight<V> flight, Supplier<Mono<V>> call) {
+    leaders.increment();
+    return Mono.defer(call)
+        .doOnNext(value -> flight.complete(value, windowNanos))
+        .doOnError(error -> {
+          flight.fail(error);
+          flights.remove(key, flight);
+        })
+        .doFinally(signal -> {
+          flight.fail(new CancellationException());
+          if (windowNanos <= 0 || flight.result.isCompletedExceptionally()) {
+            flights.remove(key, flight);
+          } else {
+            expiry.execute(() -> flights.remove(key, flight));
+          }
+        });
+  }
+
+  private void counter(MeterRegistry registry, String outcome, LongAdder adder) {
+    FunctionCounter.builder(COALESCING_COUNTER, adder, LongAdder::sum)
+        .tag("name", name)
+        .tag("outcome", outcome)
+        .register(registry);
+  }
+
+  private static final class Flight<V> {
+
+    private final CompletableFuture<V> result = new CompletableFuture<>();
+    private long expiresAt;
+
+    void complete(V value, long windowNanos) {
+      expiresAt = System.nanoTime() + windowNanos;
+      result.complete(value);
+    }
+
+    /**
+     * Does nothing once the flight has a result.
+     */
+    void fail(Throwable error) {
+      if (!result.isDone()) {
+        expiresAt = System.nanoTime();
+        result.completeExceptionally(error);
+      }
+    }
+
+    /**
+     * {@code expiresAt} is written before the result is published, so the completion check makes it
+     * visible.
+     */
+    boolean isExpired() {
+      return result.isDone() && System.nanoTime() - expiresAt >= 0;
+    }
+
+    V join() {
+      try {
+        return result.join();
+      } catch (CompletionException error) {
+        if (error.getCause() instanceof RuntimeException cause) {
+          throw cause;
+        }
+        if (error.getCause() instanceof Error cause) {
+          throw cause;
+        }
+        throw error;
+      }
+    }
+  }
+}
@@ -0,0 +1,25 @@
+package es.sujes71.shared.infrastructure.config;
+
+import java.util.Map;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+/**
+ * Maps {@code commerce.execution.mode=virtual} onto Boot's {@code spring.threads.virtual.enabled},
+ * so the embedded server and Boot's task executors switch to virtual threads together. The default
+ * is added last, so an explicit {@code spring.threads.virtual.enabled} still wins.
+ */
+public class ExecutionModeEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+  private static final String PROPERTY_SOURCE = "commerceExecutionMode";
+
+  @Override
+  public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+    if ("virtual".equals(environment.getProperty("commerce.execution.mode"))) {
+      environment.getPropertySources().addLast(new MapPropertySource(PROPERTY_SOURCE,
+          Map.of("spring.threads.virtual.enabled", "true")));
+    }
+  }
+}
@@ -0,0 +1,116 @@
+package es.sujes71.shared.infrastructure.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import es.sujes71.shared.infrastructure.jdbc.ReadWriteRoutingDataSource;
+import es.sujes71.shared.infrastructure.jdbc.ReadWriteRoutingDataSource.ReadConsistency;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.datasource.init.DatabasePopulatorUtils;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+/**
+ * Puts read replicas behind the application {@link DataSource}. The configured data source stays
+ * the primary and receives every write; reads marked with
+ * {@link es.sujes71.shared.infrastructure.jdbc.DataSourceRouting#read} are balanced over one Hikari
+ * pool per replica URL. {@code replica-init-locations} lets local H2 instances stand in for real
+ * replicas by loading the same scripts as the primary.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "commerce.datasource.routing.enabled", havingValue = "true")
+public class ReadReplicaConfiguration {
+
+  @Bean
+  public MeterBinder readReplicaMetrics(DataSource dataSource) throws SQLException {
+    ReadWriteRoutingDataSource routing = dataSource.unwrap(ReadWriteRoutingDataSource.class);
+    return registry -> Gauge.builder("commerce.jdbc.replicas.healthy", routing,
+        ReadWriteRoutingDataSource::healthyReplicas).register(registry);
+  }
+
+  @Bean
+  public static BeanPostProcessor readWriteRoutingDataSourcePostProcessor(
+      @Value("${commerce.datasource.routing.replica-urls:}") String[] replicaUrls,
+      @Value("${commerce.datasource.routing.read-consistency:replica}") String readConsistency,
+      @Value("${commerce.datasource.routing.health-check-interval-ms:5000}") long healthCheckIntervalMillis,
+      @Value("${commerce.datasource.routing.replica-pool-size:${spring.datasource.hikari.maximum-pool-size:10}}")
+      int replicaPoolSize,
+      @Value("${commerce.datasource.routing.replica-init-locations:}") String[] replicaInitLocations,
+      @Value("${spring.datasource.driver-class-name:}") String driverClassName,
+      @Value("${spring.datasource.username:}") String username,
+      @Value("${spring.datasource.password:}") String password) {
+    return new RoutingPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource primary) || bean instanceof ReadWriteRoutingDataSource) {
+          return bean;
+        }
+        List<DataSource> replicas = new ArrayList<>(replicaUrls.length);
+        for (int i = 0; i < replicaUrls.length; i++) {
+          HikariDataSource replica = DataSourceBuilder.create()
+              .type(HikariDataSource.class)
+              .url(replicaUrls[i].strip())
+              .driverClassName(driverClassName.isEmpty() ? null : driverClassName)
+              .username(username)
+              .password(password)
+              .build();
+          replica.setPoolName("replica-" + i);
+          replica.setMaximumPoolSize(replicaPoolSize);
+          initialize(replica, replicaInitLocations);
+          replicas.add(replica);
+        }
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primary, replicas,
+            ReadConsistency.valueOf(readConsistency.strip().toUpperCase(Locale.ROOT)),
+            healthCheckIntervalMillis);
+        routing.start();
+        return routing;
+      }
+    };
+  }
+
+  private static void initialize(DataSource replica, String[] locations) {
+    if (locations.length == 0) {
+      return;
+    }
+    PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+    ResourceDatabasePopulator populator = new ResourceDatabasePopulator();
+    try {
+      for (String location : locations) {
+        Resource[] scripts = resolver.getResources(location.strip());
+        Arrays.sort(scripts, Comparator.comparing(Resource::getFilename));
+        populator.addScripts(scripts);
+      }
+    } catch (IOException error) {
+      throw new UncheckedIOException(error);
+    }
+    DatabasePopulatorUtils.execute(populator, replica);
+  }
+
+  /**
+   * Runs before other data source post-processors, so wrappers such as the virtual-thread limiter
+   * apply to the routed data source as a whole.
+   */
+  private abstract static class RoutingPostProcessor implements BeanPostProcessor, Ordered {
+
+    @Override
+    public int getOrder() {
+      return Ordered.HIGHEST_PRECEDENCE;
+    }
+  }
+}
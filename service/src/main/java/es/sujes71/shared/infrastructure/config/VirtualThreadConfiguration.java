@@ -0,0 +1,61 @@
+package es.sujes71.shared.infrastructure.config;
+
+import es.sujes71.shared.infrastructure.jdbc.ConcurrencyLimitingDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JDBC side of the virtual execution mode: without a request-thread ceiling, a limiter sized to
+ * the pool parks bursts in front of it instead of inside it.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "commerce.execution.mode", havingValue = "virtual")
+public class VirtualThreadConfiguration {
+
+  @Bean
+  public MeterBinder jdbcConcurrencyMetrics(DataSource dataSource) {
+    return registry -> {
+      if (dataSource instanceof ConcurrencyLimitingDataSource limiter) {
+        Gauge.builder("commerce.jdbc.permits.available", limiter,
+            ConcurrencyLimitingDataSource::availablePermits).register(registry);
+        Gauge.builder("commerce.jdbc.queue.length", limiter,
+            ConcurrencyLimitingDataSource::queueLength).register(registry);
+      }
+    };
+  }
+
+  @Bean
+  public static BeanPostProcessor concurrencyLimitingDataSourcePostProcessor(
+      ConfigurableListableBeanFactory beanFactory,
+      @Value("${commerce.execution.jdbc.max-concurrency:${spring.datasource.hikari.maximum-pool-size:10}}")
+      int maxConcurrency,
+      @Value("${commerce.execution.jdbc.acquire-timeout-ms:1000}") long acquireTimeoutMillis) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof ConcurrencyLimitingDataSource)
+            && isPrimary(beanFactory, beanName)) {
+          return new ConcurrencyLimitingDataSource(dataSource, maxConcurrency, acquireTimeoutMillis);
+        }
+        return bean;
+      }
+    };
+  }
+
+  /**
+   * Only the data source the application injects is limited: the single one, or the
+   * {@code @Primary} one when there are several.
+   */
+  private static boolean isPrimary(ConfigurableListableBeanFactory beanFactory, String beanName) {
+    return beanFactory.getBeanNamesForType(DataSource.class, true, false).length == 1
+        || (beanFactory.containsBeanDefinition(beanName)
+            && beanFactory.getBeanDefinition(beanName).isPrimary());
+  }
+}
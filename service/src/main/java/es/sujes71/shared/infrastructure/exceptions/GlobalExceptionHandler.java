@@ -2,8 +2,11 @@ package es.sujes71.shared.infrastructure.exceptions;
 
 import es.sujes71.api.price.domain.model.exceptions.PriceNotFoundException;
 import es.sujes71.shared.domain.model.ErrorResponse;
+import es.sujes71.shared.infrastructure.concurrency.ConcurrencyLimitExceededException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
@@ -20,6 +23,16 @@ public class GlobalExceptionHandler {
     return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
   }
 
+  @ExceptionHandler(HttpMessageNotReadableException.class)
+  public ResponseEntity<ErrorResponse> handleUnreadableBody(HttpMessageNotReadableException ex) {
+    ErrorResponse errorResponse = new ErrorResponse(
+        "VALIDATION_ERROR",
+        "Request body is missing or malformed",
+        HttpStatus.BAD_REQUEST.value()
+    );
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+  }
+
   @ExceptionHandler(PriceNotFoundException.class)
   public ResponseEntity<ErrorResponse> handlePriceNotFound(PriceNotFoundException ex) {
     ErrorResponse errorResponse = new ErrorResponse(
@@ -30,6 +43,19 @@ public class GlobalExceptionHandler {
     return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
   }
 
+  @ExceptionHandler(ConcurrencyLimitExceededException.class)
+  public ResponseEntity<ErrorResponse> handleConcurrencyLimitExceeded(
+      ConcurrencyLimitExceededException ex) {
+    ErrorResponse errorResponse = new ErrorResponse(
+        "SERVICE_OVERLOADED",
+        "The service is overloaded, retry later",
+        HttpStatus.SERVICE_UNAVAILABLE.value()
+    );
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+        .body(errorResponse);
+  }
+
   @ExceptionHandler(Exception.class)
   public ResponseEntity<ErrorResponse> handleGenericError(Exception ex) {
     ErrorResponse errorResponse = new ErrorResponse(
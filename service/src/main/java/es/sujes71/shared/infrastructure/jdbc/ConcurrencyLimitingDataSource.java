@@ -0,0 +1,96 @@
+package es.sujes71.shared.infrastructure.jdbc;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Caps the number of connections checked out at the same time. Waiting threads park on a
+ * {@link Semaphore}, which unmounts virtual threads instead of pinning their carrier, and give up
+ * after {@code acquireTimeoutMillis} so a slow database turns into fast failures rather than an
+ * unbounded queue of blocked requests.
+ */
+public class ConcurrencyLimitingDataSource extends DelegatingDataSource {
+
+  private final Semaphore permits;
+  private final long acquireTimeoutMillis;
+
+  public ConcurrencyLimitingDataSource(DataSource targetDataSource, int maxConcurrency,
+      long acquireTimeoutMillis) {
+    super(targetDataSource);
+    this.permits = new Semaphore(maxConcurrency, true);
+    this.acquireTimeoutMillis = acquireTimeoutMillis;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    acquire();
+    try {
+      return limited(super.getConnection());
+    } catch (SQLException | RuntimeException error) {
+      permits.release();
+      throw error;
+    }
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    acquire();
+    try {
+      return limited(super.getConnection(username, password));
+    } catch (SQLException | RuntimeException error) {
+      permits.release();
+      throw error;
+    }
+  }
+
+  public int availablePermits() {
+    return permits.availablePermits();
+  }
+
+  public int queueLength() {
+    return permits.getQueueLength();
+  }
+
+  private void acquire() throws SQLException {
+    try {
+      if (!permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+        throw new SQLTransientConnectionException(
+            "No JDBC permit available after " + acquireTimeoutMillis + " ms");
+      }
+    } catch (InterruptedException error) {
+      Thread.currentThread().interrupt();
+      throw new SQLTransientConnectionException("Interrupted while waiting for a JDBC permit", error);
+    }
+  }
+
+  private Connection limited(Connection connection) {
+    AtomicBoolean released = new AtomicBoolean();
+    return (Connection) Proxy.newProxyInstance(
+        ConcurrencyLimitingDataSource.class.getClassLoader(),
+        new Class<?>[] {Connection.class},
+        (proxy, method, args) -> {
+          if ("close".equals(method.getName()) && released.compareAndSet(false, true)) {
+            try {
+              return method.invoke(connection, args);
+            } catch (InvocationTargetException error) {
+              throw error.getCause();
+            } finally {
+              permits.release();
+            }
+          }
+          try {
+            return method.invoke(connection, args);
+          } catch (InvocationTargetException error) {
+            throw error.getCause();
+          }
+        });
+  }
+}
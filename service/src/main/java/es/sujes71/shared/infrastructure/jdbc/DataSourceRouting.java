@@ -0,0 +1,34 @@
+package es.sujes71.shared.infrastructure.jdbc;
+
+import java.util.function.Supplier;
+
+/**
+ * Per-thread routing hint read by {@link ReadWriteRoutingDataSource}. Work wrapped in
+ * {@link #read(Supplier)} may be served by a replica; everything else, including writes, imports
+ * and read-model rebuilds that must see the latest rows, goes to the primary.
+ */
+public final class DataSourceRouting {
+
+  private static final ThreadLocal<Boolean> READ_ONLY = new ThreadLocal<>();
+
+  private DataSourceRouting() {
+  }
+
+  public static <T> T read(Supplier<T> work) {
+    Boolean previous = READ_ONLY.get();
+    READ_ONLY.set(Boolean.TRUE);
+    try {
+      return work.get();
+    } finally {
+      if (previous == null) {
+        READ_ONLY.remove();
+      } else {
+        READ_ONLY.set(previous);
+      }
+    }
+  }
+
+  public static boolean isReadOnly() {
+    return READ_ONLY.get() != null;
+  }
+}
@@ -0,0 +1,186 @@
+package es.sujes71.shared.infrastructure.jdbc;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+/**
+ * Sends reads inside {@link DataSourceRouting#read} to healthy replicas round-robin and everything
+ * else to the primary, falling back to the primary when no replica is left.
+ */
+public class ReadWriteRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+  private static final Logger log = LogManager.getLogger(ReadWriteRoutingDataSource.class);
+
+  private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+  public enum ReadConsistency {
+    REPLICA, PRIMARY
+  }
+
+  private final Target primary;
+  private final List<Target> replicas;
+  private final ReadConsistency readConsistency;
+  private final AtomicInteger nextReplica = new AtomicInteger();
+  private final ScheduledExecutorService healthChecks;
+  private final long healthCheckIntervalMillis;
+
+  public ReadWriteRoutingDataSource(DataSource primary, List<DataSource> replicas,
+      ReadConsistency readConsistency, long healthCheckIntervalMillis) {
+    this.primary = new Target("primary", primary);
+    this.replicas = new ArrayList<>(replicas.size());
+    for (int i = 0; i < replicas.size(); i++) {
+      this.replicas.add(new Target("replica-" + i, replicas.get(i)));
+    }
+    this.readConsistency = readConsistency;
+    this.healthChecks = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+        .name("replica-health")
+        .daemon()
+        .factory());
+    this.healthCheckIntervalMillis = healthCheckIntervalMillis;
+  }
+
+  /**
+   * Schedules the health checks, unless the interval is not positive.
+   */
+  public void start() {
+    if (healthCheckIntervalMillis > 0) {
+      healthChecks.scheduleWithFixedDelay(this::checkHealth,
+          healthCheckIntervalMillis, healthCheckIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    if (!DataSourceRouting.isReadOnly()) {
+      return primary.dataSource.getConnection();
+    }
+    if (readConsistency == ReadConsistency.PRIMARY && primary.healthy) {
+      Connection connection = tryConnect(primary);
+      if (connection != null) {
+        return connection;
+      }
+    }
+
+    int size = replicas.size();
+    int start = size == 0 ? 0 : Math.floorMod(nextReplica.getAndIncrement(), size);
+    for (int i = 0; i < size; i++) {
+      Target replica = replicas.get((start + i) % size);
+      if (replica.healthy) {
+        Connection connection = tryConnect(replica);
+        if (connection != null) {
+          return connection;
+        }
+      }
+    }
+    return primary.dataSource.getConnection();
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    return primary.dataSource.getConnection(username, password);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T unwrap(Class<T> iface) throws SQLException {
+    return iface.isInstance(this) ? (T) this : primary.dataSource.unwrap(iface);
+  }
+
+  @Override
+  public boolean isWrapperFor(Class<?> iface) throws SQLException {
+    return iface.isInstance(this) || primary.dataSource.isWrapperFor(iface);
+  }
+
+  /**
+   * Validates the primary and every replica, restoring the ones that answer again.
+   */
+  public void checkHealth() {
+    check(primary);
+    replicas.forEach(this::check);
+  }
+
+  public int healthyReplicas() {
+    return (int) replicas.stream().filter(replica -> replica.healthy).count();
+  }
+
+  public DataSource getPrimary() {
+    return primary.dataSource;
+  }
+
+  /**
+   * Stops the health checks and closes every data source, logging the ones that fail to close.
+   */
+  @Override
+  public void close() {
+    healthChecks.shutdownNow();
+    for (Target replica : replicas) {
+      close(replica);
+    }
+    close(primary);
+  }
+
+  private static Connection tryConnect(Target target) {
+    try {
+      return target.dataSource.getConnection();
+    } catch (SQLTransientConnectionException error) {
+      log.debug("Data source {} had no connection available: {}", target.name, error.getMessage());
+      return null;
+    } catch (SQLException error) {
+      markDown(target, error.getMessage());
+      return null;
+    }
+  }
+
+  private static void close(Target target) {
+    if (target.dataSource instanceof AutoCloseable closeable) {
+      try {
+        closeable.close();
+      } catch (Exception error) {
+        log.warn("Data source {} failed to close: {}", target.name, error.getMessage());
+      }
+    }
+  }
+
+  private void check(Target target) {
+    try (Connection connection = target.dataSource.getConnection()) {
+      if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+        markDown(target, "validation failed");
+      } else if (!target.healthy) {
+        target.healthy = true;
+        log.info("Data source {} is healthy again", target.name);
+      }
+    } catch (SQLException | RuntimeException error) {
+      markDown(target, error.getMessage());
+    }
+  }
+
+  private static void markDown(Target target, String reason) {
+    if (target.healthy) {
+      target.healthy = false;
+      log.warn("Data source {} marked unhealthy: {}", target.name, reason);
+    }
+  }
+
+  private static final class Target {
+
+    private final String name;
+    private final DataSource dataSource;
+    private volatile boolean healthy = true;
+
+    private Target(String name, DataSource dataSource) {
+      this.name = name;
+      this.dataSource = dataSource;
+    }
+  }
+}
@@ -0,0 +1,75 @@
+package es.sujes71.shared.infrastructure.logging;
+
+import static es.sujes71.shared.infrastructure.metrics.ServerTimingFilter.SERVER_TIMING_HEADER;
+import static es.sujes71.shared.rest.Routing.BASE_PATH;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Logs one diagnostic line for a sample of requests instead of for every request: one in
+ * {@code commerce.logging.sample.rate} at random, plus every request slower than
+ * {@code commerce.logging.sample.slow-threshold-ms}. Either setting at 0 turns that trigger off.
+ * Runs outside {@code ServerTimingFilter} so the line can carry the stage breakdown.
+ */
+@Component
+@ConditionalOnWebApplication(type = Type.SERVLET)
+@Order(Ordered.HIGHEST_PRECEDENCE + 100)
+public class SampledRequestLogFilter extends OncePerRequestFilter {
+
+  private static final Logger log = LogManager.getLogger(SampledRequestLogFilter.class);
+
+  private static final String PATH_PREFIX = "/" + BASE_PATH + "/";
+
+  private final int sampleRate;
+  private final long slowThresholdNanos;
+
+  public SampledRequestLogFilter(
+      @Value("${commerce.logging.sample.rate:0}") int sampleRate,
+      @Value("${commerce.logging.sample.slow-threshold-ms:0}") long slowThresholdMillis) {
+    this.sampleRate = sampleRate;
+    this.slowThresholdNanos = slowThresholdMillis * 1_000_000;
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return (sampleRate <= 0 && slowThresholdNanos <= 0)
+        || !request.getRequestURI().startsWith(PATH_PREFIX);
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain filterChain) throws ServletException, IOException {
+    long startedAt = System.nanoTime();
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      long elapsed = System.nanoTime() - startedAt;
+      if (slowThresholdNanos > 0 && elapsed >= slowThresholdNanos) {
+        log.warn("Slow request {} {} -> {} in {} ms [{}]", request::getMethod, () -> uri(request),
+            response::getStatus, () -> elapsed / 1_000_000, () -> response.getHeader(SERVER_TIMING_HEADER));
+      } else if (sampleRate > 0 && ThreadLocalRandom.current().nextInt(sampleRate) == 0) {
+        log.info("Sampled request {} {} -> {} in {} us [{}]", request::getMethod, () -> uri(request),
+            response::getStatus, () -> elapsed / 1_000, () -> response.getHeader(SERVER_TIMING_HEADER));
+      }
+    }
+  }
+
+  private static String uri(HttpServletRequest request) {
+    String query = request.getQueryString();
+    return query == null ? request.getRequestURI() : request.getRequestURI() + "?" + query;
+  }
+}
@@ -0,0 +1,98 @@
+package es.sujes71.shared.infrastructure.metrics;
+
+import static es.sujes71.shared.rest.Routing.BASE_PATH;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Adds a {@code Server-Timing} header with the stage durations recorded while serving the request.
+ * The header is written just before the body starts, or when the chain returns for bodiless
+ * responses such as {@code 304}, so serialization itself is not part of {@code total}.
+ */
+@Component
+@ConditionalOnWebApplication(type = Type.SERVLET)
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+  public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+  private static final String PATH_PREFIX = "/" + BASE_PATH + "/";
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !request.getRequestURI().startsWith(PATH_PREFIX);
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain filterChain) throws ServletException, IOException {
+    ServerTimingResponse timedResponse = new ServerTimingResponse(response);
+    try {
+      filterChain.doFilter(request, timedResponse);
+    } finally {
+      timedResponse.writeHeader();
+      StageMetrics.endRequest();
+    }
+  }
+
+  private static final class ServerTimingResponse extends HttpServletResponseWrapper {
+
+    private final long startedAt = System.nanoTime();
+    private final long[] timings = StageMetrics.beginRequest();
+    private boolean written;
+
+    private ServerTimingResponse(HttpServletResponse response) {
+      super(response);
+    }
+
+    private void writeHeader() {
+      if (!written) {
+        written = true;
+        if (!isCommitted()) {
+          setHeader(SERVER_TIMING_HEADER,
+              StageMetrics.serverTiming(timings, System.nanoTime() - startedAt));
+        }
+      }
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+      writeHeader();
+      return super.getOutputStream();
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+      writeHeader();
+      return super.getWriter();
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+      writeHeader();
+      super.flushBuffer();
+    }
+
+    @Override
+    public void sendError(int status) throws IOException {
+      writeHeader();
+      super.sendError(status);
+    }
+
+    @Override
+    public void sendError(int status, String message) throws IOException {
+      writeHeader();
+      super.sendError(status, message);
+    }
+  }
+}
@@ -0,0 +1,97 @@
+package es.sujes71.shared.infrastructure.metrics;
+
+import es.sujes71.shared.domain.metrics.Stage;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency timers for the stages of a price lookup. Timers live on the global registry, which
+ * Spring Boot backs with the application registry, so call sites record without any injection.
+ * While a request is being served through {@link ServerTimingFilter} the same durations are also
+ * summed per thread and reported in the {@code Server-Timing} response header. Durations measured in
+ * the domain reach this class through {@link StageMetricsRegistrar}.
+ */
+public final class StageMetrics {
+
+  public static final String STAGE_TIMER = "commerce.price.stage";
+  public static final String DISPATCH_TIMER = "commerce.outbound.dispatch";
+
+  private static final Stage[] STAGES = Stage.values();
+  private static final Timer[] TIMERS = new Timer[STAGES.length];
+  private static final ThreadLocal<long[]> REQUEST_TIMINGS = new ThreadLocal<>();
+
+  static {
+    for (Stage stage : STAGES) {
+      if (stage != Stage.DISPATCH) {
+        TIMERS[stage.ordinal()] = histogram(Timer.builder(STAGE_TIMER).tag("stage", stage.label()));
+      }
+    }
+  }
+
+  private StageMetrics() {
+  }
+
+  public static void record(Stage stage, long nanos) {
+    TIMERS[stage.ordinal()].record(nanos, TimeUnit.NANOSECONDS);
+    accumulate(stage, nanos);
+  }
+
+  public static Timer dispatchTimer(String address) {
+    return histogram(Timer.builder(DISPATCH_TIMER).tag("address", address));
+  }
+
+  public static void recordDispatch(Timer timer, long nanos) {
+    timer.record(nanos, TimeUnit.NANOSECONDS);
+    accumulate(Stage.DISPATCH, nanos);
+  }
+
+  static long[] beginRequest() {
+    long[] timings = new long[STAGES.length];
+    REQUEST_TIMINGS.set(timings);
+    return timings;
+  }
+
+  static void endRequest() {
+    REQUEST_TIMINGS.remove();
+  }
+
+  static String serverTiming(long[] timings, long totalNanos) {
+    StringBuilder header = new StringBuilder(96);
+    for (Stage stage : STAGES) {
+      long nanos = timings[stage.ordinal()];
+      if (nanos > 0) {
+        appendMetric(header, stage.label(), nanos);
+      }
+    }
+    appendMetric(header, "total", totalNanos);
+    return header.toString();
+  }
+
+  private static void accumulate(Stage stage, long nanos) {
+    long[] timings = REQUEST_TIMINGS.get();
+    if (timings != null) {
+      timings[stage.ordinal()] += nanos;
+    }
+  }
+
+  private static void appendMetric(StringBuilder header, String name, long nanos) {
+    if (!header.isEmpty()) {
+      header.append(", ");
+    }
+    long micros = nanos / 1_000;
+    header.append(name).append(";dur=").append(micros / 1_000).append('.');
+    long fraction = micros % 1_000;
+    if (fraction < 100) {
+      header.append('0');
+    }
+    if (fraction < 10) {
+      header.append('0');
+    }
+    header.append(fraction);
+  }
+
+  private static Timer histogram(Timer.Builder builder) {
+    return builder.publishPercentileHistogram().register(Metrics.globalRegistry);
+  }
+}
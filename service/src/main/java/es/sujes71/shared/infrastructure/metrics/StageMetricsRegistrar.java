@@ -0,0 +1,71 @@
+package es.sujes71.shared.infrastructure.metrics;
+
+import es.sujes71.shared.domain.metrics.StageTimings;
+import es.sujes71.shared.domain.ports.outbound.OutboundPort;
+import es.sujes71.shared.domain.ports.outbound.OutboundPort.ChannelDecorator;
+import es.sujes71.shared.domain.ports.outbound.OutboundPort.EventHandler;
+import es.sujes71.shared.domain.ports.outbound.OutboundPort.ReactiveEventHandler;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Connects the domain to {@link StageMetrics}: stage durations reported through
+ * {@link StageTimings} are recorded as stage timers, and every {@link OutboundPort} address is
+ * timed by an outermost decorator, so a dispatch includes the handler and anything decorating it.
+ * Listener failures, which never reach the publisher, are exposed as a counter.
+ */
+@Component
+public class StageMetricsRegistrar implements MeterBinder {
+
+  public static final String DECORATOR = "dispatchTimer";
+  public static final int DECORATOR_ORDER = Integer.MIN_VALUE;
+  public static final String LISTENER_FAILURES = "commerce.outbound.listener.failures";
+
+  private final OutboundPort outboundPort;
+
+  public StageMetricsRegistrar(OutboundPort outboundPort) {
+    this.outboundPort = outboundPort;
+  }
+
+  @PostConstruct
+  public void start() {
+    StageTimings.install(StageMetrics::record);
+    outboundPort.decorateAll(DECORATOR, DECORATOR_ORDER,
+        address -> new DispatchTiming(StageMetrics.dispatchTimer(address)));
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionCounter.builder(LISTENER_FAILURES, outboundPort, port -> OutboundPort.listenerFailures())
+        .register(registry);
+  }
+
+  private record DispatchTiming(Timer timer) implements ChannelDecorator<Object, Object> {
+
+    @Override
+    public EventHandler<Object, Object> decorate(EventHandler<Object, Object> handler) {
+      return body -> {
+        long startedAt = System.nanoTime();
+        try {
+          return handler.handle(body);
+        } finally {
+          StageMetrics.recordDispatch(timer, System.nanoTime() - startedAt);
+        }
+      };
+    }
+
+    @Override
+    public ReactiveEventHandler<Object, Object> decorateReactive(ReactiveEventHandler<Object, Object> handler) {
+      return body -> Mono.defer(() -> {
+        long startedAt = System.nanoTime();
+        return handler.handle(body)
+            .doFinally(signal -> StageMetrics.recordDispatch(timer, System.nanoTime() - startedAt));
+      });
+    }
+  }
+}
@@ -5,4 +5,16 @@ public class Routing {
   public static final String BASE_PATH = "commerce";
 
   public static final String GET_PRICE_BY_PROPERTIES_PATH = "/prices";
-}
\ No newline at end of file
+
+  public static final String PRICE_BY_ID_PATH = "/prices/{id}";
+
+  public static final String GET_PRICE_TIMELINE_PATH = "/prices/timeline";
+
+  public static final String GET_PRICES_BATCH_PATH = "/prices/batch";
+
+  public static final String GET_PRICES_BY_PRODUCTS_PATH = "/prices/products";
+
+  public static final String IMPORT_PRICES_PATH = "/prices/import";
+
+  public static final String EXPORT_PRICES_PATH = "/prices/export";
+}
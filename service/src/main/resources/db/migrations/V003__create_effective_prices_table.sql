@@ -0,0 +1,18 @@
+DROP TABLE IF EXISTS EFFECTIVE_PRICES;
+
+CREATE TABLE EFFECTIVE_PRICES (
+    ID BIGINT AUTO_INCREMENT PRIMARY KEY,
+    BRAND_ID INTEGER NOT NULL,
+    PRODUCT_ID INTEGER NOT NULL,
+    FROM_DATE TIMESTAMP(9) NOT NULL,
+    UNTIL_DATE TIMESTAMP(9) NOT NULL,
+    PRICE_ID BIGINT NOT NULL,
+    START_DATE TIMESTAMP NOT NULL,
+    END_DATE TIMESTAMP NOT NULL,
+    PRICE_LIST INTEGER NOT NULL,
+    PRIORITY INTEGER NOT NULL,
+    PRICE DECIMAL(10,2) NOT NULL,
+    CURR VARCHAR(3) NOT NULL
+);
+
+CREATE UNIQUE INDEX idx_effective_brand_product_from ON EFFECTIVE_PRICES(BRAND_ID, PRODUCT_ID, FROM_DATE);
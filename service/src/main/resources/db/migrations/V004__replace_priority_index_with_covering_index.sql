@@ -0,0 +1,3 @@
+DROP INDEX IF EXISTS idx_priority;
+
+CREATE INDEX idx_prices_lookup_covering ON PRICES(BRAND_ID, PRODUCT_ID, PRIORITY DESC, START_DATE, END_DATE, PRICE_LIST, PRICE, CURR);
@@ -0,0 +1 @@
+CREATE INDEX idx_prices_brand_id ON PRICES(BRAND_ID, ID);
@@ -0,0 +1,4 @@
+CREATE SEQUENCE IF NOT EXISTS PRICE_ROW_VERSIONS;
+
+ALTER TABLE PRICES ADD COLUMN ROW_VERSION BIGINT INVISIBLE
+    DEFAULT NEXT VALUE FOR PRICE_ROW_VERSIONS ON UPDATE NEXT VALUE FOR PRICE_ROW_VERSIONS NOT NULL;
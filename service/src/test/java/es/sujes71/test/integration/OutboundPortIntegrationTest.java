@@ -0,0 +1,103 @@
+package es.sujes71.test.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import es.sujes71.api.price.domain.model.Price;
+import es.sujes71.api.price.domain.model.PriceFilter;
+import es.sujes71.api.price.domain.ports.outbound.PricePersistencePort;
+import es.sujes71.configuration.TestJdbcConfig;
+import es.sujes71.shared.domain.model.Message;
+import es.sujes71.shared.domain.ports.outbound.OutboundPort;
+import es.sujes71.shared.domain.ports.outbound.OutboundPort.Channel;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(properties = {
+    "commerce.outbound.async.virtual-threads=false",
+    "commerce.outbound.async.pool-size=2"
+})
+@ActiveProfiles("test")
+@Import(TestJdbcConfig.class)
+class OutboundPortIntegrationTest {
+
+  private static final String THREAD_ADDRESS = "outboundPortTestThreadAddress";
+  private static final String REPLACED_ADDRESS = "outboundPortTestReplacedAddress";
+  private static final String PUBLISHED_ADDRESS = "outboundPortTestPublishedAddress";
+
+  @Autowired
+  private OutboundPort outboundPort;
+
+  @Autowired
+  private PricePersistencePort pricePersistencePort;
+
+  @Test
+  void asyncRequests_runTheHandlerOnTheOutboundExecutor() throws Exception {
+    OutboundPort.register(THREAD_ADDRESS, (String body) -> body + "@" + Thread.currentThread().getName());
+
+    String handledBy = outboundPort.<String, String>requestEventAsync(new Message<>(THREAD_ADDRESS, "ping"))
+        .get(5, TimeUnit.SECONDS);
+    List<Price> prices = pricePersistencePort.getTopPriceByPropertiesAsync(PriceFilter.builder()
+            .brandId(1)
+            .productId(35455)
+            .applicationDate(LocalDateTime.parse("2020-06-14T16:00:00"))
+            .build())
+        .get(5, TimeUnit.SECONDS);
+
+    assertThat(handledBy).startsWith("ping@outbound-");
+    assertThat(prices).singleElement().extracting(Price::getPriceList).isEqualTo(2);
+  }
+
+  @Test
+  void replacedHandler_isSeenByAThreadAlreadyDispatching() throws Exception {
+    OutboundPort.register(REPLACED_ADDRESS, (Integer body) -> 1);
+    Channel<Integer, Integer> channel = OutboundPort.channel(REPLACED_ADDRESS);
+    CountDownLatch dispatching = new CountDownLatch(1);
+    AtomicReference<Integer> seen = new AtomicReference<>();
+
+    Thread caller = Thread.ofPlatform().start(() -> {
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+      int result = channel.request(0);
+      dispatching.countDown();
+      while (result == 1 && System.nanoTime() < deadline) {
+        result = channel.request(0);
+      }
+      seen.set(result);
+    });
+    assertThat(dispatching.await(5, TimeUnit.SECONDS)).isTrue();
+    OutboundPort.register(REPLACED_ADDRESS, (Integer body) -> 2);
+    caller.join(TimeUnit.SECONDS.toMillis(10));
+
+    assertThat(seen.get()).isEqualTo(2);
+  }
+
+  @Test
+  void failingListeners_areRecoveredWithoutFailingThePublisher() {
+    List<String> delivered = new CopyOnWriteArrayList<>();
+    List<String> recovered = new CopyOnWriteArrayList<>();
+    long failures = OutboundPort.listenerFailures();
+    OutboundPort.subscribe(PUBLISHED_ADDRESS, "first", 0, (String body) -> {
+      throw new IllegalStateException("first failed");
+    }, () -> recovered.add("first"));
+    OutboundPort.subscribe(PUBLISHED_ADDRESS, "second", (String body) -> delivered.add(body));
+    OutboundPort.subscribe(PUBLISHED_ADDRESS, "third", 0, (String body) -> {
+      throw new IllegalStateException("third failed");
+    }, () -> {
+      throw new IllegalStateException("third cannot recover");
+    });
+
+    OutboundPort.channel(PUBLISHED_ADDRESS).publish("event");
+
+    assertThat(delivered).containsExactly("event");
+    assertThat(recovered).containsExactly("first");
+    assertThat(OutboundPort.listenerFailures()).isEqualTo(failures + 2);
+  }
+}
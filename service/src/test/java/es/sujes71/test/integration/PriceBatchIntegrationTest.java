@@ -0,0 +1,70 @@
+package es.sujes71.test.integration;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import es.sujes71.configuration.TestJdbcConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@Import(TestJdbcConfig.class)
+class PriceBatchIntegrationTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Test
+  void batch_resolvesEachItemInRequestOrder() throws Exception {
+    mockMvc.perform(post("/commerce/prices/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("""
+                [
+                  {"brandId": "1", "productId": "35455", "applicationDate": "2020-06-14T10:00:00"},
+                  {"brandId": "1", "productId": "35455", "applicationDate": "2020-06-14T16:00:00"},
+                  {"brandId": "1", "productId": "invalid", "applicationDate": "2020-06-14T10:00:00"},
+                  {"brandId": "1", "productId": "99999", "applicationDate": "2020-06-14T10:00:00"},
+                  {"brandId": "1", "productId": "35455", "applicationDate": "2020-06-16T21:00:00"},
+                  {"brandId": "999", "productId": "35455", "applicationDate": "2020-06-14T10:00:00"}
+                ]
+                """))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", hasSize(6)))
+        .andExpect(jsonPath("$[0].index", is(0)))
+        .andExpect(jsonPath("$[0].price.priceList", is(1)))
+        .andExpect(jsonPath("$[1].price.priceList", is(2)))
+        .andExpect(jsonPath("$[2].error.code", is("VALIDATION_ERROR")))
+        .andExpect(jsonPath("$[3].error.code", is("PRICE_NOT_FOUND")))
+        .andExpect(jsonPath("$[4].price.priceList", is(4)))
+        .andExpect(jsonPath("$[5].error.status", is(404)));
+  }
+
+  @Test
+  void batch_emptyBody_shouldReturnBadRequest() throws Exception {
+    mockMvc.perform(post("/commerce/prices/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("[]"))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void batch_malformedBody_shouldReturnBadRequest() throws Exception {
+    mockMvc.perform(post("/commerce/prices/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{not json"))
+        .andExpect(status().isBadRequest());
+  }
+}
@@ -0,0 +1,140 @@
+package es.sujes71.test.integration;
+
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.GET_PRICE_SEGMENT_ADDRESS;
+import static es.sujes71.shared.infrastructure.concurrency.SingleFlight.COALESCING_COUNTER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import es.sujes71.configuration.TestJdbcConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+        "commerce.price.coalescing.enabled=true",
+        "commerce.price.coalescing.window-ms=60000"
+    })
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestJdbcConfig.class)
+@DirtiesContext
+class PriceCoalescingIntegrationTest {
+
+  private static final int CONCURRENT_REQUESTS = 32;
+  private static final String WRITTEN_PRICE = """
+      {"brandId": 1, "productId": 4711, "startDate": "2020-06-01T00:00:00",
+       "endDate": "2020-06-30T23:59:59", "priceList": 9, "priority": 0, "price": 12.50, "currency": "EUR"}
+      """;
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @AfterEach
+  void removeWrittenRows() {
+    jdbcTemplate.update("DELETE FROM PRICES WHERE PRODUCT_ID = 4711");
+  }
+
+  @Test
+  void lookupsInsideTheWindow_joinWhenTheSharedSegmentCoversTheirDate() throws Exception {
+    double leaders = count("leader");
+    double joined = count("joined");
+    double bypassed = count("bypassed");
+
+    getPrice("35455", "2020-06-14T16:00:00").andExpect(jsonPath("$.priceList", is(2)));
+    getPrice("35455", "2020-06-14T17:00:00").andExpect(jsonPath("$.priceList", is(2)));
+    getPrice("35455", "2020-06-14T20:00:00").andExpect(jsonPath("$.priceList", is(1)));
+
+    assertThat(count("leader") - leaders).isEqualTo(1);
+    assertThat(count("joined") - joined).isEqualTo(1);
+    assertThat(count("bypassed") - bypassed).isEqualTo(1);
+  }
+
+  @Test
+  void concurrentIdenticalLookups_shareOneBackendCall() throws Exception {
+    double leaders = count("leader");
+    double joined = count("joined");
+
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<Integer>> statuses = new ArrayList<>();
+    try (ExecutorService clients = Executors.newFixedThreadPool(CONCURRENT_REQUESTS)) {
+      for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+        statuses.add(clients.submit(() -> {
+          start.await();
+          return mockMvc.perform(get("/commerce/prices")
+                  .param("brandId", "1")
+                  .param("productId", "99999")
+                  .param("applicationDate", "2020-06-14T10:00:00"))
+              .andReturn().getResponse().getStatus();
+        }));
+      }
+      start.countDown();
+      for (Future<Integer> status : statuses) {
+        assertThat(status.get()).isEqualTo(404);
+      }
+    }
+
+    assertThat(count("leader") - leaders).isEqualTo(1);
+    assertThat(count("joined") - joined).isEqualTo(CONCURRENT_REQUESTS - 1);
+  }
+
+  @Test
+  void lookupAfterAWrite_insideTheWindow_seesTheWrite() throws Exception {
+    mockMvc.perform(get("/commerce/prices")
+            .param("brandId", "1")
+            .param("productId", "4711")
+            .param("applicationDate", "2020-06-14T10:00:00"))
+        .andExpect(status().isNotFound());
+
+    mockMvc.perform(post("/commerce/prices")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(WRITTEN_PRICE))
+        .andExpect(status().isCreated());
+
+    getPrice("4711", "2020-06-14T10:00:00").andExpect(jsonPath("$.priceList", is(9)));
+  }
+
+  private ResultActions getPrice(String productId,
+      String applicationDate) throws Exception {
+    return mockMvc.perform(get("/commerce/prices")
+            .param("brandId", "1")
+            .param("productId", productId)
+            .param("applicationDate", applicationDate))
+        .andExpect(status().isOk());
+  }
+
+  private double count(String outcome) {
+    return meterRegistry.get(COALESCING_COUNTER)
+        .tag("name", GET_PRICE_SEGMENT_ADDRESS)
+        .tag("outcome", outcome)
+        .functionCounter()
+        .count();
+  }
+}
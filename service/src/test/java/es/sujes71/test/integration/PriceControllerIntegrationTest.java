@@ -363,4 +363,32 @@ class PriceControllerIntegrationTest {
         .andExpect(jsonPath("$.brandId", is(1)))
         .andExpect(jsonPath("$.productId", is(35455)));
   }
+
+  @Test
+  void testValidation_fractionalSeconds_shouldWork() throws Exception {
+    mockMvc.perform(get("/commerce/prices")
+            .param("brandId", "1")
+            .param("productId", "35455")
+            .param("applicationDate", "2020-06-14T18:30:00.000"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.priceList", is(2)));
+  }
+
+  @Test
+  void testError_nonExistentCalendarDay_shouldReturnBadRequest() throws Exception {
+    mockMvc.perform(get("/commerce/prices")
+            .param("brandId", "1")
+            .param("productId", "35455")
+            .param("applicationDate", "2020-06-31T10:00:00"))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void testError_integerOverflowId_shouldReturnBadRequest() throws Exception {
+    mockMvc.perform(get("/commerce/prices")
+            .param("brandId", "2147483648")
+            .param("productId", "35455")
+            .param("applicationDate", "2020-06-14T10:00:00"))
+        .andExpect(status().isBadRequest());
+  }
 }
\ No newline at end of file
@@ -0,0 +1,98 @@
+package es.sujes71.test.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import es.sujes71.configuration.TestJdbcConfig;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestJdbcConfig.class)
+class PriceExportIntegrationTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Test
+  void export_streamsEveryPriceOfTheBrandInIdOrder() throws Exception {
+    List<JsonNode> lines = export(get("/commerce/prices/export").param("brandId", "1"));
+
+    assertThat(lines).extracting(line -> line.get("priceList").asInt()).containsExactly(1, 2, 3, 4);
+    assertThat(lines).extracting(line -> line.get("id").asLong()).isSorted();
+    assertThat(lines.getFirst().get("productId").asInt()).isEqualTo(35455);
+    assertThat(lines.getFirst().get("currency").asText()).isEqualTo("EUR");
+  }
+
+  @Test
+  void export_resumesAfterTheGivenId() throws Exception {
+    List<JsonNode> all = export(get("/commerce/prices/export").param("brandId", "1"));
+
+    List<JsonNode> resumed = export(get("/commerce/prices/export")
+        .param("brandId", "1")
+        .param("after", all.get(1).get("id").asText()));
+
+    assertThat(resumed).extracting(line -> line.get("priceList").asInt()).containsExactly(3, 4);
+  }
+
+  @Test
+  void export_keepsOnlyPricesOverlappingTheWindow() throws Exception {
+    List<JsonNode> lines = export(get("/commerce/prices/export")
+        .param("brandId", "1")
+        .param("from", "2020-06-15T12:00:00")
+        .param("to", "2020-06-15T15:00:00"));
+
+    assertThat(lines).extracting(line -> line.get("priceList").asInt()).containsExactly(1);
+  }
+
+  @Test
+  void export_unknownBrand_shouldReturnEmptyStream() throws Exception {
+    assertThat(export(get("/commerce/prices/export").param("brandId", "999"))).isEmpty();
+  }
+
+  @Test
+  void export_invalidParameters_shouldReturnBadRequest() throws Exception {
+    mockMvc.perform(get("/commerce/prices/export"))
+        .andExpect(status().isBadRequest());
+    mockMvc.perform(get("/commerce/prices/export").param("brandId", "1").param("after", "abc"))
+        .andExpect(status().isBadRequest());
+    mockMvc.perform(get("/commerce/prices/export")
+            .param("brandId", "1")
+            .param("from", "2020-06-16T00:00:00")
+            .param("to", "2020-06-15T00:00:00"))
+        .andExpect(status().isBadRequest());
+  }
+
+  private List<JsonNode> export(MockHttpServletRequestBuilder request) throws Exception {
+    String body = mockMvc.perform(request)
+        .andExpect(status().isOk())
+        .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+        .andReturn().getResponse().getContentAsString();
+
+    List<JsonNode> lines = new ArrayList<>();
+    for (String line : body.split("\n")) {
+      if (!line.isBlank()) {
+        lines.add(objectMapper.readTree(line));
+      }
+    }
+    return lines;
+  }
+}
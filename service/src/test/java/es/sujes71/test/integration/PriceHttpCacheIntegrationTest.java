@@ -0,0 +1,88 @@
+package es.sujes71.test.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import es.sujes71.configuration.TestJdbcConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "commerce.price.http.max-age-cap-seconds=86400")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestJdbcConfig.class)
+class PriceHttpCacheIntegrationTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @ParameterizedTest
+  @CsvSource({
+      "2020-06-14T10:00:00, 18000",
+      "2020-06-14T16:00:00, 9000",
+      "2020-06-14T21:00:00, 10800",
+      "2020-06-15T10:30:00, 1800",
+      "2020-06-15T12:00:00, 14400",
+      "2020-12-31T23:59:30, 29"
+  })
+  void getPrice_maxAgeCoversTheRestOfTheWinningSegment(String applicationDate, long maxAge)
+      throws Exception {
+    mockMvc.perform(get("/commerce/prices")
+            .param("brandId", "1")
+            .param("productId", "35455")
+            .param("applicationDate", applicationDate))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=" + maxAge + ", public"));
+  }
+
+  @Test
+  void getPrice_matchingIfNoneMatch_shouldReturnNotModified() throws Exception {
+    String etag = mockMvc.perform(get("/commerce/prices")
+            .param("brandId", "1")
+            .param("productId", "35455")
+            .param("applicationDate", "2020-06-14T10:00:00"))
+        .andExpect(status().isOk())
+        .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+    assertThat(etag).matches("\"[0-9a-f]+\"");
+
+    mockMvc.perform(get("/commerce/prices")
+            .param("brandId", "1")
+            .param("productId", "35455")
+            .param("applicationDate", "2020-06-14T12:00:00")
+            .header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.ETAG, etag))
+        .andExpect(content().string(""));
+  }
+
+  @Test
+  void getPrice_differentWinner_shouldReturnDifferentETag() throws Exception {
+    String first = mockMvc.perform(get("/commerce/prices")
+            .param("brandId", "1")
+            .param("productId", "35455")
+            .param("applicationDate", "2020-06-14T10:00:00"))
+        .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+    mockMvc.perform(get("/commerce/prices")
+            .param("brandId", "1")
+            .param("productId", "35455")
+            .param("applicationDate", "2020-06-14T16:00:00")
+            .header(HttpHeaders.IF_NONE_MATCH, first))
+        .andExpect(status().isOk())
+        .andExpect(header().exists(HttpHeaders.ETAG));
+  }
+}
@@ -0,0 +1,131 @@
+package es.sujes71.test.integration;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import es.sujes71.configuration.TestJdbcConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {"commerce.price.import.batch-size=2", "commerce.price.import.commit-interval=2"})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestJdbcConfig.class)
+class PriceImportIntegrationTest {
+
+  private static final int IMPORT_BRAND = 7;
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @AfterEach
+  void removeImportedPrices() {
+    jdbcTemplate.update("DELETE FROM PRICES WHERE BRAND_ID = ?", IMPORT_BRAND);
+  }
+
+  @Test
+  void importCsv_writesValidRowsAndReportsRejects() throws Exception {
+    mockMvc.perform(post("/commerce/prices/import")
+            .contentType("text/csv")
+            .content("""
+                PRODUCT_ID,BRAND_ID,START_DATE,END_DATE,PRICE_LIST,PRIORITY,PRICE,CURR
+                100,7,2020-06-14 00:00:00,2020-12-31 23:59:59,1,0,35.50,EUR
+                101,7,2020-06-14T00:00:00,2020-12-31T23:59:59,1,0,10.00,EUR
+
+                102,7,2020-06-14 00:00:00,2020-12-31 23:59:59,1,0,10.00,EURO
+                abc,7,2020-06-14 00:00:00,2020-12-31 23:59:59,1,0,10.00,EUR
+                103,7,2020-12-31 00:00:00,2020-06-14 00:00:00,1,0,10.00,EUR
+                104,7,2020-06-14 00:00:00,2020-12-31 23:59:59,1,0,12.00,EUR
+                """))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.accepted", is(3)))
+        .andExpect(jsonPath("$.rejected", is(3)))
+        .andExpect(jsonPath("$.rejects", hasSize(3)))
+        .andExpect(jsonPath("$.rejects[0].line", is(5)))
+        .andExpect(jsonPath("$.rejects[0].message", startsWith("currency")))
+        .andExpect(jsonPath("$.rejects[1].message", is("PRODUCT_ID must be a valid integer")))
+        .andExpect(jsonPath("$.rejects[2].message", is("endDate must not be before startDate")));
+
+    assertEquals(3, importedRows());
+  }
+
+  @Test
+  void storageErrorMidFile_reportsTheCommittedRows() throws Exception {
+    jdbcTemplate.execute("ALTER TABLE PRICES ADD CONSTRAINT NO_PRODUCT_666 CHECK (PRODUCT_ID <> 666)");
+    try {
+      mockMvc.perform(post("/commerce/prices/import")
+              .contentType("text/csv")
+              .content("""
+                  PRODUCT_ID,BRAND_ID,START_DATE,END_DATE,PRICE_LIST,PRIORITY,PRICE,CURR
+                  100,7,2020-06-14 00:00:00,2020-12-31 23:59:59,1,0,35.50,EUR
+                  101,7,2020-06-14 00:00:00,2020-12-31 23:59:59,1,0,10.00,EUR
+                  102,7,2020-06-14 00:00:00,2020-12-31 23:59:59,1,0,10.00,EUR
+                  666,7,2020-06-14 00:00:00,2020-12-31 23:59:59,1,0,10.00,EUR
+                  103,7,2020-06-14 00:00:00,2020-12-31 23:59:59,1,0,10.00,EUR
+                  """))
+          .andExpect(status().isInternalServerError())
+          .andExpect(jsonPath("$.committed", is(2)))
+          .andExpect(jsonPath("$.accepted", is(2)))
+          .andExpect(jsonPath("$.failure", startsWith("Import aborted")));
+    } finally {
+      jdbcTemplate.execute("ALTER TABLE PRICES DROP CONSTRAINT NO_PRODUCT_666");
+    }
+
+    assertEquals(2, importedRows());
+  }
+
+  @Test
+  void importNdjson_writesValidRowsAndReportsRejects() throws Exception {
+    mockMvc.perform(post("/commerce/prices/import")
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .content("""
+                {"brandId":7,"startDate":"2020-06-14T00:00:00","endDate":"2020-12-31T23:59:59","priceList":1,"productId":200,"priority":0,"price":35.50,"currency":"EUR"}
+                {"brandId":7,"startDate":"2020-06-14T00:00:00","priceList":1,"productId":201,"priority":0,"price":35.50,"currency":"EUR"}
+                {"brandId":7,
+                """))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.accepted", is(1)))
+        .andExpect(jsonPath("$.rejected", is(2)))
+        .andExpect(jsonPath("$.rejects[0].message", is("endDate must not be null")))
+        .andExpect(jsonPath("$.rejects[1].message", startsWith("Malformed JSON row")));
+
+    assertEquals(1, importedRows());
+  }
+
+  @Test
+  void importCsv_missingColumn_shouldReturnBadRequest() throws Exception {
+    mockMvc.perform(post("/commerce/prices/import")
+            .contentType("text/csv")
+            .content("""
+                BRAND_ID,START_DATE,END_DATE,PRICE_LIST,PRODUCT_ID,PRIORITY,PRICE
+                7,2020-06-14 00:00:00,2020-12-31 23:59:59,1,100,0,35.50
+                """))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message", is("CSV header is missing column CURR")));
+
+    assertEquals(0, importedRows());
+  }
+
+  private int importedRows() {
+    return jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM PRICES WHERE BRAND_ID = ?", Integer.class, IMPORT_BRAND);
+  }
+}
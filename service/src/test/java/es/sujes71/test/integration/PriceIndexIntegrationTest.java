@@ -0,0 +1,68 @@
+package es.sujes71.test.integration;
+
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import es.sujes71.configuration.TestJdbcConfig;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "commerce.price.persistence=memory")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestJdbcConfig.class)
+class PriceIndexIntegrationTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @ParameterizedTest
+  @CsvSource({
+      "2020-06-14T10:00:00, 1, 35.50",
+      "2020-06-14T15:00:00, 2, 25.45",
+      "2020-06-14T16:00:00, 2, 25.45",
+      "2020-06-14T18:30:00, 2, 25.45",
+      "2020-06-14T18:30:01, 1, 35.50",
+      "2020-06-14T21:00:00, 1, 35.50",
+      "2020-06-15T10:00:00, 3, 30.50",
+      "2020-06-15T11:00:01, 1, 35.50",
+      "2020-06-16T21:00:00, 4, 38.95",
+      "2020-12-31T23:59:59, 4, 38.95"
+  })
+  void getPrice_resolvesWinningSegmentFromIndex(String applicationDate, int priceList, double price)
+      throws Exception {
+    mockMvc.perform(get("/commerce/prices")
+            .param("brandId", "1")
+            .param("productId", "35455")
+            .param("applicationDate", applicationDate))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.priceList", is(priceList)))
+        .andExpect(jsonPath("$.price", is(price)));
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "1, 35455, 2020-06-13T23:59:59",
+      "1, 35455, 2021-01-01T00:00:00",
+      "1, 99999, 2020-06-14T10:00:00",
+      "999, 35455, 2020-06-14T10:00:00"
+  })
+  void getPrice_outsideAnySegment_shouldReturnNotFound(String brandId, String productId,
+      String applicationDate) throws Exception {
+    mockMvc.perform(get("/commerce/prices")
+            .param("brandId", brandId)
+            .param("productId", productId)
+            .param("applicationDate", applicationDate))
+        .andExpect(status().isNotFound());
+  }
+}
@@ -0,0 +1,160 @@
+package es.sujes71.test.integration;
+
+import static es.sujes71.api.price.infrastructure.concurrency.PriceBulkheads.BULK_BULKHEAD;
+import static es.sujes71.shared.infrastructure.concurrency.AdaptiveConcurrencyLimiter.IN_FLIGHT_GAUGE;
+import static es.sujes71.shared.infrastructure.concurrency.AdaptiveConcurrencyLimiter.REJECTED_COUNTER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import es.sujes71.configuration.TestJdbcConfig;
+import es.sujes71.shared.infrastructure.concurrency.AdaptiveConcurrencyLimiter;
+import es.sujes71.shared.infrastructure.concurrency.ConcurrencyLimitExceededException;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+        "commerce.price.limiter.enabled=true",
+        "commerce.price.limiter.bulk.max-concurrency=1",
+        "commerce.price.limiter.retry-after-seconds=7"
+    })
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestJdbcConfig.class)
+@DirtiesContext
+class PriceLoadSheddingIntegrationTest {
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @Test
+  void fullBulkhead_rejectsBulkCallsWithRetryAfter_andKeepsLookupsAndExportsServed() throws Exception {
+    double rejected = rejected();
+    String header = "BRAND_ID,START_DATE,END_DATE,PRICE_LIST,PRODUCT_ID,PRIORITY,PRICE,CURR\n";
+
+    try (Socket socket = new Socket("localhost", port)) {
+      OutputStream importRequest = socket.getOutputStream();
+      importRequest.write(("POST /commerce/prices/import HTTP/1.1\r\n"
+          + "Host: localhost\r\n"
+          + "Content-Type: text/csv\r\n"
+          + "Transfer-Encoding: chunked\r\n\r\n"
+          + Integer.toHexString(header.length()) + "\r\n" + header + "\r\n")
+          .getBytes(StandardCharsets.US_ASCII));
+      importRequest.flush();
+      try {
+        awaitBulkInFlight(1);
+
+        mockMvc.perform(get("/commerce/prices/products")
+                .param("brandId", "1")
+                .param("productIds", "35455")
+                .param("applicationDate", "2020-06-14T10:00:00"))
+            .andExpect(status().isServiceUnavailable())
+            .andExpect(header().string("Retry-After", "7"))
+            .andExpect(jsonPath("$.code", is("SERVICE_OVERLOADED")))
+            .andExpect(jsonPath("$.status", is(503)));
+
+        mockMvc.perform(get("/commerce/prices")
+                .param("brandId", "1")
+                .param("productId", "35455")
+                .param("applicationDate", "2020-06-14T10:00:00"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.priceList", is(1)));
+
+        mockMvc.perform(get("/commerce/prices/export").param("brandId", "1"))
+            .andExpect(status().isOk());
+      } finally {
+        importRequest.write("0\r\n\r\n".getBytes(StandardCharsets.US_ASCII));
+        importRequest.flush();
+      }
+      BufferedReader importResponse = new BufferedReader(
+          new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+      assertThat(importResponse.readLine()).startsWith("HTTP/1.1 200");
+    }
+
+    assertThat(rejected() - rejected).isEqualTo(1);
+    awaitBulkInFlight(0);
+    mockMvc.perform(get("/commerce/prices/products")
+            .param("brandId", "1")
+            .param("productIds", "35455")
+            .param("applicationDate", "2020-06-14T10:00:00"))
+        .andExpect(status().isOk());
+  }
+
+  @Test
+  void slowCalls_cutTheLimitMultiplicatively() {
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 10, 1, 0, 1);
+
+    limiter.execute(() -> sleep(5));
+    assertThat(limiter.limit()).isEqualTo(9);
+    limiter.execute(() -> sleep(5));
+    assertThat(limiter.limit()).isEqualTo(8);
+    limiter.execute(() -> 0);
+    assertThat(limiter.limit()).isEqualTo(8);
+    assertThat(limiter.inFlight()).isZero();
+  }
+
+  @Test
+  void fixedBulkhead_rejectsOnceEverySlotIsTaken() {
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 1, 0, 0, 3);
+
+    assertThatThrownBy(() -> limiter.execute(() -> limiter.execute(() -> 0)))
+        .isInstanceOfSatisfying(ConcurrencyLimitExceededException.class, error -> {
+          assertThat(error.getRetryAfterSeconds()).isEqualTo(3);
+          assertThat(error.getStackTrace()).isEmpty();
+        });
+    assertThat(limiter.rejected()).isEqualTo(1);
+    assertThat(limiter.inFlight()).isZero();
+    assertThat(limiter.execute(() -> 1)).isEqualTo(1);
+  }
+
+  private void awaitBulkInFlight(int expected) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (inFlight() != expected && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    assertThat(inFlight()).isEqualTo(expected);
+  }
+
+  private double inFlight() {
+    return meterRegistry.get(IN_FLIGHT_GAUGE).tag("name", BULK_BULKHEAD).gauge().value();
+  }
+
+  private double rejected() {
+    return meterRegistry.get(REJECTED_COUNTER).tag("name", BULK_BULKHEAD).functionCounter().count();
+  }
+
+  private static int sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException error) {
+      Thread.currentThread().interrupt();
+    }
+    return 0;
+  }
+}
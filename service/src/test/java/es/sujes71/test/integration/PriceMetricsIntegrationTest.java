@@ -0,0 +1,67 @@
+package es.sujes71.test.integration;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import es.sujes71.configuration.TestJdbcConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+@Import(TestJdbcConfig.class)
+class PriceMetricsIntegrationTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Test
+  void getPrice_shouldReportStageDurationsInServerTiming() throws Exception {
+    mockMvc.perform(get("/commerce/prices")
+            .param("brandId", "1")
+            .param("productId", "35455")
+            .param("applicationDate", "2020-06-14T10:00:00"))
+        .andExpect(status().isOk())
+        .andExpect(header().string("Server-Timing",
+            matchesPattern("adapt;dur=\\d+\\.\\d{3}, dispatch;dur=\\d+\\.\\d{3}, .*total;dur=\\d+\\.\\d{3}")))
+        .andExpect(header().string("Server-Timing", containsString("selection;dur=")));
+  }
+
+  @Test
+  void getPrice_notFound_shouldStillReportServerTiming() throws Exception {
+    mockMvc.perform(get("/commerce/prices")
+            .param("brandId", "1")
+            .param("productId", "99999")
+            .param("applicationDate", "2020-06-14T10:00:00"))
+        .andExpect(status().isNotFound())
+        .andExpect(header().string("Server-Timing", containsString("dispatch;dur=")));
+  }
+
+  @Test
+  void prometheus_shouldExposeStageHistograms() throws Exception {
+    mockMvc.perform(get("/commerce/prices")
+            .param("brandId", "1")
+            .param("productId", "35455")
+            .param("applicationDate", "2020-06-14T10:00:00"))
+        .andExpect(status().isOk());
+
+    mockMvc.perform(get("/actuator/prometheus"))
+        .andExpect(status().isOk())
+        .andExpect(content().string(containsString("commerce_price_stage_seconds_bucket{")))
+        .andExpect(content().string(containsString("stage=\"adapt\"")))
+        .andExpect(content().string(containsString(
+            "commerce_outbound_dispatch_seconds_count{address=\"getPriceSegmentAddress\"")));
+  }
+}
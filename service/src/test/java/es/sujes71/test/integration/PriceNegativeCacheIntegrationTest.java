@@ -0,0 +1,130 @@
+package es.sujes71.test.integration;
+
+import static es.sujes71.shared.infrastructure.cache.NegativeCache.NEGATIVE_CACHE_COUNTER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import es.sujes71.api.price.domain.model.exceptions.PriceNotFoundException;
+import es.sujes71.api.price.infrastructure.cache.PriceNegativeCache;
+import es.sujes71.api.price.rest.validator.ParameterValidationException;
+import es.sujes71.api.price.rest.validator.PriceParameterValidator;
+import es.sujes71.configuration.TestJdbcConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "commerce.price.negative-cache.enabled=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestJdbcConfig.class)
+@DirtiesContext
+class PriceNegativeCacheIntegrationTest {
+
+  private static final int UNKNOWN_PRODUCT = 77001;
+  private static final int CREATED_PRODUCT = 77002;
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @AfterEach
+  void removeWrittenRows() {
+    jdbcTemplate.update("DELETE FROM PRICES WHERE PRODUCT_ID = ?", CREATED_PRODUCT);
+  }
+
+  @Test
+  void repeatedMisses_areAnsweredFromTheNegativeCache() throws Exception {
+    double hits = count("hit");
+    double misses = count("miss");
+
+    lookup(UNKNOWN_PRODUCT, "2020-06-14T10:00:00")
+        .andExpect(status().isNotFound())
+        .andExpect(jsonPath("$.code", is("PRICE_NOT_FOUND")));
+    lookup(UNKNOWN_PRODUCT, "2020-06-14T10:00:00").andExpect(status().isNotFound());
+    lookup(UNKNOWN_PRODUCT, "2020-06-14T10:00:00").andExpect(status().isNotFound());
+    lookup(UNKNOWN_PRODUCT, "2020-06-14T11:00:00").andExpect(status().isNotFound());
+
+    assertThat(count("hit") - hits).isEqualTo(3);
+    assertThat(count("miss") - misses).isEqualTo(1);
+  }
+
+  @Test
+  void missInAGap_coversTheWholeGapButNotTheCoveredDates() throws Exception {
+    double hits = count("hit");
+    double misses = count("miss");
+
+    lookup(35455, "2020-01-01T00:00:00").andExpect(status().isNotFound());
+    lookup(35455, "2019-05-01T00:00:00").andExpect(status().isNotFound());
+    lookup(35455, "2020-06-14T10:00:00").andExpect(status().isOk());
+
+    assertThat(count("hit") - hits).isEqualTo(1);
+    assertThat(count("miss") - misses).isEqualTo(2);
+  }
+
+  @Test
+  void createdPrice_replacesACachedMiss() throws Exception {
+    lookup(CREATED_PRODUCT, "2020-07-01T00:00:00").andExpect(status().isNotFound());
+    lookup(CREATED_PRODUCT, "2020-07-01T00:00:00").andExpect(status().isNotFound());
+
+    mockMvc.perform(post("/commerce/prices")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("""
+                {"brandId": 1, "productId": %d, "startDate": "2020-06-01T00:00:00",
+                 "endDate": "2020-08-31T23:59:59", "priceList": 1, "priority": 0, "price": 20.00,
+                 "currency": "EUR"}
+                """.formatted(CREATED_PRODUCT)))
+        .andExpect(status().isCreated());
+
+    lookup(CREATED_PRODUCT, "2020-07-01T00:00:00")
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.price", is(20.00)));
+  }
+
+  @Test
+  void missAndValidationErrors_carryNoStackTrace() {
+    Throwable invalid = catchThrowable(() -> PriceParameterValidator.positiveInt("abc", "productId"));
+
+    assertThat(invalid).isInstanceOf(ParameterValidationException.class)
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("productId must be a valid integer");
+    assertThat(invalid.getStackTrace()).isEmpty();
+    assertThat(new PriceNotFoundException().getStackTrace()).isEmpty();
+  }
+
+  private ResultActions lookup(int productId, String applicationDate) throws Exception {
+    return mockMvc.perform(get("/commerce/prices")
+        .param("brandId", "1")
+        .param("productId", String.valueOf(productId))
+        .param("applicationDate", applicationDate));
+  }
+
+  private double count(String outcome) {
+    return meterRegistry.get(NEGATIVE_CACHE_COUNTER)
+        .tag("name", PriceNegativeCache.NAME)
+        .tag("outcome", outcome)
+        .functionCounter()
+        .count();
+  }
+}
@@ -0,0 +1,219 @@
+package es.sujes71.test.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.jayway.jsonpath.JsonPath;
+import es.sujes71.api.price.domain.model.PriceFilter;
+import es.sujes71.api.price.infrastructure.repository.offheap.PriceOffHeapRepository;
+import es.sujes71.configuration.TestJdbcConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+        "commerce.price.persistence=offheap",
+        "commerce.price.offheap.overlay-threshold=3"
+    })
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestJdbcConfig.class)
+class PriceOffHeapIntegrationTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private PriceOffHeapRepository priceOffHeapRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @AfterEach
+  void removeImportedRows() {
+    if (jdbcTemplate.update("DELETE FROM PRICES WHERE BRAND_ID IN (88, 89)") > 0) {
+      priceOffHeapRepository.reload();
+    }
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "2020-06-14T10:00:00, 1, 35.50",
+      "2020-06-14T15:00:00, 2, 25.45",
+      "2020-06-14T18:30:00, 2, 25.45",
+      "2020-06-14T18:30:00.5, 1, 35.50",
+      "2020-06-15T10:00:00, 3, 30.50",
+      "2020-06-15T11:00:01, 1, 35.50",
+      "2020-06-16T21:00:00, 4, 38.95",
+      "2020-12-31T23:59:59, 4, 38.95"
+  })
+  void getPrice_isServedFromTheColumnStore(String applicationDate, int priceList, double price)
+      throws Exception {
+    mockMvc.perform(get("/commerce/prices")
+            .param("brandId", "1")
+            .param("productId", "35455")
+            .param("applicationDate", applicationDate))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.priceList", is(priceList)))
+        .andExpect(jsonPath("$.price", is(price)))
+        .andExpect(jsonPath("$.currency", is("EUR")));
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "1, 35455, 2020-06-13T23:59:59",
+      "1, 35455, 2020-12-31T23:59:59.5",
+      "1, 99999, 2020-06-14T10:00:00",
+      "999, 35455, 2020-06-14T10:00:00"
+  })
+  void getPrice_outsideTheStore_shouldReturnNotFound(String brandId, String productId,
+      String applicationDate) throws Exception {
+    mockMvc.perform(get("/commerce/prices")
+            .param("brandId", brandId)
+            .param("productId", productId)
+            .param("applicationDate", applicationDate))
+        .andExpect(status().isNotFound());
+  }
+
+  @Test
+  void segments_matchTheWinnerBoundaries() {
+    assertThat(priceOffHeapRepository.findSegmentByProperties(
+        new PriceFilter(1, 35455, LocalDateTime.parse("2020-06-14T20:00:00"))))
+        .hasValueSatisfying(segment -> {
+          assertThat(segment.getFrom()).isEqualTo(LocalDateTime.parse("2020-06-14T18:30:00").plusNanos(1));
+          assertThat(segment.getUntil()).isEqualTo(LocalDateTime.parse("2020-06-15T00:00:00"));
+          assertThat(segment.getPrice().getPriceList()).isEqualTo(1);
+        });
+    assertThat(priceOffHeapRepository.findSegmentByProperties(
+        new PriceFilter(1, 35455, LocalDateTime.parse("2020-06-14T16:00:00"))))
+        .hasValueSatisfying(segment -> {
+          assertThat(segment.getFrom()).isEqualTo(LocalDateTime.parse("2020-06-14T15:00:00"));
+          assertThat(segment.getUntil()).isEqualTo(LocalDateTime.parse("2020-06-14T18:30:00").plusNanos(1));
+          assertThat(segment.getPrice().getPriceList()).isEqualTo(2);
+        });
+  }
+
+  @Test
+  void writes_overrideTheStoreForTheirKeyOnly() throws Exception {
+    String created = mockMvc.perform(post("/commerce/prices")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("""
+                {"brandId": 89, "productId": 35455, "startDate": "2020-06-01T00:00:00",
+                 "endDate": "2020-06-30T23:59:59", "priceList": 1, "priority": 0, "price": 7.00, "currency": "EUR"}
+                """))
+        .andExpect(status().isCreated())
+        .andReturn().getResponse().getContentAsString();
+
+    mockMvc.perform(get("/commerce/prices")
+            .param("brandId", "89")
+            .param("productId", "35455")
+            .param("applicationDate", "2020-06-14T10:00:00"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.price", is(7.00)));
+    mockMvc.perform(get("/commerce/prices")
+            .param("brandId", "1")
+            .param("productId", "35455")
+            .param("applicationDate", "2020-06-14T10:00:00"))
+        .andExpect(jsonPath("$.price", is(35.50)));
+
+    mockMvc.perform(delete("/commerce/prices/" + JsonPath.read(created, "$.id")))
+        .andExpect(status().isNoContent());
+    mockMvc.perform(get("/commerce/prices")
+            .param("brandId", "89")
+            .param("productId", "35455")
+            .param("applicationDate", "2020-06-14T10:00:00"))
+        .andExpect(status().isNotFound());
+  }
+
+  @Test
+  void subSecondDates_keepTheirPrecisionInTheStore() throws Exception {
+    mockMvc.perform(post("/commerce/prices")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("""
+                {"brandId": 89, "productId": 35455, "startDate": "2020-06-01T00:00:00.250",
+                 "endDate": "2020-06-01T00:00:00.750", "priceList": 1, "priority": 0, "price": 7.00, "currency": "EUR"}
+                """))
+        .andExpect(status().isCreated());
+    priceOffHeapRepository.reload();
+
+    assertThat(priceOffHeapRepository.findAllByProperties(
+        new PriceFilter(89, 35455, LocalDateTime.parse("2020-06-01T00:00:00.100")))).isEmpty();
+    assertThat(priceOffHeapRepository.findAllByProperties(
+        new PriceFilter(89, 35455, LocalDateTime.parse("2020-06-01T00:00:00.900")))).isEmpty();
+    assertThat(priceOffHeapRepository.findSegmentByProperties(
+        new PriceFilter(89, 35455, LocalDateTime.parse("2020-06-01T00:00:00.500"))))
+        .hasValueSatisfying(segment -> {
+          assertThat(segment.getFrom()).isEqualTo(LocalDateTime.parse("2020-06-01T00:00:00.250"));
+          assertThat(segment.getUntil()).isEqualTo(LocalDateTime.parse("2020-06-01T00:00:00.750").plusNanos(1));
+          assertThat(segment.getPrice().getStartDate()).isEqualTo(LocalDateTime.parse("2020-06-01T00:00:00.250"));
+        });
+  }
+
+  @Test
+  void overlayPastTheThreshold_isFoldedIntoANewStore() throws Exception {
+    for (int productId = 1; productId <= 3; productId++) {
+      mockMvc.perform(post("/commerce/prices")
+              .contentType(MediaType.APPLICATION_JSON)
+              .content("""
+                  {"brandId": 89, "productId": %d, "startDate": "2020-06-01T00:00:00",
+                   "endDate": "2020-06-30T23:59:59", "priceList": 1, "priority": 0, "price": 5.00, "currency": "EUR"}
+                  """.formatted(productId)))
+          .andExpect(status().isCreated());
+    }
+
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (priceOffHeapRepository.overlaySize() > 0 && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    assertThat(priceOffHeapRepository.overlaySize()).isZero();
+    assertThat(priceOffHeapRepository.findAllByProperties(
+        new PriceFilter(89, 3, LocalDateTime.parse("2020-06-14T10:00:00"))))
+        .singleElement()
+        .satisfies(price -> assertThat(price.getPrice()).isEqualTo(new BigDecimal("5.00")));
+  }
+
+  @Test
+  void imports_reloadTheStore() throws Exception {
+    mockMvc.perform(post("/commerce/prices/import")
+            .contentType("text/csv")
+            .content("""
+                BRAND_ID,START_DATE,END_DATE,PRICE_LIST,PRODUCT_ID,PRIORITY,PRICE,CURR
+                88,2020-06-14 00:00:00,2020-12-31 23:59:59,1,35455,0,12.34,USD
+                88,2020-06-14 10:00:00,2020-06-14 12:00:00,2,35455,1,9.99,USD
+                """))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.accepted", is(2)));
+
+    assertThat(priceOffHeapRepository.findAllByProperties(
+        new PriceFilter(88, 35455, LocalDateTime.parse("2020-06-14T11:00:00"))))
+        .singleElement()
+        .satisfies(price -> {
+          assertThat(price.getPrice()).isEqualTo(new BigDecimal("9.99"));
+          assertThat(price.getCurrency()).isEqualTo("USD");
+        });
+    assertThat(meterRegistry.get("commerce.price.offheap.bytes").gauge().value()).isPositive();
+  }
+}
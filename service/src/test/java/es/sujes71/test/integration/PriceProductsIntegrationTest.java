@@ -0,0 +1,110 @@
+package es.sujes71.test.integration;
+
+import static org.hamcrest.Matchers.aMapWithSize;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import es.sujes71.configuration.TestJdbcConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "commerce.price.products.max-size=4")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@Import(TestJdbcConfig.class)
+class PriceProductsIntegrationTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @BeforeEach
+  void addSecondProduct() {
+    insert(35456, "2020-06-01 00:00:00", "2020-06-30 23:59:59", 5, 0, "10.00");
+    insert(35456, "2020-06-14 00:00:00", "2020-06-14 23:59:59", 6, 2, "8.00");
+    insert(35456, "2020-06-14 00:00:00", "2020-06-14 23:59:59", 7, 2, "9.00");
+  }
+
+  @Test
+  void products_resolvesTheWinnerOfEveryProductInRequestOrder() throws Exception {
+    mockMvc.perform(get("/commerce/prices/products")
+            .param("brandId", "1")
+            .param("productIds", "35456,99999,35455")
+            .param("applicationDate", "2020-06-14T16:00:00"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", aMapWithSize(3)))
+        .andExpect(jsonPath("$.keys()", contains("35456", "99999", "35455")))
+        .andExpect(jsonPath("$.35456.price.priceList", is(6)))
+        .andExpect(jsonPath("$.35456.price.price", is(8.00)))
+        .andExpect(jsonPath("$.99999.error.code", is("PRICE_NOT_FOUND")))
+        .andExpect(jsonPath("$.99999.error.status", is(404)))
+        .andExpect(jsonPath("$.35455.price.priceList", is(2)))
+        .andExpect(jsonPath("$.35455.price.price", is(25.45)));
+  }
+
+  @Test
+  void products_outsideEveryInterval_areReportedInline() throws Exception {
+    mockMvc.perform(get("/commerce/prices/products")
+            .param("brandId", "1")
+            .param("productIds", "35455, 35456")
+            .param("applicationDate", "2021-01-01T00:00:00"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.35455.error.code", is("PRICE_NOT_FOUND")))
+        .andExpect(jsonPath("$.35456.error.code", is("PRICE_NOT_FOUND")));
+  }
+
+  @Test
+  void products_repeatedIds_areResolvedOnce() throws Exception {
+    mockMvc.perform(get("/commerce/prices/products")
+            .param("brandId", "1")
+            .param("productIds", "35455,35455")
+            .param("applicationDate", "2020-06-14T10:00:00"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", aMapWithSize(1)))
+        .andExpect(jsonPath("$.35455.price.priceList", is(1)));
+  }
+
+  @Test
+  void products_overTheLimit_shouldReturnBadRequest() throws Exception {
+    mockMvc.perform(get("/commerce/prices/products")
+            .param("brandId", "1")
+            .param("productIds", "1,2,3,4,5")
+            .param("applicationDate", "2020-06-14T10:00:00"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message", is("productIds cannot contain more than 4 products")));
+  }
+
+  @Test
+  void products_invalidId_shouldReturnBadRequest() throws Exception {
+    mockMvc.perform(get("/commerce/prices/products")
+            .param("brandId", "1")
+            .param("productIds", "35455,abc")
+            .param("applicationDate", "2020-06-14T10:00:00"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message", is("productIds must be a valid integer")));
+  }
+
+  private void insert(int productId, String start, String end, int priceList, int priority,
+      String price) {
+    jdbcTemplate.update("""
+        INSERT INTO PRICES (BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR)
+        VALUES (1, CAST(? AS TIMESTAMP), CAST(? AS TIMESTAMP), ?, ?, ?, CAST(? AS DECIMAL(10, 2)), 'EUR')
+        """, start, end, priceList, productId, priority, price);
+  }
+}
@@ -0,0 +1,114 @@
+package es.sujes71.test.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import es.sujes71.api.price.infrastructure.cache.PriceCacheStats;
+import es.sujes71.api.price.infrastructure.cache.PriceSegmentCache;
+import es.sujes71.configuration.TestJdbcConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+        "commerce.price.http.max-age-cap-seconds=86400",
+        "commerce.price.cache.enabled=true"
+    })
+@ActiveProfiles({"test", "reactive"})
+@Import(TestJdbcConfig.class)
+@DirtiesContext
+class PriceReactiveIntegrationTest {
+
+  @Autowired
+  private WebTestClient webTestClient;
+
+  @Autowired
+  private PriceSegmentCache priceSegmentCache;
+
+  @ParameterizedTest
+  @CsvSource({
+      "2020-06-14T10:00:00, 1, 35.50, 18000",
+      "2020-06-14T16:00:00, 2, 25.45, 9000",
+      "2020-06-14T21:00:00, 1, 35.50, 10800",
+      "2020-06-15T10:00:00, 3, 30.50, 3600",
+      "2020-06-16T21:00:00, 4, 38.95, 86400"
+  })
+  void getPrice_isServedOverR2dbc(String applicationDate, int priceList, double price, long maxAge) {
+    webTestClient.get()
+        .uri(uri -> uri.path("/commerce/prices")
+            .queryParam("brandId", "1")
+            .queryParam("productId", "35455")
+            .queryParam("applicationDate", applicationDate)
+            .build())
+        .exchange()
+        .expectStatus().isOk()
+        .expectHeader().valueEquals(HttpHeaders.CACHE_CONTROL, "max-age=" + maxAge + ", public")
+        .expectBody()
+        .jsonPath("$.priceList").isEqualTo(priceList)
+        .jsonPath("$.price").isEqualTo(price)
+        .jsonPath("$.currency").isEqualTo("EUR");
+  }
+
+  @Test
+  void repeatedLookups_areAnsweredByTheSegmentCache() {
+    PriceCacheStats before = priceSegmentCache.stats();
+
+    for (String applicationDate : new String[] {"2020-06-14T10:00:00", "2020-06-14T16:00:00"}) {
+      webTestClient.get()
+          .uri("/commerce/prices?brandId=1&productId=35455&applicationDate=" + applicationDate)
+          .exchange()
+          .expectStatus().isOk();
+    }
+
+    assertThat(priceSegmentCache.stats().hits() + priceSegmentCache.stats().misses())
+        .isEqualTo(before.hits() + before.misses() + 2);
+    assertThat(priceSegmentCache.stats().hits()).isGreaterThan(before.hits());
+  }
+
+  @Test
+  void getPrice_matchingIfNoneMatch_shouldReturnNotModified() {
+    String etag = webTestClient.get()
+        .uri("/commerce/prices?brandId=1&productId=35455&applicationDate=2020-06-14T10:00:00")
+        .exchange()
+        .expectStatus().isOk()
+        .returnResult(String.class)
+        .getResponseHeaders().getETag();
+
+    webTestClient.get()
+        .uri("/commerce/prices?brandId=1&productId=35455&applicationDate=2020-06-14T12:00:00")
+        .header(HttpHeaders.IF_NONE_MATCH, etag)
+        .exchange()
+        .expectStatus().isNotModified()
+        .expectHeader().valueEquals(HttpHeaders.ETAG, etag);
+  }
+
+  @Test
+  void getPrice_withoutMatchingPrice_shouldReturnNotFound() {
+    webTestClient.get()
+        .uri("/commerce/prices?brandId=1&productId=35455&applicationDate=2019-01-01T00:00:00")
+        .exchange()
+        .expectStatus().isNotFound()
+        .expectBody()
+        .jsonPath("$.code").isEqualTo("PRICE_NOT_FOUND")
+        .jsonPath("$.status").isEqualTo(404);
+  }
+
+  @Test
+  void getPrice_withInvalidParameters_shouldReturnBadRequest() {
+    webTestClient.get()
+        .uri("/commerce/prices?brandId=1&productId=abc&applicationDate=2020-06-14T10:00:00")
+        .exchange()
+        .expectStatus().isBadRequest()
+        .expectBody()
+        .jsonPath("$.code").isEqualTo("VALIDATION_ERROR")
+        .jsonPath("$.message").isEqualTo("productId must be a valid integer");
+  }
+}
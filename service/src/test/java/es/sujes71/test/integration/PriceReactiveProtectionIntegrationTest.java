@@ -0,0 +1,78 @@
+package es.sujes71.test.integration;
+
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.GET_PRICE_SEGMENT_ADDRESS;
+import static es.sujes71.api.price.infrastructure.concurrency.PriceBulkheads.LOOKUP_BULKHEAD;
+import static es.sujes71.shared.infrastructure.concurrency.AdaptiveConcurrencyLimiter.QUEUE_TIMER;
+import static es.sujes71.shared.infrastructure.concurrency.SingleFlight.COALESCING_COUNTER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import es.sujes71.configuration.TestJdbcConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+        "commerce.price.coalescing.enabled=true",
+        "commerce.price.coalescing.window-ms=60000",
+        "commerce.price.limiter.enabled=true"
+    })
+@ActiveProfiles({"test", "reactive"})
+@Import(TestJdbcConfig.class)
+@DirtiesContext
+class PriceReactiveProtectionIntegrationTest {
+
+  @Autowired
+  private WebTestClient webTestClient;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @Test
+  void r2dbcLookups_joinFlightsAndTakeALookupSlot() {
+    double leaders = coalescing("leader");
+    double joined = coalescing("joined");
+    long admitted = admittedLookups();
+
+    getPrice("2020-06-14T10:00:00");
+    getPrice("2020-06-14T11:00:00");
+
+    assertThat(coalescing("leader")).isEqualTo(leaders + 1);
+    assertThat(coalescing("joined")).isEqualTo(joined + 1);
+    assertThat(admittedLookups()).isEqualTo(admitted + 1);
+  }
+
+  private void getPrice(String applicationDate) {
+    webTestClient.get()
+        .uri(uri -> uri.path("/commerce/prices")
+            .queryParam("brandId", "1")
+            .queryParam("productId", "35455")
+            .queryParam("applicationDate", applicationDate)
+            .build())
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody()
+        .jsonPath("$.priceList").isEqualTo(1);
+  }
+
+  private double coalescing(String outcome) {
+    return meterRegistry.get(COALESCING_COUNTER)
+        .tag("name", GET_PRICE_SEGMENT_ADDRESS)
+        .tag("outcome", outcome)
+        .functionCounter()
+        .count();
+  }
+
+  private long admittedLookups() {
+    return meterRegistry.get(QUEUE_TIMER)
+        .tag("name", LOOKUP_BULKHEAD)
+        .timer()
+        .count();
+  }
+}
@@ -0,0 +1,105 @@
+package es.sujes71.test.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import es.sujes71.api.price.domain.model.PriceKey;
+import es.sujes71.api.price.infrastructure.cache.PriceCacheStats;
+import es.sujes71.api.price.infrastructure.cache.PriceSegmentCache;
+import es.sujes71.configuration.TestJdbcConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "commerce.price.cache.enabled=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestJdbcConfig.class)
+@DirtiesContext
+class PriceSegmentCacheIntegrationTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private PriceSegmentCache priceSegmentCache;
+
+  @BeforeEach
+  void setUp() {
+    priceSegmentCache.invalidateAll();
+  }
+
+  @Test
+  void getPrice_insideCachedWindow_shouldHitCache() throws Exception {
+    PriceCacheStats before = priceSegmentCache.stats();
+
+    expectPriceList("2020-06-14T15:00:00", 2);
+    expectPriceList("2020-06-14T16:45:12", 2);
+    expectPriceList("2020-06-14T18:30:00", 2);
+
+    PriceCacheStats after = priceSegmentCache.stats();
+    assertThat(after.misses() - before.misses()).isEqualTo(1);
+    assertThat(after.hits() - before.hits()).isEqualTo(2);
+  }
+
+  @Test
+  void getPrice_inOtherSegments_shouldBeServedFromCachedTimeline() throws Exception {
+    PriceCacheStats before = priceSegmentCache.stats();
+
+    expectPriceList("2020-06-14T16:00:00", 2);
+    expectPriceList("2020-06-14T21:00:00", 1);
+    expectPriceList("2020-06-15T10:00:00", 3);
+
+    PriceCacheStats after = priceSegmentCache.stats();
+    assertThat(after.misses() - before.misses()).isEqualTo(1);
+    assertThat(after.hits() - before.hits()).isEqualTo(2);
+  }
+
+  @Test
+  void invalidate_shouldForceReload() throws Exception {
+    expectPriceList("2020-06-14T10:00:00", 1);
+    priceSegmentCache.invalidate(new PriceKey(1, 35455));
+    PriceCacheStats before = priceSegmentCache.stats();
+
+    expectPriceList("2020-06-14T10:00:00", 1);
+
+    assertThat(priceSegmentCache.stats().misses() - before.misses()).isEqualTo(1);
+  }
+
+  @Test
+  void getPrice_unknownProduct_shouldReturnNotFoundFromCachedTimeline() throws Exception {
+    PriceCacheStats before = priceSegmentCache.stats();
+
+    for (String applicationDate : new String[] {"2020-06-14T10:00:00", "2021-01-01T00:00:00"}) {
+      mockMvc.perform(get("/commerce/prices")
+              .param("brandId", "1")
+              .param("productId", "99999")
+              .param("applicationDate", applicationDate))
+          .andExpect(status().isNotFound());
+    }
+
+    PriceCacheStats after = priceSegmentCache.stats();
+    assertThat(after.misses() - before.misses()).isEqualTo(1);
+    assertThat(after.hits() - before.hits()).isEqualTo(1);
+  }
+
+  private void expectPriceList(String applicationDate, int priceList) throws Exception {
+    mockMvc.perform(get("/commerce/prices")
+            .param("brandId", "1")
+            .param("productId", "35455")
+            .param("applicationDate", applicationDate))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.priceList", is(priceList)));
+  }
+}
@@ -0,0 +1,361 @@
+package es.sujes71.test.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.jayway.jsonpath.JsonPath;
+import es.sujes71.api.price.domain.model.Price;
+import es.sujes71.api.price.domain.model.PriceChange;
+import es.sujes71.api.price.domain.model.PriceChangeType;
+import es.sujes71.api.price.domain.model.PriceFilter;
+import es.sujes71.api.price.domain.model.PriceKey;
+import es.sujes71.api.price.domain.ports.outbound.PricePersistencePort;
+import es.sujes71.api.price.infrastructure.repository.snapshot.PriceRecord;
+import es.sujes71.api.price.infrastructure.repository.snapshot.PriceSnapshotRepository;
+import es.sujes71.configuration.TestJdbcConfig;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+        "commerce.price.persistence=snapshot",
+        "commerce.price.snapshot.compact-threshold=1000"
+    })
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestJdbcConfig.class)
+class PriceSnapshotIntegrationTest {
+
+  private static final Path DIRECTORY = createDirectory();
+
+  private static final int LOGGED_PRODUCT = 4242;
+  private static final int WRITTEN_PRODUCT = 4343;
+  private static final int STALE_PRODUCT = 4444;
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private PriceSnapshotRepository priceSnapshotRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private PricePersistencePort pricePersistencePort;
+
+  @AfterEach
+  void removeWrittenRows() {
+    jdbcTemplate.update("DELETE FROM PRICES WHERE PRODUCT_ID IN (?, ?)", LOGGED_PRODUCT, STALE_PRODUCT);
+  }
+
+  @DynamicPropertySource
+  static void snapshotPath(DynamicPropertyRegistry registry) {
+    registry.add("commerce.price.snapshot.path", () -> DIRECTORY.resolve("prices.snapshot").toString());
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "2020-06-14T10:00:00, 1, 35.50",
+      "2020-06-14T15:00:00, 2, 25.45",
+      "2020-06-14T18:30:00, 2, 25.45",
+      "2020-06-14T18:30:01, 1, 35.50",
+      "2020-06-15T10:00:00, 3, 30.50",
+      "2020-06-15T11:00:01, 1, 35.50",
+      "2020-06-16T21:00:00, 4, 38.95",
+      "2020-12-31T23:59:59, 4, 38.95"
+  })
+  void getPrice_isServedFromTheMappedSnapshot(String applicationDate, int priceList, double price)
+      throws Exception {
+    mockMvc.perform(get("/commerce/prices")
+            .param("brandId", "1")
+            .param("productId", "35455")
+            .param("applicationDate", applicationDate))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.priceList", is(priceList)))
+        .andExpect(jsonPath("$.price", is(price)));
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "1, 35455, 2020-06-13T23:59:59",
+      "1, 35455, 2021-01-01T00:00:00",
+      "1, 99999, 2020-06-14T10:00:00",
+      "999, 35455, 2020-06-14T10:00:00"
+  })
+  void getPrice_outsideTheSnapshot_shouldReturnNotFound(String brandId, String productId,
+      String applicationDate) throws Exception {
+    mockMvc.perform(get("/commerce/prices")
+            .param("brandId", brandId)
+            .param("productId", productId)
+            .param("applicationDate", applicationDate))
+        .andExpect(status().isNotFound());
+  }
+
+  @Test
+  void appendedPrices_areServedAndReplayedAfterRestart() throws Exception {
+    append(
+        record(9001, "2020-03-01T00:00:00", "2020-03-31T23:59:59", 0, "20.00"),
+        record(9002, "2020-03-10T00:00:00", "2020-03-12T23:59:59", 1, "15.00"));
+
+    mockMvc.perform(get("/commerce/prices")
+            .param("brandId", "1")
+            .param("productId", String.valueOf(LOGGED_PRODUCT))
+            .param("applicationDate", "2020-03-11T12:00:00"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.price", is(15.00)))
+        .andExpect(jsonPath("$.endDate", is("2020-03-12T23:59:59")));
+
+    PriceSnapshotRepository restarted = restart();
+    assertThat(restarted.findAllByProperties(filter("2020-03-11T12:00:00")))
+        .extracting(Price::getPrice).containsExactly(new BigDecimal("15.00"));
+    assertThat(restarted.findSegmentByProperties(filter("2020-03-20T00:00:00")))
+        .hasValueSatisfying(segment -> {
+          assertThat(segment.getFrom()).isEqualTo(LocalDateTime.parse("2020-03-12T23:59:59").plusNanos(1));
+          assertThat(segment.getPrice().getPrice()).isEqualTo(new BigDecimal("20.00"));
+        });
+    restarted.stop();
+  }
+
+  @Test
+  void tornChangeLogTail_isDiscardedOnReplay() throws Exception {
+    append(record(9101, "2020-04-01T00:00:00", "2020-04-30T23:59:59", 0, "40.00"));
+    Files.write(DIRECTORY.resolve("prices.snapshot.log"), new byte[] {1, 2, 3, 4, 5, 6, 7},
+        StandardOpenOption.APPEND);
+
+    PriceSnapshotRepository restarted = restart();
+    assertThat(restarted.findAllByProperties(filter("2020-04-15T00:00:00")))
+        .extracting(Price::getPrice).containsExactly(new BigDecimal("40.00"));
+    assertThat(Files.size(DIRECTORY.resolve("prices.snapshot.log")) % 76).isZero();
+    restarted.stop();
+  }
+
+  @Test
+  void compact_foldsTheChangeLogIntoTheSnapshot() throws Exception {
+    append(record(9201, "2020-05-01T00:00:00", "2020-05-31T23:59:59", 0, "50.00"));
+
+    priceSnapshotRepository.compact();
+
+    assertThat(Files.size(DIRECTORY.resolve("prices.snapshot.log"))).isZero();
+    assertThat(priceSnapshotRepository.findAllByProperties(filter("2020-05-15T00:00:00")))
+        .extracting(Price::getPrice).containsExactly(new BigDecimal("50.00"));
+    assertThat(priceSnapshotRepository.findAllByProperties(new PriceFilter(1, 35455,
+        LocalDateTime.parse("2020-06-14T16:00:00"))))
+        .extracting(Price::getPriceList).containsExactly(2);
+  }
+
+  @Test
+  void segment_isBoundedByTheOutrankingPricesAroundTheDate() {
+    append(
+        record(9301, "2020-07-01T00:00:00", "2020-07-31T23:59:59", 0, "30.00"),
+        record(9302, "2020-07-05T00:00:00", "2020-07-09T23:59:59", 1, "25.00"),
+        record(9303, "2020-07-20T00:00:00", "2020-07-24T23:59:59", 1, "27.00"));
+
+    assertThat(priceSnapshotRepository.findSegmentByProperties(filter("2020-07-15T00:00:00")))
+        .hasValueSatisfying(segment -> {
+          assertThat(segment.getFrom()).isEqualTo(LocalDateTime.parse("2020-07-09T23:59:59").plusNanos(1));
+          assertThat(segment.getUntil()).isEqualTo(LocalDateTime.parse("2020-07-20T00:00:00"));
+          assertThat(segment.getPrice().getPrice()).isEqualTo(new BigDecimal("30.00"));
+        });
+    assertThat(priceSnapshotRepository.findSegmentByProperties(new PriceFilter(1, 35455,
+        LocalDateTime.parse("2020-06-14T16:00:00"))))
+        .hasValueSatisfying(segment -> {
+          assertThat(segment.getFrom()).isEqualTo(LocalDateTime.parse("2020-06-14T15:00:00"));
+          assertThat(segment.getUntil()).isEqualTo(LocalDateTime.parse("2020-06-14T18:30:00").plusNanos(1));
+          assertThat(segment.getPrice().getPriceList()).isEqualTo(2);
+        });
+  }
+
+  @Test
+  void snapshotOutOfStepWithPrices_isRebuiltOnOpen() throws Exception {
+    Path directory = Files.createTempDirectory(DIRECTORY, "stale");
+    open(directory).stop();
+    jdbcTemplate.update("""
+        INSERT INTO PRICES (BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR)
+        VALUES (1, TIMESTAMP '2020-01-01 00:00:00', TIMESTAMP '2020-12-31 23:59:59', 1, ?, 0, 9.99, 'EUR')""",
+        STALE_PRODUCT);
+
+    PriceSnapshotRepository reopened = open(directory);
+    assertThat(reopened.findAllByProperties(new PriceFilter(1, STALE_PRODUCT,
+        LocalDateTime.parse("2020-06-01T00:00:00"))))
+        .extracting(Price::getPrice).containsExactly(new BigDecimal("9.99"));
+    reopened.stop();
+  }
+
+  @Test
+  void snapshotMissingAnUpdate_isRebuiltOnOpen() throws Exception {
+    jdbcTemplate.update("""
+        INSERT INTO PRICES (BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR)
+        VALUES (1, TIMESTAMP '2020-01-01 00:00:00', TIMESTAMP '2020-12-31 23:59:59', 1, ?, 0, 9.99, 'EUR')""",
+        STALE_PRODUCT);
+    Path directory = Files.createTempDirectory(DIRECTORY, "updated");
+    open(directory).stop();
+    jdbcTemplate.update("UPDATE PRICES SET PRICE = 8.88 WHERE PRODUCT_ID = ?", STALE_PRODUCT);
+
+    PriceSnapshotRepository reopened = open(directory);
+    assertThat(reopened.findAllByProperties(new PriceFilter(1, STALE_PRODUCT,
+        LocalDateTime.parse("2020-06-01T00:00:00"))))
+        .extracting(Price::getPrice).containsExactly(new BigDecimal("8.88"));
+    reopened.stop();
+  }
+
+  @Test
+  void subSecondDates_keepTheirPrecisionInTheSnapshot() {
+    append(record(9501, "2020-09-01T00:00:00.500", "2020-09-30T23:59:59.250", 0, "55.00"));
+    priceSnapshotRepository.compact();
+
+    assertThat(priceSnapshotRepository.findAllByProperties(filter("2020-09-01T00:00:00.250"))).isEmpty();
+    assertThat(priceSnapshotRepository.findAllByProperties(filter("2020-09-30T23:59:59.500"))).isEmpty();
+    assertThat(priceSnapshotRepository.findSegmentByProperties(filter("2020-09-01T00:00:00.750")))
+        .hasValueSatisfying(segment -> {
+          assertThat(segment.getFrom()).isEqualTo(LocalDateTime.parse("2020-09-01T00:00:00.500"));
+          assertThat(segment.getUntil()).isEqualTo(LocalDateTime.parse("2020-09-30T23:59:59.250000001"));
+        });
+  }
+
+  @Test
+  void changes_areLoggedAsTheRowReadsNow_notAsTheirPayload() {
+    append(record(9401, "2020-08-01T00:00:00", "2020-08-31T23:59:59", 0, "44.00"));
+    Price stale = record(9401, "2020-08-01T00:00:00", "2020-08-31T23:59:59", 0, "41.00").price();
+
+    pricePersistencePort.publishPriceChange(PriceChange.builder()
+        .type(PriceChangeType.UPDATED)
+        .key(PriceKey.of(stale))
+        .id(9401L)
+        .previous(stale)
+        .current(stale)
+        .build());
+
+    assertThat(priceSnapshotRepository.findAllByProperties(filter("2020-08-15T00:00:00")))
+        .extracting(Price::getPrice).containsExactly(new BigDecimal("44.00"));
+  }
+
+  @Test
+  void writes_areLoggedAsReplacementsAndRemovals() throws Exception {
+    String body = """
+        {"brandId": 1, "productId": %d, "startDate": "2020-02-01T00:00:00",
+         "endDate": "2020-02-29T23:59:59", "priceList": 1, "priority": %d, "price": %s, "currency": "EUR"}
+        """;
+    String created = mockMvc.perform(post("/commerce/prices")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(body.formatted(WRITTEN_PRODUCT, 0, "10.00")))
+        .andExpect(status().isCreated())
+        .andReturn().getResponse().getContentAsString();
+    long baseId = ((Number) JsonPath.read(created, "$.id")).longValue();
+    String promotion = mockMvc.perform(post("/commerce/prices")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(body.formatted(WRITTEN_PRODUCT, 1, "8.00")))
+        .andExpect(status().isCreated())
+        .andReturn().getResponse().getContentAsString();
+    long promotionId = ((Number) JsonPath.read(promotion, "$.id")).longValue();
+
+    mockMvc.perform(put("/commerce/prices/" + baseId)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(body.formatted(WRITTEN_PRODUCT, 0, "12.00")))
+        .andExpect(status().isOk());
+    mockMvc.perform(delete("/commerce/prices/" + promotionId)).andExpect(status().isNoContent());
+
+    PriceFilter filter = new PriceFilter(1, WRITTEN_PRODUCT, LocalDateTime.parse("2020-02-10T00:00:00"));
+    assertThat(priceSnapshotRepository.findAllByProperties(filter))
+        .extracting(Price::getPrice).containsExactly(new BigDecimal("12.00"));
+
+    PriceSnapshotRepository restarted = restart();
+    assertThat(restarted.findAllByProperties(filter))
+        .extracting(Price::getPrice).containsExactly(new BigDecimal("12.00"));
+    assertThat(restarted.findSegmentByProperties(filter))
+        .hasValueSatisfying(segment -> assertThat(segment.getPrice().getPriority()).isZero());
+    restarted.stop();
+
+    priceSnapshotRepository.compact();
+    assertThat(priceSnapshotRepository.findAllByProperties(filter))
+        .extracting(Price::getPrice).containsExactly(new BigDecimal("12.00"));
+    jdbcTemplate.update("DELETE FROM PRICES WHERE PRODUCT_ID = ?", WRITTEN_PRODUCT);
+  }
+
+  private PriceSnapshotRepository restart() {
+    return open(DIRECTORY);
+  }
+
+  private PriceSnapshotRepository open(Path directory) {
+    PriceSnapshotRepository opened = new PriceSnapshotRepository(jdbcTemplate,
+        directory.resolve("prices.snapshot"), 1000, false);
+    opened.open();
+    return opened;
+  }
+
+  /**
+   * Inserts the records into PRICES with their ids before logging them with the row version they
+   * were given, as a write does, so a restart finds the snapshot in step with the table.
+   */
+  private void append(PriceRecord... records) {
+    List<PriceRecord> written = new ArrayList<>();
+    for (PriceRecord record : records) {
+      Price price = record.price();
+      jdbcTemplate.update("""
+          INSERT INTO PRICES (ID, BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR)
+          VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)""",
+          record.id(), price.getBrandId(), Timestamp.valueOf(price.getStartDate()),
+          Timestamp.valueOf(price.getEndDate()), price.getPriceList(), price.getProductId(),
+          price.getPriority(), price.getPrice(), price.getCurrency());
+      long version = jdbcTemplate.queryForObject("SELECT ROW_VERSION FROM PRICES WHERE ID = ?",
+          Long.class, record.id());
+      written.add(new PriceRecord(record.id(), version, price));
+    }
+    priceSnapshotRepository.append(written);
+  }
+
+  private static PriceFilter filter(String applicationDate) {
+    return new PriceFilter(1, LOGGED_PRODUCT, LocalDateTime.parse(applicationDate));
+  }
+
+  private static PriceRecord record(long id, String start, String end, int priority, String price) {
+    return new PriceRecord(id, 0, Price.builder()
+        .brandId(1)
+        .productId(LOGGED_PRODUCT)
+        .startDate(LocalDateTime.parse(start))
+        .endDate(LocalDateTime.parse(end))
+        .priceList(priority + 10)
+        .priority(priority)
+        .price(new BigDecimal(price))
+        .currency("EUR")
+        .build());
+  }
+
+  private static Path createDirectory() {
+    try {
+      Path directory = Files.createTempDirectory("price-snapshot");
+      directory.toFile().deleteOnExit();
+      return directory;
+    } catch (IOException error) {
+      throw new IllegalStateException(error);
+    }
+  }
+}
@@ -0,0 +1,103 @@
+package es.sujes71.test.integration;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import es.sujes71.configuration.TestJdbcConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestJdbcConfig.class)
+class PriceTimelineIntegrationTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Test
+  void timeline_listsEveryWinningSegmentOfTheWindow() throws Exception {
+    mockMvc.perform(get("/commerce/prices/timeline")
+            .param("brandId", "1")
+            .param("productId", "35455")
+            .param("from", "2020-06-14T00:00:00")
+            .param("to", "2020-06-16T00:00:00"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", hasSize(6)))
+        .andExpect(jsonPath("$[0].from", is("2020-06-14T00:00:00")))
+        .andExpect(jsonPath("$[0].to", is("2020-06-14T14:59:59")))
+        .andExpect(jsonPath("$[0].priceList", is(1)))
+        .andExpect(jsonPath("$[1].from", is("2020-06-14T15:00:00")))
+        .andExpect(jsonPath("$[1].to", is("2020-06-14T18:30:00")))
+        .andExpect(jsonPath("$[1].priceList", is(2)))
+        .andExpect(jsonPath("$[1].price", is(25.45)))
+        .andExpect(jsonPath("$[2].from", is("2020-06-14T18:30:01")))
+        .andExpect(jsonPath("$[2].to", is("2020-06-14T23:59:59")))
+        .andExpect(jsonPath("$[2].priceList", is(1)))
+        .andExpect(jsonPath("$[3].priceList", is(3)))
+        .andExpect(jsonPath("$[3].to", is("2020-06-15T11:00:00")))
+        .andExpect(jsonPath("$[4].from", is("2020-06-15T11:00:01")))
+        .andExpect(jsonPath("$[4].to", is("2020-06-15T15:59:59")))
+        .andExpect(jsonPath("$[4].priceList", is(1)))
+        .andExpect(jsonPath("$[5].from", is("2020-06-15T16:00:00")))
+        .andExpect(jsonPath("$[5].to", is("2020-06-16T00:00:00")))
+        .andExpect(jsonPath("$[5].priceList", is(4)))
+        .andExpect(jsonPath("$[5].currency", is("EUR")));
+  }
+
+  @Test
+  void timeline_clipsSegmentsToTheWindow() throws Exception {
+    mockMvc.perform(get("/commerce/prices/timeline")
+            .param("brandId", "1")
+            .param("productId", "35455")
+            .param("from", "2020-06-14T16:00:00")
+            .param("to", "2020-06-14T16:30:00"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", hasSize(1)))
+        .andExpect(jsonPath("$[0].from", is("2020-06-14T16:00:00")))
+        .andExpect(jsonPath("$[0].to", is("2020-06-14T16:30:00")))
+        .andExpect(jsonPath("$[0].priceList", is(2)));
+  }
+
+  @Test
+  void timeline_withoutPricesInTheWindow_shouldBeEmpty() throws Exception {
+    mockMvc.perform(get("/commerce/prices/timeline")
+            .param("brandId", "1")
+            .param("productId", "35455")
+            .param("from", "2020-01-01T00:00:00")
+            .param("to", "2020-06-13T23:59:59"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", hasSize(0)));
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "'', 35455, 2020-06-14T00:00:00, 2020-06-15T00:00:00, brandId is required",
+      "1, abc, 2020-06-14T00:00:00, 2020-06-15T00:00:00, productId must be a valid integer",
+      "1, 35455, '', 2020-06-15T00:00:00, from is required",
+      "1, 35455, 2020-06-14, 2020-06-15T00:00:00, from must be in ISO format (yyyy-MM-ddTHH:mm:ss)",
+      "1, 35455, 2020-06-15T00:00:00, 2020-06-14T00:00:00, from must not be after to"
+  })
+  void timeline_withInvalidParameters_shouldReturnBadRequest(String brandId, String productId,
+      String from, String to, String message) throws Exception {
+    mockMvc.perform(get("/commerce/prices/timeline")
+            .param("brandId", brandId)
+            .param("productId", productId)
+            .param("from", from)
+            .param("to", to))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.code", is("VALIDATION_ERROR")))
+        .andExpect(jsonPath("$.message", is(message)));
+  }
+}
@@ -0,0 +1,205 @@
+package es.sujes71.test.integration;
+
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.PRICE_CHANGED_ADDRESS;
+import static es.sujes71.shared.domain.ports.outbound.OutboundPort.subscribe;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.jayway.jsonpath.JsonPath;
+import es.sujes71.api.price.domain.model.PriceChange;
+import es.sujes71.api.price.infrastructure.cache.PriceSegmentCache;
+import es.sujes71.api.price.infrastructure.repository.memory.PriceIndexRepository;
+import es.sujes71.configuration.TestJdbcConfig;
+import es.sujes71.shared.domain.ports.outbound.OutboundPort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+        "commerce.price.persistence=memory",
+        "commerce.price.cache.enabled=true"
+    })
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestJdbcConfig.class)
+@DirtiesContext
+class PriceWriteIntegrationTest {
+
+  private static final String SUMMER = """
+      {"brandId": 66, "productId": 1001, "startDate": "2020-06-01T00:00:00",
+       "endDate": "2020-08-31T23:59:59", "priceList": 1, "priority": 0, "price": 20.00, "currency": "EUR"}
+      """;
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private PriceIndexRepository priceIndexRepository;
+
+  @Autowired
+  private PriceSegmentCache priceSegmentCache;
+
+  @AfterEach
+  void removeWrittenRows() {
+    jdbcTemplate.update("DELETE FROM PRICES WHERE BRAND_ID = 66");
+    priceIndexRepository.start();
+    priceSegmentCache.invalidateAll();
+  }
+
+  @Test
+  void failingListener_afterCreate_keepsTheCreateAndReloadsTheIndex() throws Exception {
+    long failures = OutboundPort.listenerFailures();
+    subscribe(PRICE_CHANGED_ADDRESS, "priceIndex", 0, (PriceChange change) -> {
+      throw new IllegalStateException("index unavailable");
+    }, priceIndexRepository::reload);
+
+    create(SUMMER);
+
+    lookup(1001, "2020-07-01T00:00:00")
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.price", is(20.00)));
+    assertThat(OutboundPort.listenerFailures()).isEqualTo(failures + 1);
+  }
+
+  @Test
+  void create_isServedByTheIndexAndTheCache() throws Exception {
+    lookup(1001, "2020-07-01T00:00:00").andExpect(status().isNotFound());
+
+    long id = create(SUMMER);
+
+    lookup(1001, "2020-07-01T00:00:00")
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.price", is(20.00)));
+    lookup(1001, "2020-09-01T00:00:00").andExpect(status().isNotFound());
+    mockMvc.perform(get("/commerce/prices/timeline")
+            .param("brandId", "66")
+            .param("productId", "1001")
+            .param("from", "2020-01-01T00:00:00")
+            .param("to", "2020-12-31T23:59:59"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.length()", is(1)));
+    mockMvc.perform(delete("/commerce/prices/" + id)).andExpect(status().isNoContent());
+  }
+
+  @Test
+  void overlappingCreate_winsOnlyInsideItsInterval() throws Exception {
+    create(SUMMER);
+    lookup(1001, "2020-07-15T12:00:00").andExpect(jsonPath("$.price", is(20.00)));
+
+    create("""
+        {"brandId": 66, "productId": 1001, "startDate": "2020-07-10T00:00:00",
+         "endDate": "2020-07-20T23:59:59", "priceList": 2, "priority": 1, "price": 15.00, "currency": "EUR"}
+        """);
+
+    lookup(1001, "2020-07-15T12:00:00")
+        .andExpect(jsonPath("$.priceList", is(2)))
+        .andExpect(jsonPath("$.price", is(15.00)));
+    lookup(1001, "2020-07-21T00:00:00").andExpect(jsonPath("$.priceList", is(1)));
+  }
+
+  @Test
+  void update_replacesThePriceAndCanMoveItToAnotherProduct() throws Exception {
+    long id = create(SUMMER);
+    lookup(1001, "2020-07-01T00:00:00").andExpect(jsonPath("$.price", is(20.00)));
+
+    mockMvc.perform(put("/commerce/prices/" + id)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(SUMMER.replace("20.00", "18.50")))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.id", is((int) id)))
+        .andExpect(jsonPath("$.price.price", is(18.50)));
+    lookup(1001, "2020-07-01T00:00:00").andExpect(jsonPath("$.price", is(18.50)));
+
+    mockMvc.perform(put("/commerce/prices/" + id)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(SUMMER.replace("1001", "1002")))
+        .andExpect(status().isOk());
+    lookup(1001, "2020-07-01T00:00:00").andExpect(status().isNotFound());
+    lookup(1002, "2020-07-01T00:00:00").andExpect(jsonPath("$.price", is(20.00)));
+  }
+
+  @Test
+  void delete_expiresThePrice() throws Exception {
+    long id = create(SUMMER);
+    lookup(1001, "2020-07-01T00:00:00").andExpect(status().isOk());
+
+    mockMvc.perform(delete("/commerce/prices/" + id)).andExpect(status().isNoContent());
+
+    lookup(1001, "2020-07-01T00:00:00").andExpect(status().isNotFound());
+    mockMvc.perform(delete("/commerce/prices/" + id))
+        .andExpect(status().isNotFound())
+        .andExpect(jsonPath("$.code", is("PRICE_NOT_FOUND")));
+  }
+
+  @Test
+  void update_unknownId_shouldReturnNotFound() throws Exception {
+    mockMvc.perform(put("/commerce/prices/999999")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(SUMMER))
+        .andExpect(status().isNotFound())
+        .andExpect(jsonPath("$.code", is("PRICE_NOT_FOUND")));
+  }
+
+  @Test
+  void invalidWrites_shouldReturnBadRequest() throws Exception {
+    mockMvc.perform(post("/commerce/prices")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(SUMMER.replace(", \"currency\": \"EUR\"", "")))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message", is("currency is required")));
+    mockMvc.perform(post("/commerce/prices")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(SUMMER.replace("20.00", "-1")))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message", is("price must be greater than 0")));
+    mockMvc.perform(post("/commerce/prices")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(SUMMER.replace("2020-08-31T23:59:59", "2020-05-31T23:59:59")))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message", is("endDate must not be before startDate")));
+    mockMvc.perform(put("/commerce/prices/abc")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(SUMMER))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message", is("id must be a valid integer")));
+  }
+
+  private long create(String body) throws Exception {
+    MockHttpServletResponse response = mockMvc.perform(post("/commerce/prices")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(body))
+        .andExpect(status().isCreated())
+        .andReturn().getResponse();
+    long id = ((Number) JsonPath.read(response.getContentAsString(), "$.id")).longValue();
+    assertThat(response.getHeader("Location")).isEqualTo("/commerce/prices/" + id);
+    return id;
+  }
+
+  private ResultActions lookup(int productId, String applicationDate) throws Exception {
+    return mockMvc.perform(get("/commerce/prices")
+        .param("brandId", "66")
+        .param("productId", String.valueOf(productId))
+        .param("applicationDate", applicationDate));
+  }
+}
@@ -0,0 +1,168 @@
+package es.sujes71.test.integration;
+
+import static es.sujes71.api.price.domain.ports.outbound.PricePersistencePort.GET_PRICE_TIMELINE_BY_KEY_ADDRESS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import es.sujes71.api.price.domain.model.PriceKey;
+import es.sujes71.api.price.domain.model.PriceTimeline;
+import es.sujes71.configuration.TestJdbcConfig;
+import es.sujes71.shared.domain.ports.outbound.OutboundPort;
+import es.sujes71.shared.infrastructure.jdbc.DataSourceRouting;
+import es.sujes71.shared.infrastructure.jdbc.ReadWriteRoutingDataSource;
+import es.sujes71.shared.infrastructure.jdbc.ReadWriteRoutingDataSource.ReadConsistency;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.LocalDateTime;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+        "commerce.datasource.routing.enabled=true",
+        "commerce.datasource.routing.replica-urls="
+            + ReadReplicaIntegrationTest.REPLICA_0 + "," + ReadReplicaIntegrationTest.REPLICA_1,
+        "commerce.datasource.routing.replica-init-locations=classpath:schema-test.sql,classpath:data-test.sql",
+        "commerce.datasource.routing.health-check-interval-ms=0"
+    })
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestJdbcConfig.class)
+class ReadReplicaIntegrationTest {
+
+  static final String REPLICA_0 = "jdbc:h2:mem:replica0;DB_CLOSE_DELAY=-1";
+  static final String REPLICA_1 = "jdbc:h2:mem:replica1;DB_CLOSE_DELAY=-1";
+
+  private static final String REPLICA_PRICE_SQL = "UPDATE PRICES SET PRICE = 11.11 WHERE PRICE_LIST = 1";
+  private static final String COUNT_BRAND_SQL = "SELECT COUNT(*) FROM PRICES WHERE BRAND_ID = 77";
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private DataSource dataSource;
+
+  private final JdbcTemplate replica0 = new JdbcTemplate(new DriverManagerDataSource(REPLICA_0, "sa", ""));
+  private final JdbcTemplate replica1 = new JdbcTemplate(new DriverManagerDataSource(REPLICA_1, "sa", ""));
+
+  @BeforeEach
+  void divergeReplicas() {
+    replica0.update(REPLICA_PRICE_SQL);
+    replica1.update(REPLICA_PRICE_SQL);
+  }
+
+  @AfterEach
+  void removeImportedRows() {
+    new JdbcTemplate(dataSource).update("DELETE FROM PRICES WHERE BRAND_ID = 77");
+  }
+
+  @Test
+  void lookups_areServedByTheReplicas() throws Exception {
+    for (int i = 0; i < 4; i++) {
+      mockMvc.perform(get("/commerce/prices")
+              .param("brandId", "1")
+              .param("productId", "35455")
+              .param("applicationDate", "2020-06-14T10:00:00"))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.price", is(11.11)));
+    }
+  }
+
+  @Test
+  void timelinesLoadedByTheCaches_areReadFromThePrimary() {
+    PriceTimeline timeline = OutboundPort.<PriceKey, PriceTimeline>channel(
+        GET_PRICE_TIMELINE_BY_KEY_ADDRESS).request(new PriceKey(1, 35455));
+
+    assertThat(timeline.priceAt(LocalDateTime.parse("2020-06-14T10:00:00")))
+        .hasValueSatisfying(price -> assertThat(price.getPrice()).isEqualByComparingTo("35.50"));
+  }
+
+  @Test
+  void export_isServedByTheReplicas() throws Exception {
+    mockMvc.perform(get("/commerce/prices/export").param("brandId", "1"))
+        .andExpect(status().isOk())
+        .andExpect(content().string(org.hamcrest.Matchers.containsString("\"price\":11.11")));
+  }
+
+  @Test
+  void imports_areWrittenToThePrimaryOnly() throws Exception {
+    mockMvc.perform(post("/commerce/prices/import")
+            .contentType("text/csv")
+            .content("""
+                BRAND_ID,START_DATE,END_DATE,PRICE_LIST,PRODUCT_ID,PRIORITY,PRICE,CURR
+                77,2020-06-14 00:00:00,2020-12-31 23:59:59,1,35455,0,35.50,EUR
+                """))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.accepted", is(1)));
+
+    assertThat(new JdbcTemplate(dataSource).queryForObject(COUNT_BRAND_SQL, Integer.class)).isEqualTo(1);
+    assertThat(replica0.queryForObject(COUNT_BRAND_SQL, Integer.class)).isZero();
+    assertThat(replica1.queryForObject(COUNT_BRAND_SQL, Integer.class)).isZero();
+  }
+
+  @Test
+  void primaryConsistency_readsFromThePrimaryWhileItIsHealthy() throws Exception {
+    ReadWriteRoutingDataSource routing = dataSource.unwrap(ReadWriteRoutingDataSource.class);
+    try (ReadWriteRoutingDataSource primaryFirst = new ReadWriteRoutingDataSource(
+        routing.getPrimary(), List.of(replica0.getDataSource()), ReadConsistency.PRIMARY, 0)) {
+
+      assertThat(readPrice(primaryFirst)).isEqualTo("35.50");
+    }
+  }
+
+  @Test
+  void unreachableReplica_isSkippedAndReadsFallBack() throws Exception {
+    DataSource unreachable = new DriverManagerDataSource("jdbc:h2:tcp://localhost:1/unreachable", "sa", "");
+    try (ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(
+        new DriverManagerDataSource(REPLICA_0, "sa", ""), List.of(unreachable, unreachable),
+        ReadConsistency.REPLICA, 0)) {
+
+      assertThat(readPrice(routing)).isEqualTo("11.11");
+      assertThat(routing.healthyReplicas()).isZero();
+
+      routing.checkHealth();
+      assertThat(routing.healthyReplicas()).isZero();
+    }
+  }
+
+  @Test
+  void exhaustedReplica_isSkippedButStaysHealthy() {
+    DataSource exhausted = new DriverManagerDataSource(REPLICA_1, "sa", "") {
+      @Override
+      public Connection getConnection() throws SQLException {
+        throw new SQLTransientConnectionException("pool exhausted");
+      }
+    };
+    try (ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(
+        new DriverManagerDataSource(REPLICA_0, "sa", ""), List.of(exhausted),
+        ReadConsistency.REPLICA, 0)) {
+
+      assertThat(readPrice(routing)).isEqualTo("11.11");
+      assertThat(routing.healthyReplicas()).isEqualTo(1);
+    }
+  }
+
+  private static String readPrice(DataSource dataSource) {
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    return DataSourceRouting.read(() -> jdbcTemplate.queryForObject(
+        "SELECT PRICE FROM PRICES WHERE PRICE_LIST = 1", String.class));
+  }
+}
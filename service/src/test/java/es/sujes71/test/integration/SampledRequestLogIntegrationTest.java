@@ -0,0 +1,50 @@
+package es.sujes71.test.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import es.sujes71.configuration.TestJdbcConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "commerce.logging.sample.rate=1")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestJdbcConfig.class)
+@ExtendWith(OutputCaptureExtension.class)
+class SampledRequestLogIntegrationTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Test
+  void sampledRequest_shouldLogStatusAndStageBreakdown(CapturedOutput output) throws Exception {
+    mockMvc.perform(get("/commerce/prices")
+            .param("brandId", "1")
+            .param("productId", "35455")
+            .param("applicationDate", "2020-06-14T10:00:00"))
+        .andExpect(status().isOk());
+
+    assertThat(output.getOut())
+        .contains("Sampled request GET /commerce/prices -> 200 in")
+        .contains("[adapt;dur=");
+  }
+
+  @Test
+  void requestOutsideTheApi_shouldNotBeLogged(CapturedOutput output) throws Exception {
+    mockMvc.perform(get("/actuator/health"));
+
+    assertThat(output.getOut()).doesNotContain("Sampled request GET /actuator/health");
+  }
+}
@@ -1,5 +1,7 @@
 DROP TABLE IF EXISTS PRICES;
 
+CREATE SEQUENCE IF NOT EXISTS PRICE_ROW_VERSIONS;
+
 CREATE TABLE PRICES (
     ID BIGINT AUTO_INCREMENT PRIMARY KEY,
     BRAND_ID INTEGER NOT NULL,
@@ -9,5 +11,30 @@ CREATE TABLE PRICES (
     PRODUCT_ID INTEGER NOT NULL,
     PRIORITY INTEGER NOT NULL,
     PRICE DECIMAL(10,2) NOT NULL,
+    CURR VARCHAR(3) NOT NULL,
+    ROW_VERSION BIGINT INVISIBLE
+        DEFAULT NEXT VALUE FOR PRICE_ROW_VERSIONS ON UPDATE NEXT VALUE FOR PRICE_ROW_VERSIONS NOT NULL
+);
+
+DROP TABLE IF EXISTS EFFECTIVE_PRICES;
+
+CREATE TABLE EFFECTIVE_PRICES (
+    ID BIGINT AUTO_INCREMENT PRIMARY KEY,
+    BRAND_ID INTEGER NOT NULL,
+    PRODUCT_ID INTEGER NOT NULL,
+    FROM_DATE TIMESTAMP(9) NOT NULL,
+    UNTIL_DATE TIMESTAMP(9) NOT NULL,
+    PRICE_ID BIGINT NOT NULL,
+    START_DATE TIMESTAMP NOT NULL,
+    END_DATE TIMESTAMP NOT NULL,
+    PRICE_LIST INTEGER NOT NULL,
+    PRIORITY INTEGER NOT NULL,
+    PRICE DECIMAL(10,2) NOT NULL,
     CURR VARCHAR(3) NOT NULL
-);
\ No newline at end of file
+);
+
+CREATE UNIQUE INDEX idx_effective_brand_product_from ON EFFECTIVE_PRICES(BRAND_ID, PRODUCT_ID, FROM_DATE);
+
+CREATE INDEX idx_brand_product_date ON PRICES(BRAND_ID, PRODUCT_ID, START_DATE, END_DATE);
+CREATE INDEX idx_prices_lookup_covering ON PRICES(BRAND_ID, PRODUCT_ID, PRIORITY DESC, START_DATE, END_DATE, PRICE_LIST, PRICE, CURR);
+CREATE INDEX idx_prices_brand_id ON PRICES(BRAND_ID, ID);